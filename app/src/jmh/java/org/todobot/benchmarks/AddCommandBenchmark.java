@@ -0,0 +1,60 @@
+package org.todobot.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.todobot.commands.task.AddCommand;
+import org.todobot.parsers.core.ParseResult;
+import org.todobot.parsers.core.Parser;
+import org.todobot.service.CommandResponse;
+import org.todobot.service.TaskList;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AddCommandBenchmark {
+    @Param({"10", "1000", "100000"})
+    public int size;
+
+    private TaskList taskList;
+    private AddCommand addCommand;
+    private ParseResult.AddTask todo;
+    private ParseResult.AddTask deadline;
+
+    @Setup
+    public void setUp() {
+        taskList = new TaskList(TaskList.UNLIMITED);
+        taskList.setTasks(BenchmarkData.createTasks(size));
+        addCommand = new AddCommand(taskList);
+        todo = (ParseResult.AddTask) Parser.parse("todo read a book !high");
+        deadline = (ParseResult.AddTask) Parser.parse("deadline submit report /by 25-12-2024 17:00");
+    }
+
+    // Each invocation removes the task it added so the list stays at the requested size
+    @Benchmark
+    public CommandResponse addTodo() {
+        CommandResponse response = addCommand.execute(todo);
+        taskList.deleteTask(taskList.getTaskCount());
+        return response;
+    }
+
+    @Benchmark
+    public CommandResponse addDeadline() {
+        CommandResponse response = addCommand.execute(deadline);
+        taskList.deleteTask(taskList.getTaskCount());
+        return response;
+    }
+}
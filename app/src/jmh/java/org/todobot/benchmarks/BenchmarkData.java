@@ -0,0 +1,43 @@
+package org.todobot.benchmarks;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+
+import org.todobot.model.Deadline;
+import org.todobot.model.Event;
+import org.todobot.model.Priority;
+import org.todobot.model.Task;
+import org.todobot.model.ToDo;
+
+/**
+ * Deterministic task fixtures shared by the benchmarks.
+ */
+final class BenchmarkData {
+    private static final String[] WORDS = {
+        "read", "book", "submit", "report", "team", "meeting", "buy", "groceries",
+        "review", "pull", "request", "call", "mom", "plan", "trip", "fix", "bug"
+    };
+    static final LocalDateTime BASE_DATE = LocalDateTime.of(2024, 12, 25, 9, 0);
+
+    private BenchmarkData() {
+    }
+
+    static ArrayList<Task> createTasks(int count) {
+        ArrayList<Task> tasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String description = WORDS[i % WORDS.length] + " " + WORDS[(i * 7 + 3) % WORDS.length] + " #" + i;
+            LocalDateTime date = BASE_DATE.plusHours(i);
+            Task task = switch (i % 3) {
+                case 0 -> new ToDo(description);
+                case 1 -> new Deadline(description, date, i % 2 == 0);
+                default -> new Event(description, date, true, date.plusHours(2), true);
+            };
+            task.setPriority(Priority.values()[i % Priority.values().length]);
+            if (i % 4 == 0) {
+                task.markAsDone();
+            }
+            tasks.add(task);
+        }
+        return tasks;
+    }
+}
@@ -0,0 +1,62 @@
+package org.todobot.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.todobot.service.ToDoBotService;
+import org.todobot.storage.SnapshotFormat;
+import org.todobot.storage.TaskStorage;
+
+/**
+ * Time from an existing snapshot on disk to a ready service, measured once per
+ * fresh JVM so class loading and an unwarmed JIT are part of the number.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(10)
+public class ColdStartBenchmark {
+    @Param({"1000", "100000"})
+    public int size;
+
+    @Param({"JSON", "BINARY"})
+    public SnapshotFormat format;
+
+    private Path dataDir;
+
+    @Setup
+    public void setUp() throws IOException {
+        dataDir = Files.createTempDirectory("todobot-cold-start");
+        new TaskStorage(dataDir.toString(), false, format).saveTasks(BenchmarkData.createTasks(size));
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(dataDir)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public ToDoBotService startService() {
+        return new ToDoBotService(new TaskStorage(dataDir.toString(), false, format));
+    }
+}
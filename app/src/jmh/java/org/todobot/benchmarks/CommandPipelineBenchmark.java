@@ -0,0 +1,102 @@
+package org.todobot.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.todobot.common.CommandType;
+import org.todobot.parsers.core.Parser;
+import org.todobot.service.ToDoBotService;
+import org.todobot.storage.TaskStorage;
+
+/**
+ * Runs a long scripted session through the service, comparing the single-parse
+ * pipeline with the old front-end flow that parsed every line once to check for
+ * {@code bye} and again to run it.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CommandPipelineBenchmark {
+    private static final int BASE_TASKS = 100;
+    private static final int CYCLES = 200;
+    private static final int LINES_PER_CYCLE = 8;
+    private static final int SCRIPT_LINES = CYCLES * LINES_PER_CYCLE;
+
+    private Path dataDir;
+    private ToDoBotService service;
+    private List<String> script;
+
+    @Setup
+    public void setUp() throws IOException {
+        dataDir = Files.createTempDirectory("todobot-pipeline");
+        TaskStorage storage = new TaskStorage(dataDir.toString(), true);
+        storage.saveTasks(BenchmarkData.createTasks(BASE_TASKS));
+        service = new ToDoBotService(storage);
+        script = createScript();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        service.cleanup();
+        try (Stream<Path> files = Files.walk(dataDir)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SCRIPT_LINES)
+    public void singleParse(Blackhole blackhole) {
+        for (String line : script) {
+            blackhole.consume(service.handleCommand(line));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SCRIPT_LINES)
+    public void doubleParse(Blackhole blackhole) {
+        for (String line : script) {
+            boolean isExit = Parser.parse(line).getCommandType() == CommandType.BYE;
+            blackhole.consume(isExit);
+            blackhole.consume(service.processCommand(line));
+        }
+    }
+
+    // Every cycle adds and removes the same number of tasks, so the list size stays constant
+    private static List<String> createScript() {
+        List<String> lines = new ArrayList<>(SCRIPT_LINES);
+        int added = BASE_TASKS + 2;
+        for (int i = 0; i < CYCLES; i++) {
+            lines.add("todo read chapter " + i + " !high");
+            lines.add("deadline submit report " + i + " /by 25-12-2024 17:00");
+            lines.add("mark " + added);
+            lines.add("priority " + added + " low");
+            lines.add("find report");
+            lines.add("unmark " + added);
+            lines.add("delete " + added);
+            lines.add("delete " + (added - 1));
+        }
+        return lines;
+    }
+}
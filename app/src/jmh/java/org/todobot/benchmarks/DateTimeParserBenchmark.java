@@ -0,0 +1,37 @@
+package org.todobot.benchmarks;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.todobot.parsers.util.DateTimeParser;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DateTimeParserBenchmark {
+    @Param({"25-12-2024", "25-12-2024 17:00"})
+    public String input;
+
+    @Benchmark
+    public DateTimeParser.DateTimeResult parseDateTime() {
+        return DateTimeParser.parseDateTime(input);
+    }
+
+    @Benchmark
+    public LocalDateTime legacyParseDateTime() {
+        return LegacyDateTimeParser.parseDateTime(input);
+    }
+}
@@ -0,0 +1,49 @@
+package org.todobot.benchmarks;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.todobot.service.TaskList;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DueTasksBenchmark {
+    @Param({"10", "1000", "100000"})
+    public int size;
+
+    private TaskList taskList;
+    // Half way through the generated due dates, so both queries have work to do
+    private LocalDateTime now;
+
+    @Setup
+    public void setUp() {
+        taskList = new TaskList(TaskList.UNLIMITED);
+        taskList.setTasks(BenchmarkData.createTasks(size));
+        now = BenchmarkData.BASE_DATE.plusHours(size / 2);
+    }
+
+    @Benchmark
+    public String upcomingWeek() {
+        return taskList.listUpcoming(now, 7);
+    }
+
+    @Benchmark
+    public String overdue() {
+        return taskList.listOverdue(now);
+    }
+}
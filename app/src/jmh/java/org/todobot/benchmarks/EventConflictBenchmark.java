@@ -0,0 +1,55 @@
+package org.todobot.benchmarks;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.todobot.model.Event;
+import org.todobot.service.TaskList;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventConflictBenchmark {
+    @Param({"10", "1000", "100000"})
+    public int size;
+
+    private TaskList taskList;
+    // Spans a few of the generated events in the middle of the calendar
+    private Event probe;
+    private LocalDate day;
+
+    @Setup
+    public void setUp() {
+        taskList = new TaskList(TaskList.UNLIMITED);
+        taskList.setTasks(BenchmarkData.createTasks(size));
+        LocalDateTime middle = BenchmarkData.BASE_DATE.plusHours(size / 2);
+        probe = new Event("probe", middle, true, middle.plusHours(6), true);
+        day = middle.toLocalDate();
+    }
+
+    @Benchmark
+    public String conflictsWithNewEvent() {
+        return taskList.describeConflicts(probe);
+    }
+
+    @Benchmark
+    public String freeSlots() {
+        return taskList.listFreeSlots(day, Duration.ofMinutes(30));
+    }
+}
@@ -0,0 +1,44 @@
+package org.todobot.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.todobot.service.TaskList;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FindTasksBenchmark {
+    @Param({"10", "1000", "100000"})
+    public int size;
+
+    // A rare exact id, a common word, and a combined query
+    @Param({"#4242", "report", "team AND mom"})
+    public String keyword;
+
+    private TaskList taskList;
+
+    @Setup
+    public void setUp() {
+        taskList = new TaskList(TaskList.UNLIMITED);
+        taskList.setTasks(BenchmarkData.createTasks(size));
+    }
+
+    @Benchmark
+    public String findTasks() {
+        return taskList.findTasks(keyword);
+    }
+}
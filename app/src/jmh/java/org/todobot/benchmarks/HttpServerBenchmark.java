@@ -0,0 +1,104 @@
+package org.todobot.benchmarks;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.todobot.app.ToDoBotServer;
+import org.todobot.service.ToDoBotService;
+import org.todobot.storage.TaskStorage;
+
+/**
+ * Load generator for --server mode: many client threads hit one server over loopback
+ * and the score is requests per second across all of them. Reads and writes go to the
+ * same shared task list, so this also exercises its locking under contention.
+ * The fork gets the TCP_NODELAY flag that Main sets for --server.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(32)
+@Fork(value = 1, jvmArgsAppend = "-Dsun.net.httpserver.nodelay=true")
+public class HttpServerBenchmark {
+    private static final int BASE_TASKS = 1000;
+
+    private Path dataDir;
+    private ToDoBotServer server;
+    private HttpClient client;
+    private HttpRequest commandRequest;
+    private HttpRequest findRequest;
+    private HttpRequest markRequest;
+
+    @Setup
+    public void setUp() throws IOException {
+        dataDir = Files.createTempDirectory("todobot-server");
+        TaskStorage storage = new TaskStorage(dataDir.toString(), true);
+        storage.saveTasks(BenchmarkData.createTasks(BASE_TASKS));
+        server = new ToDoBotServer(new ToDoBotService(storage),
+                new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+        server.start();
+
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        String baseUri = "http://127.0.0.1:" + server.getAddress().getPort();
+        commandRequest = HttpRequest.newBuilder(URI.create(baseUri + "/command"))
+                .POST(HttpRequest.BodyPublishers.ofString("list 1-20")).build();
+        findRequest = HttpRequest.newBuilder(URI.create(baseUri + "/tasks?find=report")).GET().build();
+        markRequest = HttpRequest.newBuilder(URI.create(baseUri + "/tasks/1/mark"))
+                .POST(HttpRequest.BodyPublishers.noBody()).build();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        client.close();
+        server.stop();
+        try (Stream<Path> files = Files.walk(dataDir)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public int textCommand() throws IOException, InterruptedException {
+        return send(commandRequest);
+    }
+
+    @Benchmark
+    public int findJson() throws IOException, InterruptedException {
+        return send(findRequest);
+    }
+
+    @Benchmark
+    public int markJson() throws IOException, InterruptedException {
+        return send(markRequest);
+    }
+
+    private int send(HttpRequest request) throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() >= 500) {
+            throw new IllegalStateException("Server error: " + response.body());
+        }
+        return response.statusCode();
+    }
+}
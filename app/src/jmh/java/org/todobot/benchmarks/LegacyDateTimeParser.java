@@ -0,0 +1,34 @@
+package org.todobot.benchmarks;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+/**
+ * The regex and formatter based DateTimeParser.parseDateTime as it was before the
+ * fixed-width fast path, kept as the baseline for DateTimeParserBenchmark.
+ */
+final class LegacyDateTimeParser {
+    private static final DateTimeFormatter INPUT_DATE_FORMAT = DateTimeFormatter.ofPattern("dd-MM-yyyy");
+    private static final DateTimeFormatter INPUT_DATETIME_FORMAT = DateTimeFormatter.ofPattern("dd-MM-yyyy HH:mm");
+
+    private LegacyDateTimeParser() {
+    }
+
+    static LocalDateTime parseDateTime(String input) {
+        if (input == null || input.trim().isEmpty()) {
+            throw new DateTimeParseException("Date/time input cannot be empty", "", 0);
+        }
+
+        String trimmedInput = input.trim();
+        if (trimmedInput.matches("\\d{2}-\\d{2}-\\d{4}\\s+\\d{2}:\\d{2}")) {
+            return LocalDateTime.parse(trimmedInput, INPUT_DATETIME_FORMAT);
+        }
+        if (trimmedInput.matches("\\d{2}-\\d{2}-\\d{4}")) {
+            return LocalDate.parse(trimmedInput, INPUT_DATE_FORMAT).atStartOfDay();
+        }
+        throw new DateTimeParseException("Invalid format. Expected: DD-MM-YYYY or DD-MM-YYYY HH:MM",
+            trimmedInput, 0);
+    }
+}
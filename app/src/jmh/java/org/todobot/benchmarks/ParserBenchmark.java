@@ -0,0 +1,38 @@
+package org.todobot.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.todobot.parsers.core.ParseResult;
+import org.todobot.parsers.core.Parser;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParserBenchmark {
+    @Param({
+        "todo read a book !high",
+        "deadline submit report /by 25-12-2024 17:00",
+        "event team meeting /from 25-12-2024 14:00 /to 25-12-2024 16:00",
+        "mark 42",
+        "list"
+    })
+    public String input;
+
+    @Benchmark
+    public ParseResult parse() {
+        return Parser.parse(input);
+    }
+}
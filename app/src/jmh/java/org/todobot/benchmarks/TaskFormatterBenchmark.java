@@ -0,0 +1,52 @@
+package org.todobot.benchmarks;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.todobot.model.Task;
+import org.todobot.service.TaskFormatter;
+import org.todobot.service.TaskList;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaskFormatterBenchmark {
+    @Param({"10", "1000", "100000"})
+    public int size;
+
+    private ArrayList<Task> tasks;
+    private TaskList taskList;
+
+    @Setup
+    public void setUp() {
+        tasks = BenchmarkData.createTasks(size);
+        taskList = new TaskList(TaskList.UNLIMITED);
+        taskList.setTasks(tasks);
+    }
+
+    @Benchmark
+    public String formatTaskList() {
+        return TaskFormatter.formatTaskList(tasks);
+    }
+
+    // One page from the middle of the list; should not grow with size
+    @Benchmark
+    public String listPage() {
+        int from = size / 2 + 1;
+        return taskList.listTasks(from, from + 49);
+    }
+}
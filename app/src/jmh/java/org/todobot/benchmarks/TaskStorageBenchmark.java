@@ -0,0 +1,68 @@
+package org.todobot.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.todobot.model.Task;
+import org.todobot.storage.SnapshotFormat;
+import org.todobot.storage.TaskStorage;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskStorageBenchmark {
+    @Param({"10", "1000", "100000"})
+    public int size;
+
+    @Param({"JSON", "COMPACT_JSON", "BINARY"})
+    public SnapshotFormat format;
+
+    private Path dataDir;
+    private TaskStorage storage;
+    private ArrayList<Task> tasks;
+
+    @Setup
+    public void setUp() throws IOException {
+        dataDir = Files.createTempDirectory("todobot-bench");
+        storage = new TaskStorage(dataDir.toString(), false, format);
+        tasks = BenchmarkData.createTasks(size);
+        storage.saveTasks(tasks);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(dataDir)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public void saveTasks() {
+        storage.saveTasks(tasks);
+    }
+
+    @Benchmark
+    public ArrayList<Task> loadTasks() {
+        return storage.loadTasks();
+    }
+}
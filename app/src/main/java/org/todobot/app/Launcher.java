@@ -1,7 +1,14 @@
 package org.todobot.app;
 
 public class Launcher {
+    private static final String CLI_FLAG = "--cli";
+    
     public static void main(String[] args) {
+        if (args.length > 0 && (args[0].equals(CLI_FLAG) || args[0].equals(Main.BATCH_FLAG)
+                || args[0].equals(Main.SERVER_FLAG))) {
+            Main.main(args);
+            return;
+        }
         ToDoBotGUI.main(args);
     }
-}
\ No newline at end of file
+}
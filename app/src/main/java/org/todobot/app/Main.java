@@ -1,7 +1,29 @@
 package org.todobot.app;
 
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+
+import org.todobot.common.BotConfig;
+import org.todobot.common.BotMessages;
+import org.todobot.service.TaskPartitions;
+import org.todobot.service.ToDoBotService;
+
 public class Main {
+    public static final String BATCH_FLAG = "--batch";
+    public static final String SERVER_FLAG = "--server";
+    private static final String USERS_DATA_DIR = "./data/users";
+    private static final String NO_DELAY_PROPERTY = "sun.net.httpserver.nodelay";
+    
     public static void main(String[] args) {
+        if (args.length > 0 && args[0].equals(BATCH_FLAG)) {
+            System.exit(runBatch(args.length > 1 ? args[1] : ToDoBotBatch.STDIN));
+        }
+        if (args.length > 0 && args[0].equals(SERVER_FLAG)) {
+            runServer(args.length > 1 ? args[1] : null);
+            return;
+        }
+        
         ToDoBotCLI bot = new ToDoBotCLI();
         try {
             bot.run();
@@ -9,4 +31,47 @@ public class Main {
             bot.cleanup();
         }
     }
-}
\ No newline at end of file
+    
+    // Exit status is 1 when any command failed, so scripts can detect problems
+    private static int runBatch(String source) {
+        ToDoBotBatch batch = new ToDoBotBatch();
+        try {
+            return batch.run(source) > 0 ? 1 : 0;
+        } catch (IOException e) {
+            System.err.println("Error reading batch input: " + e.getMessage());
+            return 2;
+        } finally {
+            batch.cleanup();
+        }
+    }
+    
+    // Only listens on loopback; the server's own threads keep the JVM alive until it is interrupted
+    private static void runServer(String port) {
+        // The JDK server writes headers and body separately; without TCP_NODELAY the body waits on the
+        // client's delayed ACK. Read once when the server classes load, so it must be set before that
+        if (System.getProperty(NO_DELAY_PROPERTY) == null) {
+            System.setProperty(NO_DELAY_PROPERTY, "true");
+        }
+        
+        int portNumber = BotConfig.getServerPort();
+        if (port != null) {
+            try {
+                portNumber = Integer.parseInt(port);
+            } catch (NumberFormatException e) {
+                System.err.println("Invalid port: " + port);
+                System.exit(2);
+            }
+        }
+        
+        try {
+            ToDoBotServer server = new ToDoBotServer(new ToDoBotService(), new TaskPartitions(USERS_DATA_DIR),
+                    new InetSocketAddress(InetAddress.getLoopbackAddress(), portNumber));
+            Runtime.getRuntime().addShutdownHook(new Thread(server::stop));
+            server.start();
+            System.out.println(BotMessages.formatServerListening(server.getAddress().getPort()));
+        } catch (IOException e) {
+            System.err.println("Error starting server: " + e.getMessage());
+            System.exit(2);
+        }
+    }
+}
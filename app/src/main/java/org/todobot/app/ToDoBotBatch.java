@@ -0,0 +1,115 @@
+package org.todobot.app;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.todobot.common.BotMessages;
+import org.todobot.service.CommandResponse;
+import org.todobot.service.ToDoBotService;
+import org.todobot.storage.TaskStorage;
+
+/**
+ * Non-interactive mode for scripted input, e.g. {@code --batch commands.txt} or
+ * {@code --batch -} to read from a pipe. Output is fully buffered and tasks are
+ * saved once at the end instead of after every command.
+ */
+public class ToDoBotBatch {
+    public static final String STDIN = "-";
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final int MAX_REPORTED_FAILURES = 10;
+
+    private final ToDoBotService service;
+    private final List<String> failures = new ArrayList<>();
+    private int commandCount;
+    private int failureCount;
+    private long elapsedMillis;
+
+    public ToDoBotBatch() {
+        this(new ToDoBotService(new TaskStorage(), true));
+    }
+
+    public ToDoBotBatch(ToDoBotService service) {
+        this.service = service;
+    }
+
+    // Returns the number of failed commands
+    public int run(String source) throws IOException {
+        try (BufferedReader reader = openSource(source)) {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8), BUFFER_SIZE);
+            run(reader, writer);
+            writer.flush();
+        }
+        printSummary();
+        return failureCount;
+    }
+
+    public void run(BufferedReader reader, Writer writer) throws IOException {
+        long start = System.nanoTime();
+        String line;
+        int lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+
+            commandCount++;
+            CommandResponse response = service.handleCommand(line);
+            if (response.isExit()) {
+                break;
+            }
+            if (response.isError()) {
+                recordFailure(lineNumber, line, response.message());
+            }
+            writer.write(response.message());
+            writer.write('\n');
+            writer.write(BotMessages.HORIZONTAL_LINE);
+            writer.write('\n');
+        }
+        elapsedMillis += (System.nanoTime() - start) / 1_000_000;
+    }
+
+    public int getCommandCount() {
+        return commandCount;
+    }
+
+    public int getFailureCount() {
+        return failureCount;
+    }
+
+    public void cleanup() {
+        service.cleanup();
+    }
+
+    private void recordFailure(int lineNumber, String input, String message) {
+        failureCount++;
+        if (failures.size() < MAX_REPORTED_FAILURES) {
+            failures.add(BotMessages.formatBatchFailure(lineNumber, input, message));
+        }
+    }
+
+    // Goes to stderr so the command output can still be piped on its own
+    private void printSummary() {
+        System.err.println(BotMessages.formatBatchSummary(commandCount, failureCount, elapsedMillis));
+        failures.forEach(System.err::println);
+        if (failureCount > failures.size()) {
+            System.err.println(BotMessages.formatBatchFailuresOmitted(failureCount - failures.size()));
+        }
+    }
+
+    private static BufferedReader openSource(String source) throws IOException {
+        if (STDIN.equals(source)) {
+            return new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8), BUFFER_SIZE);
+        }
+        return Files.newBufferedReader(Paths.get(source), StandardCharsets.UTF_8);
+    }
+}
@@ -1,5 +1,6 @@
 package org.todobot.app;
 
+import org.todobot.service.CommandResponse;
 import org.todobot.service.ToDoBotService;
 import org.todobot.ui.UI;
 
@@ -15,19 +16,19 @@ public class ToDoBotCLI {
     private void handleUserInput() {
         while (true) {
             String input = ui.readCommand();
+            CommandResponse response = service.handleCommand(input);
             
-            if (service.shouldExit(input)) {
+            if (response.isExit()) {
                 break;
             }
             
-            String response = service.processCommand(input);
-            ui.showResponse(response);
-            ui.showLine();
+            ui.showResponse(response.message());
         }
     }
     
     public void run() {
         ui.showGreeting();
+        service.startReminders(ui::showReminder);
         handleUserInput();
         ui.showFarewell();
     }
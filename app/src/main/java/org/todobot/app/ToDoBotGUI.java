@@ -1,22 +1,31 @@
 package org.todobot.app;
 
+import org.todobot.service.CommandResponse;
 import org.todobot.service.ToDoBotService;
 import org.todobot.ui.ThemeManager;
 import org.todobot.ui.AnimatedMessage;
 import org.todobot.ui.AnimatedMessage.MessageType;
 import org.todobot.ui.AnimationUtils;
+import org.todobot.ui.ChatMessage;
+import org.todobot.ui.ChatMessageCell;
+import org.todobot.common.BotConfig;
 import org.todobot.common.BotMessages;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
 import javafx.animation.KeyFrame;
 import javafx.animation.Timeline;
 import javafx.application.Application;
 import javafx.application.Platform;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.Scene;
 import javafx.scene.control.Button;
-import javafx.scene.control.Label;
-import javafx.scene.control.ScrollPane;
+import javafx.scene.control.ListView;
 import javafx.scene.control.TextField;
 import javafx.scene.layout.BorderPane;
 import javafx.scene.layout.HBox;
@@ -26,14 +35,25 @@ import javafx.stage.Stage;
 import javafx.util.Duration;
 
 public class ToDoBotGUI extends Application {
+    // Only the visible rows of the transcript exist as nodes
+    private final ObservableList<ChatMessage> messages = FXCollections.observableArrayList();
+    private final int transcriptLimit = BotConfig.getTranscriptLimit();
+    private ListView<ChatMessage> chatList;
     private VBox chatArea;
-    private ScrollPane scrollPane;
     private TextField inputField;
     private Button sendButton;
     private Button resetButton;
-    private ToDoBotService service;
     private Stage primaryStage;
     
+    // One thread runs every command in submission order, keeping the FX thread free for
+    // rendering and input. The service is created and used only on this thread.
+    private final ExecutorService commandExecutor =
+            Executors.newSingleThreadExecutor(Thread.ofVirtual().name("todobot-command").factory());
+    private final boolean processingDelayEnabled = BotConfig.isProcessingDelayEnabled();
+    private ToDoBotService service;
+    private int pendingCommands;
+    private boolean shutDown;
+    
     // Processing state management
     private AnimatedMessage processingMessage;
     private Timeline typingAnimation;
@@ -41,7 +61,19 @@ public class ToDoBotGUI extends Application {
     @Override
     public void start(Stage primaryStage) {
         this.primaryStage = primaryStage;
-        this.service = new ToDoBotService();
+        
+        // Loading tasks can take a while, so it happens off the FX thread too
+        commandExecutor.execute(() -> {
+            try {
+                service = new ToDoBotService();
+                service.startReminders(message -> Platform.runLater(() -> addBotMessage(message)));
+            } catch (RuntimeException e) {
+                System.err.println("Error starting the task service: " + e.getMessage());
+                if (service == null) {
+                    Platform.runLater(() -> addBotMessage(BotMessages.GUI_LOAD_FAILED));
+                }
+            }
+        });
         
         primaryStage.setTitle("Task Manager - KUN_BOT");
 
@@ -54,7 +86,7 @@ public class ToDoBotGUI extends Application {
         HBox inputArea = createInputArea();
         
         // Assemble layout
-        root.setCenter(scrollPane);
+        root.setCenter(chatArea);
         root.setBottom(inputArea);
 
         // Add initial messages and setup
@@ -64,25 +96,18 @@ public class ToDoBotGUI extends Application {
     }
     
     private void createChatArea() {
-        // Create chat area with glassmorphism container
-        chatArea = new VBox(15);
-        chatArea.setPadding(new Insets(20));
-        chatArea.setAlignment(Pos.TOP_LEFT);
-        
-        // Add listener to auto-scroll when content height changes
-        chatArea.heightProperty().addListener((observable, oldValue, newValue) -> {
-            scrollToBottom();
-        });
-
-        // Create scroll pane for chat area with futuristic styling
-        scrollPane = new ScrollPane(chatArea);
-        scrollPane.setFitToWidth(true);
-        scrollPane.setHbarPolicy(ScrollPane.ScrollBarPolicy.NEVER);
-        scrollPane.setVbarPolicy(ScrollPane.ScrollBarPolicy.AS_NEEDED);
-        scrollPane.setStyle(ThemeManager.SCROLL_PANE);
+        // Virtualized transcript: cells are recycled as the list scrolls
+        chatList = new ListView<>(messages);
+        chatList.setCellFactory(list -> new ChatMessageCell());
+        chatList.setFocusTraversable(false);
         
         // Apply glassmorphism effect to chat container
-        chatArea.setStyle(ThemeManager.CHAT_CONTAINER);
+        chatList.setStyle(ThemeManager.CHAT_CONTAINER);
+        VBox.setVgrow(chatList, Priority.ALWAYS);
+        
+        // The processing indicator sits below the transcript instead of inside it
+        chatArea = new VBox(chatList);
+        chatArea.setAlignment(Pos.TOP_LEFT);
     }
     
     private HBox createInputArea() {
@@ -124,16 +149,17 @@ public class ToDoBotGUI extends Application {
         // Create scene with optimal size for futuristic interface
         Scene scene = new Scene(root, 800, 600);
         
-        // Apply custom scroll bar styling
+        // Apply custom scroll bar and chat list styling
         scene.getStylesheets().add("data:text/css," + ThemeManager.CUSTOM_SCROLL_BAR);
         
         primaryStage.setScene(scene);
         primaryStage.setMinWidth(600);
         primaryStage.setMinHeight(400);
         
-        // Handle window close event
+        // Keep the window until pending changes are saved; shutDown() exits afterwards
         primaryStage.setOnCloseRequest(e -> {
-            service.cleanup();
+            e.consume();
+            shutDown();
         });
         
         primaryStage.show();
@@ -150,68 +176,126 @@ public class ToDoBotGUI extends Application {
 
     private void handleSendMessage() {
         String message = inputField.getText().trim();
-        if (!message.isEmpty()) {
+        // The executor no longer takes commands once shutting down
+        if (!message.isEmpty() && !shutDown) {
             // Add user message and clear input
             addUserMessage(message);
             inputField.clear();
             
-            // Route to appropriate handler
-            if (service.shouldExit(message)) {
-                handleByeCommand();
-            } else {
-                handleRegularCommand(message);
+            // Run the command in the background and show the reply when it is ready
+            if (pendingCommands++ == 0) {
+                showProcessingIndicator();
             }
+            commandExecutor.execute(() -> {
+                CommandResponse response = runCommand(message);
+                if (processingDelayEnabled) {
+                    pauseForEffect();
+                }
+                Platform.runLater(() -> handleResponse(response));
+            });
             
             scrollToBottom();
         }
     }
     
-    private void handleByeCommand() {
-        showProcessingIndicator();
-        
-        Timeline delay = AnimationUtils.createProcessingDelay();
-        delay.setOnFinished(e -> {
+    // Always produces a reply, so every submitted command is matched by one handleResponse call
+    private CommandResponse runCommand(String message) {
+        if (service == null) {
+            return CommandResponse.error(BotMessages.GUI_LOAD_FAILED);
+        }
+        try {
+            return service.handleCommand(message);
+        } catch (RuntimeException e) {
+            System.err.println("Error running command: " + e.getMessage());
+            return CommandResponse.error(BotMessages.GUI_COMMAND_FAILED);
+        }
+    }
+    
+    private void handleResponse(CommandResponse response) {
+        if (--pendingCommands == 0) {
             hideProcessingIndicator();
-            addBotMessage(BotMessages.GUI_SAVING_GOODBYE);
-            
-            // Close after additional delay
-            Timeline closeDelay = new Timeline(new KeyFrame(Duration.millis(2000), closeEvent -> {
-                service.cleanup();
-                primaryStage.close();
-            }));
-            closeDelay.play();
-        });
-        delay.play();
+        }
+        if (response.isExit()) {
+            handleByeCommand();
+        } else {
+            addBotMessage(response.message());
+        }
     }
     
-    private void handleRegularCommand(String message) {
-        showProcessingIndicator();
+    private void handleByeCommand() {
+        addBotMessage(BotMessages.GUI_SAVING_GOODBYE);
+        inputField.setDisable(true);
+        sendButton.setDisable(true);
         
-        Timeline delay = AnimationUtils.createProcessingDelay();
-        delay.setOnFinished(e -> {
-            hideProcessingIndicator();
-            String response = service.processCommand(message);
-            addBotMessage(response);
+        // Close after a short delay so the goodbye can be read
+        Timeline closeDelay = new Timeline(new KeyFrame(Duration.millis(2000), closeEvent -> shutDown()));
+        closeDelay.play();
+    }
+    
+    // Cosmetic "thinking" pause; runs on the command thread so it never blocks the UI
+    private void pauseForEffect() {
+        try {
+            Thread.sleep(AnimationUtils.getProcessingDelayMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    /**
+     * Lets queued commands finish and saves, then exits. The wait happens on its own
+     * thread so the window keeps repainting; only the first call does anything.
+     */
+    private void shutDown() {
+        if (shutDown) {
+            return;
+        }
+        shutDown = true;
+        inputField.setDisable(true);
+        sendButton.setDisable(true);
+        commandExecutor.execute(() -> {
+            if (service != null) {
+                service.cleanup();
+            }
+        });
+        commandExecutor.shutdown();
+        Thread.ofVirtual().name("todobot-shutdown").start(() -> {
+            try {
+                if (!commandExecutor.awaitTermination(10, TimeUnit.SECONDS)) {
+                    System.err.println("Timed out waiting for pending commands to finish");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            Platform.exit();
         });
-        delay.play();
     }
 
     private void addUserMessage(String message) {
-        chatArea.getChildren().add(new AnimatedMessage(message, MessageType.USER));
+        addMessage(new ChatMessage(message, MessageType.USER));
     }
 
     private void addBotMessage(String message) {
-        chatArea.getChildren().add(new AnimatedMessage(message, MessageType.BOT));
+        addMessage(new ChatMessage(message, MessageType.BOT));
+    }
+    
+    private void addMessage(ChatMessage message) {
+        messages.add(message);
+        
+        // Drop the oldest messages once the transcript is over its limit
+        if (transcriptLimit > 0 && messages.size() > transcriptLimit) {
+            messages.remove(0, messages.size() - transcriptLimit);
+        }
+        scrollToBottom();
     }
     
     private void showProcessingIndicator() {
         // Create processing message
         processingMessage = new AnimatedMessage("Processing", MessageType.BOT);
+        VBox.setMargin(processingMessage, new Insets(6, 20, 6, 20));
         chatArea.getChildren().add(processingMessage);
         
         // Start typing dots animation on the label inside the processing message
-        Label processingLabel = (Label) processingMessage.getChildren().get(0);
-        typingAnimation = AnimationUtils.createTypingDots(processingLabel);
+        typingAnimation = AnimationUtils.createTypingDots(processingMessage.getLabel());
         typingAnimation.play();
     }
     
@@ -223,7 +307,7 @@ public class ToDoBotGUI extends Application {
                 typingAnimation = null;
             }
             
-            // Remove processing message from chat area
+            // Remove processing message from below the transcript
             chatArea.getChildren().remove(processingMessage);
             processingMessage = null;
         }
@@ -242,8 +326,8 @@ public class ToDoBotGUI extends Application {
     }
     
     private void handleResetChat() {
-        // Clear all chat messages
-        chatArea.getChildren().clear();
+        // Clear all chat messages; replies still in flight will appear afterwards
+        messages.clear();
         
         // Clear input field
         inputField.clear();
@@ -256,9 +340,9 @@ public class ToDoBotGUI extends Application {
     }
     
     private void scrollToBottom() {
-        Platform.runLater(() -> {
-            scrollPane.setVvalue(1.0);
-        });
+        if (!messages.isEmpty()) {
+            chatList.scrollTo(messages.size() - 1);
+        }
     }
 
     public static void main(String[] args) {
@@ -0,0 +1,332 @@
+package org.todobot.app;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.regex.Pattern;
+
+import org.todobot.common.BotMessages;
+import org.todobot.model.Deadline;
+import org.todobot.model.Event;
+import org.todobot.model.Task;
+import org.todobot.parsers.core.ParseResult;
+import org.todobot.parsers.util.DateTimeParser;
+import org.todobot.parsers.util.NumericParser;
+import org.todobot.service.CommandResponse;
+import org.todobot.service.NumberedTask;
+import org.todobot.service.TaskPartitions;
+import org.todobot.service.ToDoBotService;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Headless HTTP front-end for scripts and other tools, e.g. {@code --server 8080}.
+ * Every request runs on its own virtual thread against one shared service, whose
+ * task list is safe to use from many threads at once. With {@link TaskPartitions},
+ * an {@code X-User} header picks that user's own task list instead.
+ *
+ * <ul>
+ *   <li>{@code POST /command} - the body is one command, exactly as typed in the CLI</li>
+ *   <li>{@code GET /tasks} and {@code GET /tasks?find=[keyword]} - tasks as JSON</li>
+ *   <li>{@code POST /tasks} - adds the task described by a JSON object</li>
+ *   <li>{@code POST /tasks/[number]/mark} and {@code POST /tasks/[number]/unmark}</li>
+ * </ul>
+ */
+public class ToDoBotServer {
+    private static final String JSON_CONTENT_TYPE = "application/json; charset=utf-8";
+    private static final String TASKS_PATH = "/tasks";
+    private static final String FIND_PARAMETER = "find=";
+    private static final String USER_HEADER = "X-User";
+    private static final int STOP_DELAY_SECONDS = 1;
+    // AddCommand reads !word in a description as its priority, so JSON descriptions may not contain one
+    private static final Pattern PRIORITY_MARKER = Pattern.compile("![a-zA-Z]");
+    private static final Set<String> PRIORITY_NAMES = Set.of("high", "h", "medium", "m", "low", "l");
+
+    private record Reply(int status, JsonElement body) {
+    }
+
+    private interface Route {
+        Reply apply(HttpExchange exchange, ToDoBotService service) throws IOException;
+    }
+
+    private final ToDoBotService service;
+    private final TaskPartitions partitions;
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private boolean stopped;
+
+    public ToDoBotServer(ToDoBotService service, InetSocketAddress address) throws IOException {
+        this(service, null, address);
+    }
+
+    // Requests with an X-User header go to that user's partition; null turns the header off
+    public ToDoBotServer(ToDoBotService service, TaskPartitions partitions, InetSocketAddress address)
+            throws IOException {
+        this.service = service;
+        this.partitions = partitions;
+        this.server = HttpServer.create(address, 0);
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        server.setExecutor(executor);
+        server.createContext("/command", exchange -> handle(exchange, this::handleCommand));
+        server.createContext(TASKS_PATH, exchange -> handle(exchange, this::handleTasks));
+    }
+
+    public void start() {
+        server.start();
+    }
+
+    // The bound address, including the real port when started on port 0
+    public InetSocketAddress getAddress() {
+        return server.getAddress();
+    }
+
+    // Finishes in-flight requests, then saves; only the first call does anything
+    public synchronized void stop() {
+        if (stopped) {
+            return;
+        }
+        stopped = true;
+        server.stop(STOP_DELAY_SECONDS);
+        executor.close();
+        service.cleanup();
+        if (partitions != null) {
+            partitions.close();
+        }
+    }
+
+    // === ROUTES ===
+
+    private Reply handleCommand(HttpExchange exchange, ToDoBotService service) throws IOException {
+        if (!"POST".equals(exchange.getRequestMethod())) {
+            return error(405, "Use POST with the command as the request body");
+        }
+        return toReply(service.handleCommand(readBody(exchange)), 200);
+    }
+
+    private Reply handleTasks(HttpExchange exchange, ToDoBotService service) throws IOException {
+        String method = exchange.getRequestMethod();
+        String path = exchange.getRequestURI().getPath();
+        if (path.equals(TASKS_PATH) || path.equals(TASKS_PATH + "/")) {
+            return switch (method) {
+                case "GET" -> listTasks(service, exchange.getRequestURI().getRawQuery());
+                case "POST" -> addTask(service, readBody(exchange));
+                default -> error(405, "Use GET to list tasks or POST to add one");
+            };
+        }
+
+        // /tasks/[number]/mark or /tasks/[number]/unmark
+        String[] parts = path.substring(TASKS_PATH.length() + 1).split("/");
+        if (parts.length != 2 || NumericParser.parsePositiveInteger(parts[0], 0, parts[0].length()) < 0
+                || !(parts[1].equals("mark") || parts[1].equals("unmark"))) {
+            return error(404, "Unknown endpoint: " + path);
+        }
+        if (!"POST".equals(method)) {
+            return error(405, "Use POST to " + parts[1] + " a task");
+        }
+        return toReply(service.handleCommand(parts[1] + " " + parts[0]), 200);
+    }
+
+    private Reply listTasks(ToDoBotService service, String query) {
+        String keyword = findParameter(query);
+        JsonArray tasks = new JsonArray();
+        if (keyword == null) {
+            List<Task> snapshot = service.getTasks();
+            for (int i = 0; i < snapshot.size(); i++) {
+                tasks.add(toJson(i + 1, snapshot.get(i)));
+            }
+        } else {
+            for (NumberedTask match : service.searchTasks(keyword)) {
+                tasks.add(toJson(match.number(), match.task()));
+            }
+        }
+        JsonObject body = new JsonObject();
+        body.add("tasks", tasks);
+        return new Reply(200, body);
+    }
+
+    /**
+     * Builds the add command from {"type", "description", "priority", "by", "from", "to"}
+     * directly rather than as command text, so no field can be read as part of another.
+     * Dates use the same DD-MM-YYYY [HH:MM] format as commands.
+     */
+    private Reply addTask(ToDoBotService service, String body) {
+        JsonObject task;
+        try {
+            task = JsonParser.parseString(body).getAsJsonObject();
+        } catch (JsonParseException | IllegalStateException e) {
+            return error(400, "Request body must be a JSON object");
+        }
+
+        try {
+            String type = getString(task, "type");
+            String description = getString(task, "description");
+            String priority = getString(task, "priority");
+            if (!"todo".equals(type) && !"deadline".equals(type) && !"event".equals(type)) {
+                return error(400, "type must be todo, deadline or event");
+            }
+            if (description == null || description.isBlank()) {
+                return error(400, "description is required");
+            }
+            if (PRIORITY_MARKER.matcher(description).find()) {
+                return error(400, "description may not contain !priority; use the priority field");
+            }
+            if (priority != null) {
+                if (!PRIORITY_NAMES.contains(priority.toLowerCase())) {
+                    return error(400, "priority must be high, medium or low");
+                }
+                // Now the only marker, so AddCommand picks it up
+                description += " !" + priority;
+            }
+
+            ParseResult.AddTask add = switch (type) {
+                case "todo" -> new ParseResult.AddTodo(description);
+                case "deadline" -> {
+                    DateTimeParser.DateTimeResult by = getTime(task, "by");
+                    yield new ParseResult.AddDeadline(description, by.getDateTime(), by.hasTime());
+                }
+                default -> {
+                    DateTimeParser.DateTimeResult from = getTime(task, "from");
+                    DateTimeParser.DateTimeResult to = getTime(task, "to");
+                    yield new ParseResult.AddEvent(description, from.getDateTime(), from.hasTime(),
+                            to.getDateTime(), to.hasTime());
+                }
+            };
+            return toReply(service.handleCommand(add), 201);
+        } catch (IllegalArgumentException e) {
+            return error(400, e.getMessage());
+        }
+    }
+
+    private Reply toReply(CommandResponse response, int successStatus) {
+        JsonObject body = new JsonObject();
+        body.addProperty("message", BotMessages.toPlainText(response.message()).trim());
+        body.addProperty("error", response.isError());
+        body.addProperty("exit", response.isExit());
+        return new Reply(response.isError() ? 400 : successStatus, body);
+    }
+
+    // === HELPERS ===
+
+    private void handle(HttpExchange exchange, Route route) throws IOException {
+        Reply reply;
+        try {
+            reply = dispatch(exchange, route);
+        } catch (IOException | UncheckedIOException e) {
+            reply = error(400, "Could not read request: " + e.getMessage());
+        } catch (RuntimeException e) {
+            System.err.println("Error handling " + exchange.getRequestURI() + ": " + e.getMessage());
+            reply = error(500, "Internal error");
+        }
+
+        byte[] bytes = reply.body().toString().getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", JSON_CONTENT_TYPE);
+        exchange.sendResponseHeaders(reply.status(), bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private Reply dispatch(HttpExchange exchange, Route route) throws IOException {
+        String user = exchange.getRequestHeaders().getFirst(USER_HEADER);
+        if (user == null) {
+            return route.apply(exchange, service);
+        }
+        if (partitions == null || !TaskPartitions.isValidId(user)) {
+            return error(400, "Invalid " + USER_HEADER + " header; use up to 64 letters, digits, '-' or '_'");
+        }
+        return partitions.withPartition(user, partitionService -> {
+            try {
+                return route.apply(exchange, partitionService);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private static String readBody(HttpExchange exchange) throws IOException {
+        try (InputStream in = exchange.getRequestBody()) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    // The decoded value of find=..., or null if the query has none
+    private static String findParameter(String query) {
+        if (query == null) {
+            return null;
+        }
+        for (String parameter : query.split("&")) {
+            if (parameter.startsWith(FIND_PARAMETER)) {
+                return URLDecoder.decode(parameter.substring(FIND_PARAMETER.length()), StandardCharsets.UTF_8);
+            }
+        }
+        return null;
+    }
+
+    // Null when the field is missing; IllegalArgumentException when it is not a string
+    private static String getString(JsonObject object, String key) {
+        JsonElement value = object.get(key);
+        if (value == null || value.isJsonNull()) {
+            return null;
+        }
+        if (!value.isJsonPrimitive() || !value.getAsJsonPrimitive().isString()) {
+            throw new IllegalArgumentException(key + " must be a string");
+        }
+        return value.getAsString();
+    }
+
+    private static DateTimeParser.DateTimeResult getTime(JsonObject object, String key) {
+        String value = getString(object, key);
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException(key + " is required");
+        }
+        try {
+            return DateTimeParser.parseDateTime(value.trim());
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException(key + " must be DD-MM-YYYY or DD-MM-YYYY HH:MM");
+        }
+    }
+
+    private static Reply error(int status, String message) {
+        JsonObject body = new JsonObject();
+        body.addProperty("message", message);
+        body.addProperty("error", true);
+        return new Reply(status, body);
+    }
+
+    private static JsonObject toJson(int number, Task task) {
+        JsonObject json = new JsonObject();
+        json.addProperty("number", number);
+        json.addProperty("type", task.getClass().getSimpleName().toLowerCase());
+        json.addProperty("description", task.getDescription());
+        json.addProperty("done", task.isDone());
+        json.addProperty("priority", task.getPriority().name().toLowerCase());
+        if (task instanceof Deadline deadline) {
+            json.addProperty("by", formatTime(deadline.getByDateTime(), deadline.hasTimeInfo()));
+        } else if (task instanceof Event event) {
+            json.addProperty("from", formatTime(event.getFromDateTime(), event.hasFromTime()));
+            json.addProperty("to", formatTime(event.getToDateTime(), event.hasToTime()));
+        }
+        return json;
+    }
+
+    // ISO-8601, without the time when the task has none
+    private static String formatTime(LocalDateTime dateTime, boolean hasTime) {
+        return hasTime ? dateTime.toString() : dateTime.toLocalDate().toString();
+    }
+}
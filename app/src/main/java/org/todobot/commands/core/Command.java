@@ -1,17 +1,16 @@
 package org.todobot.commands.core;
 import org.todobot.parsers.core.ParseResult;
+import org.todobot.service.CommandResponse;
 import org.todobot.service.TaskList;
 
-public abstract class Command {
+// T is the parse result type the command reads its arguments from
+public abstract class Command<T extends ParseResult> {
     protected TaskList taskList;
     
     public Command(TaskList taskList) {
         this.taskList = taskList;
     }
     
-    public abstract String execute(String[] arguments);
-    
-    public String execute(ParseResult parseResult) {
-        return execute(parseResult.getArguments());
-    }
-}
\ No newline at end of file
+    // Commands flag their own failures, so callers never have to infer them from the text
+    public abstract CommandResponse execute(T parseResult);
+}
@@ -2,15 +2,17 @@ package org.todobot.commands.system;
 
 import org.todobot.commands.core.Command;
 import org.todobot.common.BotMessages;
+import org.todobot.parsers.core.ParseResult;
+import org.todobot.service.CommandResponse;
 import org.todobot.service.TaskList;
 
-public class ByeCommand extends Command {
+public class ByeCommand extends Command<ParseResult> {
     public ByeCommand(TaskList taskList) {
         super(taskList);
     }
     
     @Override
-    public String execute(String[] arguments) {
-        return BotMessages.FAREWELL;
+    public CommandResponse execute(ParseResult parseResult) {
+        return CommandResponse.exit(BotMessages.FAREWELL);
     }
 }
\ No newline at end of file
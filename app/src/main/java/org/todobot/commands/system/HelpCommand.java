@@ -2,16 +2,18 @@ package org.todobot.commands.system;
 
 import org.todobot.commands.core.Command;
 import org.todobot.common.BotMessages;
+import org.todobot.parsers.core.ParseResult;
+import org.todobot.service.CommandResponse;
 import org.todobot.service.TaskList;
 
-public class HelpCommand extends Command {
+public class HelpCommand extends Command<ParseResult> {
     
     public HelpCommand(TaskList taskList) {
         super(taskList);
     }
     
     @Override
-    public String execute(String[] arguments) {
-        return BotMessages.getHelpText();
+    public CommandResponse execute(ParseResult parseResult) {
+        return CommandResponse.reply(BotMessages.getHelpText());
     }
 }
\ No newline at end of file
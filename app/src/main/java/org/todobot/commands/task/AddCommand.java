@@ -1,83 +1,67 @@
 package org.todobot.commands.task;
 
-import java.time.LocalDateTime;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import org.todobot.commands.core.Command;
 import org.todobot.common.BotMessages;
-import org.todobot.common.CommandType;
 import org.todobot.model.Deadline;
 import org.todobot.model.Event;
 import org.todobot.model.Priority;
 import org.todobot.model.Task;
 import org.todobot.model.ToDo;
 import org.todobot.parsers.core.ParseResult;
+import org.todobot.service.CommandResponse;
 import org.todobot.service.TaskList;
 
-public class AddCommand extends Command {
+public class AddCommand extends Command<ParseResult.AddTask> {
 
-    private final CommandType taskType;
     private static final Pattern PRIORITY_PATTERN = Pattern.compile("!([a-zA-Z]+)");
 
     private record DescriptionInfo(String description, Priority priority) {}
 
-    public AddCommand(TaskList taskList, CommandType taskType) {
+    public AddCommand(TaskList taskList) {
         super(taskList);
-        this.taskType = taskType;
     }
 
     @Override
-    public String execute(String[] arguments) {
-        throw new UnsupportedOperationException("AddCommand requires a ParseResult object.");
-    }
-
-    @Override
-    public String execute(ParseResult parseResult) {
+    public CommandResponse execute(ParseResult.AddTask parseResult) {
         if (taskList.isFull()) {
-            return BotMessages.TASK_LIMIT_REACHED;
+            return CommandResponse.error(BotMessages.formatTaskLimitReached(taskList.getMaxTasks()));
         }
 
-        DescriptionInfo info = processDescription(parseResult.getArguments()[0]);
+        DescriptionInfo info = processDescription(parseResult.description());
 
         try {
-            Task task = createTask(info.description(), parseResult.getTimeData());
+            Task task = createTask(info.description(), parseResult);
             task.setPriority(info.priority());
-            taskList.addTask(task);
-            return BotMessages.formatAddedTask(task, taskList.getTaskCount());
+            // Another thread may have filled the list since the check above
+            int taskCount = taskList.addTask(task);
+            if (taskCount == 0) {
+                return CommandResponse.error(BotMessages.formatTaskLimitReached(taskList.getMaxTasks()));
+            }
+            String added = BotMessages.formatAddedTask(task, taskCount);
+            if (task instanceof Event event) {
+                String conflicts = taskList.describeConflicts(event);
+                return CommandResponse.reply(conflicts.isEmpty() ? added : added + "\n" + conflicts);
+            }
+            return CommandResponse.reply(added);
         } catch (IllegalArgumentException e) {
-            return e.getMessage();
+            return CommandResponse.error(e.getMessage());
         }
     }
 
-    private Task createTask(String description, Object[] timeData) {
-        return switch (taskType) {
-            case TODO -> new ToDo(description);
-            case DEADLINE -> createDeadline(description, timeData);
-            case EVENT -> createEvent(description, timeData);
-            default -> throw new IllegalArgumentException("Unexpected value: " + taskType);
+    private static Task createTask(String description, ParseResult.AddTask parseResult) {
+        return switch (parseResult) {
+            case ParseResult.AddTodo todo -> new ToDo(description);
+            case ParseResult.AddDeadline deadline -> new Deadline(description, deadline.by(), deadline.hasTime());
+            case ParseResult.AddEvent event -> createEvent(description, event);
         };
     }
 
-    private Deadline createDeadline(String description, Object[] timeData) {
-        if (timeData == null || timeData.length < 2
-                || !(timeData[0] instanceof LocalDateTime)
-                || !(timeData[1] instanceof Boolean)) {
-            throw new IllegalArgumentException(BotMessages.INVALID_DATE_FORMAT);
-        }
-        return new Deadline(description, (LocalDateTime) timeData[0], (Boolean) timeData[1]);
-    }
-
-    private Event createEvent(String description, Object[] timeData) {
-        if (timeData == null || timeData.length < 4
-                || !(timeData[0] instanceof LocalDateTime) || !(timeData[1] instanceof Boolean)
-                || !(timeData[2] instanceof LocalDateTime) || !(timeData[3] instanceof Boolean)) {
-            throw new IllegalArgumentException(BotMessages.INVALID_DATE_FORMAT);
-        }
+    private static Event createEvent(String description, ParseResult.AddEvent event) {
         try {
-            return new Event(description,
-                    (LocalDateTime) timeData[0], (Boolean) timeData[1],
-                    (LocalDateTime) timeData[2], (Boolean) timeData[3]);
+            return new Event(description, event.from(), event.hasFromTime(), event.to(), event.hasToTime());
         } catch (IllegalArgumentException e) {
             throw new IllegalArgumentException(BotMessages.INVALID_EVENT_TIME_ORDER, e);
         }
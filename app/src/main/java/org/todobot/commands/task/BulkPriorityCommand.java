@@ -0,0 +1,30 @@
+package org.todobot.commands.task;
+
+import java.util.List;
+
+import org.todobot.commands.core.Command;
+import org.todobot.common.BotMessages;
+import org.todobot.model.Task;
+import org.todobot.parsers.core.ParseResult;
+import org.todobot.service.CommandResponse;
+import org.todobot.service.TaskList;
+
+public class BulkPriorityCommand extends Command<ParseResult.BulkSetPriority> {
+
+    public BulkPriorityCommand(TaskList taskList) {
+        super(taskList);
+    }
+
+    @Override
+    public CommandResponse execute(ParseResult.BulkSetPriority parseResult) {
+        List<Task> changed = taskList.setTasksPriority(parseResult.selection(), parseResult.priority());
+        if (changed == null) {
+            return CommandResponse.error(BotMessages.INVALID_TASK_SELECTION);
+        }
+        if (changed.isEmpty()) {
+            return CommandResponse.reply(BotMessages.NO_TASKS_SELECTED);
+        }
+
+        return CommandResponse.reply(BotMessages.formatPriorityChangedTasks(changed.size()));
+    }
+}
@@ -0,0 +1,45 @@
+package org.todobot.commands.task;
+
+import java.util.List;
+
+import org.todobot.commands.core.Command;
+import org.todobot.common.BotMessages;
+import org.todobot.common.CommandType;
+import org.todobot.model.Task;
+import org.todobot.parsers.core.ParseResult;
+import org.todobot.service.DeletedTasks;
+import org.todobot.service.CommandResponse;
+import org.todobot.service.TaskList;
+
+public class BulkTaskCommand extends Command<ParseResult.BulkTasks> {
+
+    public BulkTaskCommand(TaskList taskList) {
+        super(taskList);
+    }
+
+    @Override
+    public CommandResponse execute(ParseResult.BulkTasks parseResult) {
+        if (parseResult.commandType() == CommandType.DELETE) {
+            return delete(parseResult);
+        }
+        boolean mark = parseResult.commandType() == CommandType.MARK;
+        List<Task> changed = mark ? taskList.markTasks(parseResult.selection())
+                : taskList.unmarkTasks(parseResult.selection());
+
+        if (changed == null) return CommandResponse.error(BotMessages.INVALID_TASK_SELECTION);
+        if (changed.isEmpty()) return CommandResponse.reply(BotMessages.NO_TASKS_SELECTED);
+
+        return CommandResponse.reply(mark ? BotMessages.formatMarkedTasks(changed.size())
+                : BotMessages.formatUnmarkedTasks(changed.size()));
+    }
+
+    // The remaining count comes from the delete itself; reading it afterwards could include other requests' changes
+    private CommandResponse delete(ParseResult.BulkTasks parseResult) {
+        DeletedTasks deleted = taskList.deleteTasks(parseResult.selection());
+
+        if (deleted == null) return CommandResponse.error(BotMessages.INVALID_TASK_SELECTION);
+        if (deleted.tasks().isEmpty()) return CommandResponse.reply(BotMessages.NO_TASKS_SELECTED);
+
+        return CommandResponse.reply(BotMessages.formatDeletedTasks(deleted.tasks().size(), deleted.remainingCount()));
+    }
+}
@@ -0,0 +1,17 @@
+package org.todobot.commands.task;
+
+import org.todobot.commands.core.Command;
+import org.todobot.parsers.core.ParseResult;
+import org.todobot.service.CommandResponse;
+import org.todobot.service.TaskList;
+
+public class ConflictsCommand extends Command<ParseResult> {
+    public ConflictsCommand(TaskList taskList) {
+        super(taskList);
+    }
+    
+    @Override
+    public CommandResponse execute(ParseResult parseResult) {
+        return CommandResponse.reply(taskList.listConflicts());
+    }
+}
@@ -2,17 +2,19 @@ package org.todobot.commands.task;
 
 import org.todobot.commands.core.Command;
 import org.todobot.common.BotMessages;
+import org.todobot.parsers.core.ParseResult;
+import org.todobot.service.CommandResponse;
 import org.todobot.service.TaskList;
 
-public class DeleteAllCommand extends Command {
+public class DeleteAllCommand extends Command<ParseResult> {
     
     public DeleteAllCommand(TaskList taskList) {
         super(taskList);
     }
     
     @Override
-    public String execute(String[] arguments) {
+    public CommandResponse execute(ParseResult parseResult) {
         int taskCount = taskList.getTaskCount();
-        return BotMessages.formatDeleteAllWarning(taskCount);
+        return CommandResponse.reply(BotMessages.formatDeleteAllWarning(taskCount));
     }
 }
\ No newline at end of file
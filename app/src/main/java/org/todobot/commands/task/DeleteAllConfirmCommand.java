@@ -2,17 +2,19 @@ package org.todobot.commands.task;
 
 import org.todobot.commands.core.Command;
 import org.todobot.common.BotMessages;
+import org.todobot.parsers.core.ParseResult;
+import org.todobot.service.CommandResponse;
 import org.todobot.service.TaskList;
 
-public class DeleteAllConfirmCommand extends Command {
+public class DeleteAllConfirmCommand extends Command<ParseResult> {
     
     public DeleteAllConfirmCommand(TaskList taskList) {
         super(taskList);
     }
     
     @Override
-    public String execute(String[] arguments) {
+    public CommandResponse execute(ParseResult parseResult) {
         int deletedCount = taskList.deleteAllTasks();
-        return BotMessages.formatDeletedAllTasks(deletedCount);
+        return CommandResponse.reply(BotMessages.formatDeletedAllTasks(deletedCount));
     }
 }
\ No newline at end of file
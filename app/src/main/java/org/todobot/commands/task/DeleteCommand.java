@@ -2,24 +2,26 @@ package org.todobot.commands.task;
 
 import org.todobot.commands.core.Command;
 import org.todobot.common.BotMessages;
-import org.todobot.model.Task;
+import org.todobot.parsers.core.ParseResult;
+import org.todobot.service.DeletedTasks;
+import org.todobot.service.CommandResponse;
 import org.todobot.service.TaskList;
 
-public class DeleteCommand extends Command {
+public class DeleteCommand extends Command<ParseResult.TaskNumber> {
     
     public DeleteCommand(TaskList taskList) {
         super(taskList);
     }
     
     @Override
-    public String execute(String[] arguments) {
-        int taskNumber = Integer.parseInt(arguments[0]);
+    public CommandResponse execute(ParseResult.TaskNumber parseResult) {
+        int taskNumber = parseResult.taskNumber();
         
-        Task deletedTask = taskList.deleteTask(taskNumber);
-        if (deletedTask == null) {
-            return BotMessages.INVALID_TASK_NUMBER;
+        DeletedTasks deleted = taskList.deleteTask(taskNumber);
+        if (deleted == null) {
+            return CommandResponse.error(BotMessages.INVALID_TASK_NUMBER);
         }
         
-        return BotMessages.formatDeletedTask(deletedTask, taskList.getTaskCount());
+        return CommandResponse.reply(BotMessages.formatDeletedTask(deleted.tasks().get(0), deleted.remainingCount()));
     }
 }
\ No newline at end of file
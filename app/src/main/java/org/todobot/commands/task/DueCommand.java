@@ -0,0 +1,17 @@
+package org.todobot.commands.task;
+
+import org.todobot.commands.core.Command;
+import org.todobot.parsers.core.ParseResult;
+import org.todobot.service.CommandResponse;
+import org.todobot.service.TaskList;
+
+public class DueCommand extends Command<ParseResult.DueOn> {
+    public DueCommand(TaskList taskList) {
+        super(taskList);
+    }
+    
+    @Override
+    public CommandResponse execute(ParseResult.DueOn parseResult) {
+        return CommandResponse.reply(taskList.listDueOn(parseResult.date()));
+    }
+}
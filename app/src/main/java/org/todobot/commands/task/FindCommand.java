@@ -1,19 +1,17 @@
 package org.todobot.commands.task;
 
 import org.todobot.commands.core.Command;
-import org.todobot.common.BotMessages;
+import org.todobot.parsers.core.ParseResult;
+import org.todobot.service.CommandResponse;
 import org.todobot.service.TaskList;
 
-public class FindCommand extends Command {
+public class FindCommand extends Command<ParseResult.Find> {
     public FindCommand(TaskList taskList) {
         super(taskList);
     }
     
     @Override
-    public String execute(String[] arguments) {
-        if (arguments.length == 0) {
-            return BotMessages.SEARCH_KEYWORD_REQUIRED;
-        }
-        return taskList.findTasks(arguments[0]);
+    public CommandResponse execute(ParseResult.Find parseResult) {
+        return CommandResponse.reply(taskList.findTasks(parseResult.keyword()));
     }
 }
\ No newline at end of file
@@ -0,0 +1,17 @@
+package org.todobot.commands.task;
+
+import org.todobot.commands.core.Command;
+import org.todobot.parsers.core.ParseResult;
+import org.todobot.service.CommandResponse;
+import org.todobot.service.TaskList;
+
+public class FreeCommand extends Command<ParseResult.FreeSlots> {
+    public FreeCommand(TaskList taskList) {
+        super(taskList);
+    }
+    
+    @Override
+    public CommandResponse execute(ParseResult.FreeSlots parseResult) {
+        return CommandResponse.reply(taskList.listFreeSlots(parseResult.date(), parseResult.minimum()));
+    }
+}
@@ -1,15 +1,31 @@
 package org.todobot.commands.task;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
 import org.todobot.commands.core.Command;
+import org.todobot.parsers.core.ParseResult;
+import org.todobot.service.CommandResponse;
 import org.todobot.service.TaskList;
 
-public class ListCommand extends Command {
+public class ListCommand extends Command<ParseResult> {
     public ListCommand(TaskList taskList) {
         super(taskList);
     }
     
     @Override
-    public String execute(String[] arguments) {
-        return taskList.listTasks();
+    public CommandResponse execute(ParseResult parseResult) {
+        if (parseResult instanceof ParseResult.ListRange range) {
+            StringBuilder sb = new StringBuilder();
+            boolean inRange;
+            try {
+                inRange = taskList.writeTasks(sb, range.from(), range.to());
+            } catch (IOException e) {
+                // StringBuilder never throws
+                throw new UncheckedIOException(e);
+            }
+            return inRange ? CommandResponse.reply(sb.toString()) : CommandResponse.error(sb.toString());
+        }
+        return CommandResponse.reply(taskList.listTasks());
     }
 }
\ No newline at end of file
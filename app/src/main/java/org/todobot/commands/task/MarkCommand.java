@@ -3,9 +3,11 @@ package org.todobot.commands.task;
 import org.todobot.commands.core.Command;
 import org.todobot.common.BotMessages;
 import org.todobot.model.Task;
+import org.todobot.parsers.core.ParseResult;
+import org.todobot.service.CommandResponse;
 import org.todobot.service.TaskList;
 
-public class MarkCommand extends Command {
+public class MarkCommand extends Command<ParseResult.TaskNumber> {
     private final boolean isMarkOperation;
 
     public MarkCommand(TaskList taskList, boolean isMarkOperation) {
@@ -14,13 +16,12 @@ public class MarkCommand extends Command {
     }
 
     @Override
-    public String execute(String[] arguments) {
-        int taskNumber = Integer.parseInt(arguments[0]);
-        boolean success = isMarkOperation ? taskList.markTask(taskNumber) : taskList.unmarkTask(taskNumber);
+    public CommandResponse execute(ParseResult.TaskNumber parseResult) {
+        int taskNumber = parseResult.taskNumber();
+        Task task = isMarkOperation ? taskList.markTask(taskNumber) : taskList.unmarkTask(taskNumber);
 
-        if (!success) return BotMessages.INVALID_TASK_NUMBER;
+        if (task == null) return CommandResponse.error(BotMessages.INVALID_TASK_NUMBER);
 
-        Task task = taskList.getTask(taskNumber);
-        return isMarkOperation ? BotMessages.formatMarkedTask(task) : BotMessages.formatUnmarkedTask(task);
+        return CommandResponse.reply(isMarkOperation ? BotMessages.formatMarkedTask(task) : BotMessages.formatUnmarkedTask(task));
     }
 }
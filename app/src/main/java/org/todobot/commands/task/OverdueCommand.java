@@ -0,0 +1,19 @@
+package org.todobot.commands.task;
+
+import java.time.LocalDateTime;
+
+import org.todobot.commands.core.Command;
+import org.todobot.parsers.core.ParseResult;
+import org.todobot.service.CommandResponse;
+import org.todobot.service.TaskList;
+
+public class OverdueCommand extends Command<ParseResult> {
+    public OverdueCommand(TaskList taskList) {
+        super(taskList);
+    }
+    
+    @Override
+    public CommandResponse execute(ParseResult parseResult) {
+        return CommandResponse.reply(taskList.listOverdue(LocalDateTime.now()));
+    }
+}
@@ -0,0 +1,121 @@
+package org.todobot.common;
+
+/**
+ * Central place for tunable settings. Every value can be overridden with a
+ * JVM system property, e.g. {@code -Dtodobot.storage.journal=false}.
+ */
+public class BotConfig {
+    private static final String PREFIX = "todobot.";
+
+    // === TASKS ===
+
+    // 0 means no limit
+    public static int getMaxTasks() {
+        return getInt("tasks.max", 0);
+    }
+
+    // Number of tasks shown by "list --page N"
+    public static int getListPageSize() {
+        return Math.max(1, getInt("list.pageSize", 50));
+    }
+
+    // === GUI ===
+
+    // Oldest chat messages are dropped once the transcript holds this many; 0 keeps everything
+    public static int getTranscriptLimit() {
+        return getInt("gui.transcriptLimit", 1000);
+    }
+
+    // Adds a random 100-1000 ms "thinking" pause before each reply
+    public static boolean isProcessingDelayEnabled() {
+        return getBoolean("gui.processingDelay", false);
+    }
+
+    // === REMINDERS ===
+
+    public static boolean areRemindersEnabled() {
+        return getBoolean("reminders.enabled", true);
+    }
+
+    // How long before a deadline or event the reminder is shown
+    public static int getReminderLeadMinutes() {
+        return Math.max(0, getInt("reminders.leadMinutes", 15));
+    }
+
+    // === SERVER ===
+
+    // Port for --server when none is given on the command line; 0 picks a free one
+    public static int getServerPort() {
+        return getInt("server.port", 8080);
+    }
+
+    // Estimated heap that --server may spend on loaded per-user task lists before unloading the oldest
+    public static int getPartitionMemoryBudgetMb() {
+        return Math.max(1, getInt("server.partitions.memoryBudgetMb", 256));
+    }
+
+    // Per-user task lists not used for this long are saved and unloaded
+    public static int getPartitionIdleMinutes() {
+        return Math.max(1, getInt("server.partitions.idleMinutes", 30));
+    }
+
+    // === STORAGE ===
+
+    public static boolean isJournalEnabled() {
+        return getBoolean("storage.journal", true);
+    }
+
+    public static int getJournalCompactionThreshold() {
+        return getInt("storage.journal.compactEvery", 500);
+    }
+
+    // How long the background writer waits to batch up changes before writing them
+    public static int getWriteBehindDelayMs() {
+        return getInt("storage.writeDelayMs", 200);
+    }
+
+    // Number of previous snapshots kept next to the task file; 0 keeps none
+    public static int getBackupCount() {
+        return getInt("storage.backups", 1);
+    }
+
+    // "json" or "binary"; existing files are read in either format
+    public static String getStorageFormat() {
+        return getString("storage.format", "json");
+    }
+
+    // Snapshots of at least this size are memory-mapped when loading; -1 never maps
+    public static int getMmapThresholdMb() {
+        return getInt("storage.mmapThresholdMb", 32);
+    }
+
+    // Writes the task file without indentation; smaller and faster, but harder to read by hand
+    public static boolean isCompactJson() {
+        return getBoolean("storage.compact", false);
+    }
+
+    // === HELPERS ===
+
+    private static String getString(String key, String defaultValue) {
+        String value = System.getProperty(PREFIX + key);
+        return value == null ? defaultValue : value.trim();
+    }
+
+    private static boolean getBoolean(String key, boolean defaultValue) {
+        String value = System.getProperty(PREFIX + key);
+        return value == null ? defaultValue : Boolean.parseBoolean(value.trim());
+    }
+
+    private static int getInt(String key, int defaultValue) {
+        String value = System.getProperty(PREFIX + key);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            System.err.println("Ignoring invalid value for " + PREFIX + key + ": " + value);
+            return defaultValue;
+        }
+    }
+}
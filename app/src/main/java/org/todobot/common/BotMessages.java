@@ -1,5 +1,9 @@
 package org.todobot.common;
+import java.time.Duration;
+import java.time.LocalDate;
+
 import org.todobot.model.Task;
+import org.todobot.parsers.util.DateTimeParser;
 
 public class BotMessages {
     // ANSI color codes
@@ -21,11 +25,11 @@ public class BotMessages {
     public static final String EMPTY_INPUT = RED + " Please enter a command! I'm ready to help." + RESET;
     public static final String INVALID_COMMAND = RED + " I don't recognize that command. " +
             "Type 'help' to see what I can do for you!" + RESET;
-    public static final String TASK_LIMIT_REACHED = RED + " You've reached the 100-task limit! " +
-            "Please delete some tasks before adding new ones." + RESET;
     public static final String INVALID_TASK_NUMBER = RED + " That task number doesn't exist. " +
             "Please check your task list and try again." + RESET;
     public static final String INVALID_NUMBER_FORMAT = RED + " Please enter a valid number." + RESET;
+    public static final String INVALID_TASK_SELECTION = RED + " Some of those task numbers don't exist, so nothing was changed. " +
+            "Please check your task list and try again." + RESET;
     public static final String INVALID_PRIORITY_FORMAT = RED + " Priority format should be: priority [task number] [priority level] " +
             "Example: priority 3 high" + RESET;
     public static final String INVALID_PRIORITY_LEVEL = RED + " Priority level should be high/h, medium/m, or low/l" + RESET;
@@ -37,8 +41,28 @@ public class BotMessages {
     public static final String INVALID_EVENT_FORMAT = RED + " Event format should be: event [description] /from [start] /to [end] " +
             "Both /from and /to are required." + RESET;
     public static final String INVALID_DATE_FORMAT = RED + " Date format should be DD-MM-YYYY or DD-MM-YYYY HH:MM" + RESET;
+    public static final String INVALID_LIST_FORMAT = RED + " List format should be: list, list [from]-[to] or list --page [number]" + RESET;
+    public static final String INVALID_UPCOMING_FORMAT = RED + " Upcoming format should be: upcoming [days]d, e.g. upcoming 7d" + RESET;
+    public static final String INVALID_DUE_FORMAT = RED + " Due format should be: due DD-MM-YYYY" + RESET;
+    public static final String INVALID_FREE_FORMAT = RED + " Free format should be: free DD-MM-YYYY [duration], " +
+            "e.g. free 25-12-2024 1h30m" + RESET;
     public static final String INVALID_EVENT_TIME_ORDER = RED + " Event start time must be before end time." + RESET;
     
+    // The message without color codes, for output that is not a terminal
+    public static String toPlainText(String message) {
+        return message.replace(RED, "").replace(RESET, "");
+    }
+    
+    public static String formatListRangeOutOfBounds(int taskCount) {
+        return RED + " There " + (taskCount == 1 ? "is only 1 task" : "are only " + taskCount + " tasks") +
+               " in your list." + RESET;
+    }
+    
+    public static String formatTaskLimitReached(int maxTasks) {
+        return RED + " You've reached the " + maxTasks + "-task limit! " +
+               "Please delete some tasks before adding new ones." + RESET;
+    }
+    
     // Success messages
     public static String formatAddedTask(Task task, int totalTasks) {
         return " Got it! I've added this task:\n   " + task + 
@@ -58,6 +82,29 @@ public class BotMessages {
                "\n Now you have " + remainingTasks + " tasks in the list.";
     }
     
+    public static final String NO_TASKS_SELECTED = " No tasks matched, so nothing was changed.";
+    
+    public static String formatMarkedTasks(int count) {
+        return " Great! I've marked " + formatTaskCount(count) + " as done.";
+    }
+    
+    public static String formatUnmarkedTasks(int count) {
+        return " Alright, I've marked " + formatTaskCount(count) + " as not done yet.";
+    }
+    
+    public static String formatDeletedTasks(int count, int remainingTasks) {
+        return " Done! I've removed " + formatTaskCount(count) + "." +
+               "\n Now you have " + remainingTasks + " tasks in the list.";
+    }
+    
+    public static String formatPriorityChangedTasks(int count) {
+        return " Perfect! I've updated the priority for " + formatTaskCount(count) + ".";
+    }
+    
+    private static String formatTaskCount(int count) {
+        return count == 1 ? "1 task" : count + " tasks";
+    }
+    
     public static String formatDeletedAllTasks(int deletedCount) {
         if (deletedCount == 0) {
             return " No tasks to delete! Your list is already empty.";
@@ -89,17 +136,104 @@ public class BotMessages {
     public static final String GREETING = " Hi there! What can I do for you?";
     public static final String UNKNOWN_COMMAND = " Unknown command type.";
     
+    // === BATCH MODE MESSAGES ===
+    public static String formatBatchSummary(int commandCount, int failureCount, long elapsedMillis) {
+        long commandsPerSecond = elapsedMillis == 0 ? commandCount : commandCount * 1000L / elapsedMillis;
+        return " Processed " + commandCount + " commands in " + elapsedMillis + " ms (" +
+               commandsPerSecond + " commands/s), " + failureCount + " failed.";
+    }
+    
+    public static String formatBatchFailure(int lineNumber, String input, String message) {
+        return "   line " + lineNumber + ": " + input + " -> " + toPlainText(message).trim();
+    }
+    
+    public static String formatBatchFailuresOmitted(int omittedCount) {
+        return "   ... and " + omittedCount + " more";
+    }
+    
+    // === SERVER MODE MESSAGES ===
+    public static String formatServerListening(int port) {
+        return " Listening on http://127.0.0.1:" + port + " - press Ctrl+C to stop.";
+    }
+    
     // === GUI INTERFACE MESSAGES ===
     public static final String GUI_SYSTEM_READY = " Task Management System Ready";
     public static final String GUI_AVAILABLE_COMMANDS = " Available commands: todo, list, help, deadline, event, bye";
     public static final String GUI_SAVING_GOODBYE = " Saving data... Goodbye!";
+    public static final String GUI_LOAD_FAILED = RED + " Your tasks could not be loaded, so commands are unavailable. " +
+            "Please restart the app." + RESET;
+    public static final String GUI_COMMAND_FAILED = RED + " Something went wrong while running that command. " +
+            "Please try again." + RESET;
     
     // === TASK DISPLAY MESSAGES ===
     public static final String TASK_LIST_HEADER = " Here are the tasks in your list:";
     public static final String TASK_LIST_EMPTY = " No tasks found! Your to-do list is completely empty.";
+    public static String formatTaskRangeHeader(int fromNumber, int toNumber, int taskCount) {
+        return " Here are tasks " + fromNumber + "-" + toNumber + " of " + taskCount + " in your list:";
+    }
+    
     public static final String SEARCH_RESULTS_HEADER = " Here are the matching tasks in your list:";
     public static final String SEARCH_KEYWORD_REQUIRED = " Please provide a keyword to search for.";
     
+    // === DUE DATE MESSAGES ===
+    public static final String OVERDUE_HEADER = " These tasks are overdue:";
+    public static final String NOTHING_OVERDUE = " Nothing is overdue. Nice work!";
+    
+    public static String formatUpcomingHeader(int days) {
+        return " Here are the tasks due in the next " + formatDayCount(days) + ":";
+    }
+    
+    public static String formatNothingUpcoming(int days) {
+        return " Nothing is due in the next " + formatDayCount(days) + ".";
+    }
+    
+    public static String formatDueOnHeader(LocalDate date) {
+        return " Here are the tasks due on " + DateTimeParser.formatDateTime(date.atStartOfDay(), false) + ":";
+    }
+    
+    public static String formatNothingDueOn(LocalDate date) {
+        return " Nothing is due on " + DateTimeParser.formatDateTime(date.atStartOfDay(), false) + ".";
+    }
+    
+    private static String formatDayCount(int days) {
+        return days == 1 ? "day" : days + " days";
+    }
+    
+    public static String formatReminder(Task task) {
+        return " Reminder! This is coming up soon:\n   " + task;
+    }
+    
+    // === EVENT CONFLICT MESSAGES ===
+    public static final String NO_EVENT_CONFLICTS = " No events overlap. Your calendar is clear!";
+    
+    public static String formatEventConflictWarning(int count) {
+        return RED + " Heads up: this event overlaps " + (count == 1 ? "1 other event" : count + " other events") +
+               ":" + RESET;
+    }
+    
+    public static String formatEventConflictsHeader(int count) {
+        return " Found " + (count == 1 ? "1 pair" : count + " pairs") + " of overlapping events:";
+    }
+    
+    public static String formatFreeSlotsHeader(LocalDate date, Duration minimum) {
+        return " Free time on " + DateTimeParser.formatDateTime(date.atStartOfDay(), false) +
+               " of at least " + formatDuration(minimum) + ":";
+    }
+    
+    public static String formatNoFreeSlots(LocalDate date, Duration minimum) {
+        return " No free time of at least " + formatDuration(minimum) + " on " +
+               DateTimeParser.formatDateTime(date.atStartOfDay(), false) + ".";
+    }
+    
+    private static String formatDuration(Duration duration) {
+        long hours = duration.toHours();
+        int minutes = duration.toMinutesPart();
+        if (hours == 0) {
+            return minutes + "m";
+        }
+        return minutes == 0 ? hours + "h" : hours + "h" + minutes + "m";
+    }
+    
     // Dynamic search message
     public static String formatNoMatchingTasks(String keyword) {
         return " No matching tasks found for keyword: " + keyword;
@@ -117,11 +251,18 @@ public class BotMessages {
         
         help.append(" Managing tasks:\n");
         help.append("   list, ls, show, display                - Show all tasks\n");
+        help.append("   list [from]-[to], list --page [number] - Show part of the list\n");
         help.append("   find, search [keyword]                 - Find tasks by keyword\n");
+        help.append("   upcoming [days]d                       - Show unfinished tasks due soon (default 7d)\n");
+        help.append("   overdue                                - Show unfinished tasks past their due time\n");
+        help.append("   due [date]                             - Show unfinished tasks due on a date\n");
+        help.append("   conflicts                              - Show events that overlap each other\n");
+        help.append("   free [date] [duration]                 - Find open time between events (default 30m)\n");
         help.append("   mark [number]                          - Mark task as done\n");
         help.append("   unmark [number]                        - Mark task as not done\n");
         help.append("   priority [number] [level]              - Change task priority (high/medium/low)\n");
         help.append("   delete, del, d, remove, rm [number]    - Delete a task\n");
+        help.append("   mark/unmark/delete/priority [tasks]    - Change many tasks: 3-40, 1,4,9, done, undone, find:[keyword]\n");
         help.append("   delete, del, d, remove, rm all         - Show delete all confirmation\n");
         help.append("   delete, del, d, remove, rm all confirm - Actually delete all tasks\n\n");
         
@@ -134,10 +275,15 @@ public class BotMessages {
         help.append("   deadline submit report /by 25-12-2024\n");
         help.append("   deadline submit report /by 25-12-2024 17:00\n");
         help.append("   event team meeting /from 25-12-2024 14:00 /to 25-12-2024 16:00\n");
+        help.append("   list 20-40, list --page 2\n");
         help.append("   find book\n");
+        help.append("   find book AND pen, find milk OR bread\n");
+        help.append("   upcoming 7d, overdue, due 25-12-2024\n");
+        help.append("   conflicts, free 25-12-2024 1h30m\n");
         help.append("   mark 1\n");
         help.append("   priority 3 high\n");
         help.append("   delete 3\n");
+        help.append("   mark 3-40, delete 1,4,9, delete done, priority find:report high\n");
         help.append("   delete all\n");
         help.append("   delete all confirm\n");
         help.append("   list");
@@ -13,7 +13,12 @@ public enum CommandType {
     FIND("find"),
     HELP("help"),
     BYE("bye"),
-    PRIORITY("priority");
+    PRIORITY("priority"),
+    UPCOMING("upcoming"),
+    OVERDUE("overdue"),
+    DUE("due"),
+    CONFLICTS("conflicts"),
+    FREE("free");
     
     private final String command;
     
@@ -2,8 +2,14 @@ package org.todobot.model;
 
 public abstract class Task {
     protected String description;
-    protected boolean isDone;
-    protected Priority priority;
+    // Volatile so a task changed by one thread is rendered correctly on another
+    protected volatile boolean isDone;
+    protected volatile Priority priority;
+    // Rendered list line, built on first use; only reused while status and priority still match it
+    private volatile Rendered rendered;
+
+    private record Rendered(boolean isDone, Priority priority, String line) {
+    }
 
     public Task(String description) {
         if (description == null) {
@@ -58,6 +64,16 @@ public abstract class Task {
 
     @Override
     public String toString() {
-        return "[" + getTypeIcon() + "][" + getStatusIcon() + "][" + getPriorityIcon() + "] " + description + getDetailsString();
+        boolean done = isDone;
+        Priority currentPriority = priority;
+        Rendered cached = rendered;
+        if (cached != null && cached.isDone() == done && cached.priority() == currentPriority) {
+            return cached.line();
+        }
+        String statusIcon = done ? TaskStatusIcon.DONE.getIcon() : TaskStatusIcon.NOT_DONE.getIcon();
+        String line = "[" + getTypeIcon() + "][" + statusIcon + "][" + currentPriority.getIcon() + "] "
+                + description + getDetailsString();
+        rendered = new Rendered(done, currentPriority, line);
+        return line;
     }
 }
\ No newline at end of file
@@ -0,0 +1,28 @@
+package org.todobot.model;
+
+import java.util.List;
+
+/**
+ * The tasks a bulk command applies to: explicit task numbers, or a filter that is
+ * evaluated against the list when the command runs.
+ */
+public sealed interface TaskSelection {
+
+    // Inclusive ranges of 1-based task numbers; "1,4,9" is three ranges of one task each
+    record Numbers(List<Range> ranges) implements TaskSelection {
+        public Numbers {
+            ranges = List.copyOf(ranges);
+        }
+    }
+
+    record Range(int from, int to) {
+    }
+
+    // Every task that is done, or every task that is not
+    record Status(boolean done) implements TaskSelection {
+    }
+
+    // Every task the search index matches, using the same query syntax as find
+    record Matching(String query) implements TaskSelection {
+    }
+}
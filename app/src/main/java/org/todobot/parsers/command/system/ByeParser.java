@@ -5,10 +5,18 @@ import org.todobot.parsers.core.CommandParser;
 import org.todobot.parsers.core.ParseResult;
 
 public class ByeParser extends CommandParser {
+    private static final ParseResult BYE = new ParseResult.NoArguments(CommandType.BYE);
+    
     @Override
     public ParseResult parse(String arguments) {
         // All bye command variants map to canonical "bye" command
-        return new ParseResult(CommandType.BYE, new String[0]);
+        return BYE;
+    }
+    
+    // Arguments are ignored, so there is nothing to copy out of the input
+    @Override
+    public ParseResult parse(String input, int start, int end) {
+        return BYE;
     }
     
     @Override
@@ -5,9 +5,17 @@ import org.todobot.parsers.core.CommandParser;
 import org.todobot.parsers.core.ParseResult;
 
 public class HelpParser extends CommandParser {
+    private static final ParseResult HELP = new ParseResult.NoArguments(CommandType.HELP);
+    
     @Override
     public ParseResult parse(String arguments) {
-        return new ParseResult(CommandType.HELP, new String[0]);
+        return HELP;
+    }
+    
+    // Arguments are ignored, so there is nothing to copy out of the input
+    @Override
+    public ParseResult parse(String input, int start, int end) {
+        return HELP;
     }
     
     @Override
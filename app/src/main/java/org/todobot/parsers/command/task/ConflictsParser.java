@@ -0,0 +1,25 @@
+package org.todobot.parsers.command.task;
+
+import org.todobot.common.CommandType;
+import org.todobot.parsers.core.CommandParser;
+import org.todobot.parsers.core.ParseResult;
+
+public class ConflictsParser extends CommandParser {
+    private static final ParseResult CONFLICTS = new ParseResult.NoArguments(CommandType.CONFLICTS);
+    
+    @Override
+    public ParseResult parse(String arguments) {
+        return CONFLICTS;
+    }
+    
+    // Arguments are ignored, so there is nothing to copy out of the input
+    @Override
+    public ParseResult parse(String input, int start, int end) {
+        return CONFLICTS;
+    }
+    
+    @Override
+    public String[] getCommandKeywords() {
+        return new String[]{"conflicts"};
+    }
+}
@@ -5,7 +5,6 @@ import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import org.todobot.common.BotMessages;
-import org.todobot.common.CommandType;
 import org.todobot.parsers.core.CommandParser;
 import org.todobot.parsers.core.ParseResult;
 import org.todobot.parsers.util.DateTimeParser;
@@ -19,23 +18,22 @@ public class DeadlineParser extends CommandParser {
         Matcher matcher = DEADLINE_PATTERN.matcher(arguments);
         
         if (!matcher.matches()) {
-            return new ParseResult(BotMessages.INVALID_DEADLINE_FORMAT);
+            return new ParseResult.Error(BotMessages.INVALID_DEADLINE_FORMAT);
         }
         
         String description = matcher.group(1).trim();
         String by = matcher.group(2).trim();
         
         if (description.isEmpty() || by.isEmpty()) {
-            return new ParseResult(BotMessages.INVALID_DEADLINE_FORMAT);
+            return new ParseResult.Error(BotMessages.INVALID_DEADLINE_FORMAT);
         }
         
         // Validate and parse the date/time
         try {
             DateTimeParser.DateTimeResult result = DateTimeParser.parseDateTime(by);
-            Object[] timeData = {result.getDateTime(), result.hasTime()};
-            return new ParseResult(CommandType.DEADLINE, new String[]{description}, timeData);
+            return new ParseResult.AddDeadline(description, result.getDateTime(), result.hasTime());
         } catch (DateTimeParseException e) {
-            return new ParseResult(BotMessages.INVALID_DATE_FORMAT);
+            return new ParseResult.Error(BotMessages.INVALID_DATE_FORMAT);
         }
     }
     
@@ -1,37 +1,59 @@
 package org.todobot.parsers.command.task;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-
 import org.todobot.common.BotMessages;
 import org.todobot.common.CommandType;
+import org.todobot.model.TaskSelection;
 import org.todobot.parsers.core.CommandParser;
 import org.todobot.parsers.core.ParseResult;
+import org.todobot.parsers.util.NumericParser;
+import org.todobot.parsers.util.TaskSelectionParser;
 
 public class DeleteParser extends CommandParser {
-    private static final Pattern POSITIVE_INTEGER_PATTERN = Pattern.compile("^\\s*([1-9]\\d*)\\s*$");
+    private static final ParseResult DELETE_ALL = new ParseResult.NoArguments(CommandType.DELETE_ALL);
+    private static final ParseResult DELETE_ALL_CONFIRM = new ParseResult.NoArguments(CommandType.DELETE_ALL_CONFIRM);
     
     @Override
     public ParseResult parse(String arguments) {
+        return parse(arguments, 0, arguments.length());
+    }
+    
+    @Override
+    public ParseResult parse(String input, int start, int end) {
         // Check if it's the "all confirm" keyword
-        if (arguments.trim().equalsIgnoreCase("all confirm")) {
-            return new ParseResult(CommandType.DELETE_ALL_CONFIRM, new String[]{});
+        if (equalsTrimmedIgnoreCase(input, start, end, "all confirm")) {
+            return DELETE_ALL_CONFIRM;
         }
         
         // Check if it's the "all" keyword
-        if (arguments.trim().equalsIgnoreCase("all")) {
-            return new ParseResult(CommandType.DELETE_ALL, new String[]{});
+        if (equalsTrimmedIgnoreCase(input, start, end, "all")) {
+            return DELETE_ALL;
         }
         
         // Check if it's a positive integer (existing behavior)
-        Matcher matcher = POSITIVE_INTEGER_PATTERN.matcher(arguments);
-        if (matcher.matches()) {
-            String taskNumber = matcher.group(1);
-            return new ParseResult(CommandType.DELETE, new String[]{taskNumber});
+        int taskNumber = NumericParser.parsePositiveInteger(input, start, end);
+        if (taskNumber > 0) {
+            return new ParseResult.TaskNumber(CommandType.DELETE, taskNumber);
+        }
+        
+        // Ranges, lists and filters such as "2-5", "1,4,9" or "done"
+        TaskSelection selection = TaskSelectionParser.parse(input, start, end);
+        if (selection != null) {
+            return new ParseResult.BulkTasks(CommandType.DELETE, selection);
         }
         
         // Invalid format
-        return new ParseResult(BotMessages.INVALID_NUMBER_FORMAT);
+        return new ParseResult.Error(BotMessages.INVALID_NUMBER_FORMAT);
+    }
+    
+    // Equivalent to input.substring(start, end).trim().equalsIgnoreCase(keyword)
+    private static boolean equalsTrimmedIgnoreCase(String input, int start, int end, String keyword) {
+        while (start < end && input.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && input.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        return end - start == keyword.length() && input.regionMatches(true, start, keyword, 0, keyword.length());
     }
     
     @Override
@@ -0,0 +1,28 @@
+package org.todobot.parsers.command.task;
+
+import java.time.format.DateTimeParseException;
+
+import org.todobot.common.BotMessages;
+import org.todobot.parsers.core.CommandParser;
+import org.todobot.parsers.core.ParseResult;
+import org.todobot.parsers.util.DateTimeParser;
+
+public class DueParser extends CommandParser {
+    @Override
+    public ParseResult parse(String arguments) {
+        try {
+            DateTimeParser.DateTimeResult result = DateTimeParser.parseDateTime(arguments);
+            if (result.hasTime()) {
+                return new ParseResult.Error(BotMessages.INVALID_DUE_FORMAT);
+            }
+            return new ParseResult.DueOn(result.getDateTime().toLocalDate());
+        } catch (DateTimeParseException e) {
+            return new ParseResult.Error(BotMessages.INVALID_DUE_FORMAT);
+        }
+    }
+    
+    @Override
+    public String[] getCommandKeywords() {
+        return new String[]{"due"};
+    }
+}
@@ -5,7 +5,6 @@ import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import org.todobot.common.BotMessages;
-import org.todobot.common.CommandType;
 import org.todobot.parsers.core.CommandParser;
 import org.todobot.parsers.core.ParseResult;
 import org.todobot.parsers.util.DateTimeParser;
@@ -19,7 +18,7 @@ public class EventParser extends CommandParser {
         Matcher matcher = EVENT_PATTERN.matcher(arguments);
         
         if (!matcher.matches()) {
-            return new ParseResult(BotMessages.INVALID_EVENT_FORMAT);
+            return new ParseResult.Error(BotMessages.INVALID_EVENT_FORMAT);
         }
         
         String description = matcher.group(1).trim();
@@ -27,7 +26,7 @@ public class EventParser extends CommandParser {
         String to = matcher.group(3).trim();
         
         if (description.isEmpty() || from.isEmpty() || to.isEmpty()) {
-            return new ParseResult(BotMessages.INVALID_EVENT_FORMAT);
+            return new ParseResult.Error(BotMessages.INVALID_EVENT_FORMAT);
         }
         
         // Validate and parse both dates
@@ -35,14 +34,11 @@ public class EventParser extends CommandParser {
             DateTimeParser.DateTimeResult fromResult = DateTimeParser.parseDateTime(from);
             DateTimeParser.DateTimeResult toResult = DateTimeParser.parseDateTime(to);
             
-            Object[] timeData = {
-                fromResult.getDateTime(), fromResult.hasTime(),
-                toResult.getDateTime(), toResult.hasTime()
-            };
-            
-            return new ParseResult(CommandType.EVENT, new String[]{description}, timeData);
+            return new ParseResult.AddEvent(description,
+                    fromResult.getDateTime(), fromResult.hasTime(),
+                    toResult.getDateTime(), toResult.hasTime());
         } catch (DateTimeParseException e) {
-            return new ParseResult(BotMessages.INVALID_DATE_FORMAT);
+            return new ParseResult.Error(BotMessages.INVALID_DATE_FORMAT);
         }
     }
     
@@ -1,6 +1,5 @@
 package org.todobot.parsers.command.task;
 
-import org.todobot.common.CommandType;
 import org.todobot.parsers.core.CommandParser;
 import org.todobot.parsers.core.ParseResult;
 
@@ -8,7 +7,19 @@ public class FindParser extends CommandParser {
     @Override
     public ParseResult parse(String arguments) {
         String keyword = arguments.trim();
-        return new ParseResult(CommandType.FIND, new String[]{keyword});
+        return new ParseResult.Find(keyword);
+    }
+    
+    @Override
+    public ParseResult parse(String input, int start, int end) {
+        // Trim the range first so the keyword is copied out only once
+        while (start < end && input.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && input.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        return parse(input.substring(start, end));
     }
     
     @Override
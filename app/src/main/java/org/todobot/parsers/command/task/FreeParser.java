@@ -0,0 +1,58 @@
+package org.todobot.parsers.command.task;
+
+import java.time.Duration;
+import java.time.format.DateTimeParseException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.todobot.common.BotMessages;
+import org.todobot.parsers.core.CommandParser;
+import org.todobot.parsers.core.ParseResult;
+import org.todobot.parsers.util.DateTimeParser;
+
+public class FreeParser extends CommandParser {
+    private static final Duration DEFAULT_MINIMUM = Duration.ofMinutes(30);
+    // Regex: optional hours then optional minutes, e.g. 2h, 45m or 1h30m
+    private static final Pattern DURATION_PATTERN = Pattern.compile("(?i)(?:(\\d{1,4})h)?(?:(\\d{1,5})m)?");
+    
+    // Accepts "[date]" or "[date] [duration]"
+    @Override
+    public ParseResult parse(String arguments) {
+        String[] parts = arguments.trim().split("\\s+");
+        if (parts.length > 2) {
+            return new ParseResult.Error(BotMessages.INVALID_FREE_FORMAT);
+        }
+        
+        Duration minimum = parts.length == 2 ? parseDuration(parts[1]) : DEFAULT_MINIMUM;
+        if (minimum == null) {
+            return new ParseResult.Error(BotMessages.INVALID_FREE_FORMAT);
+        }
+        try {
+            DateTimeParser.DateTimeResult result = DateTimeParser.parseDateTime(parts[0]);
+            return new ParseResult.FreeSlots(result.getDateTime().toLocalDate(), minimum);
+        } catch (DateTimeParseException e) {
+            return new ParseResult.Error(BotMessages.INVALID_FREE_FORMAT);
+        }
+    }
+    
+    // Null unless the text is a positive number of hours and/or minutes
+    private static Duration parseDuration(String text) {
+        Matcher matcher = DURATION_PATTERN.matcher(text);
+        if (!matcher.matches()) {
+            return null;
+        }
+        Duration duration = Duration.ZERO;
+        if (matcher.group(1) != null) {
+            duration = duration.plusHours(Long.parseLong(matcher.group(1)));
+        }
+        if (matcher.group(2) != null) {
+            duration = duration.plusMinutes(Long.parseLong(matcher.group(2)));
+        }
+        return duration.isZero() ? null : duration;
+    }
+    
+    @Override
+    public String[] getCommandKeywords() {
+        return new String[]{"free"};
+    }
+}
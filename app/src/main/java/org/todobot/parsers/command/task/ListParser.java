@@ -1,17 +1,72 @@
 package org.todobot.parsers.command.task;
 
+import org.todobot.common.BotConfig;
+import org.todobot.common.BotMessages;
 import org.todobot.common.CommandType;
 import org.todobot.parsers.core.CommandParser;
 import org.todobot.parsers.core.ParseResult;
+import org.todobot.parsers.util.NumericParser;
 
 public class ListParser extends CommandParser {
+    private static final ParseResult LIST = new ParseResult.NoArguments(CommandType.LIST);
+    private static final String PAGE_OPTION = "--page";
+
+    private final int pageSize = BotConfig.getListPageSize();
+
     @Override
     public ParseResult parse(String arguments) {
-        return new ParseResult(CommandType.LIST, new String[0]);
+        return parse(arguments, 0, arguments.length());
+    }
+
+    /**
+     * Accepts nothing, "[from]-[to]" or "--page [number]". Arguments that start with a digit
+     * or the page option must be a valid range or page; anything else is ignored, as it was
+     * before list took arguments, so "list all" still shows the whole list.
+     */
+    @Override
+    public ParseResult parse(String input, int start, int end) {
+        while (start < end && isWhitespace(input.charAt(start))) {
+            start++;
+        }
+        if (start == end || !(input.startsWith(PAGE_OPTION, start) || isDigit(input.charAt(start)))) {
+            return LIST;
+        }
+
+        if (input.startsWith(PAGE_OPTION, start)) {
+            int pageStart = start + PAGE_OPTION.length();
+            if (pageStart == end || !isWhitespace(input.charAt(pageStart))) {
+                return new ParseResult.Error(BotMessages.INVALID_LIST_FORMAT);
+            }
+            int page = NumericParser.parsePositiveInteger(input, pageStart, end);
+            if (page < 0) {
+                return new ParseResult.Error(BotMessages.INVALID_LIST_FORMAT);
+            }
+            long from = (long) (page - 1) * pageSize + 1;
+            return new ParseResult.ListRange(saturate(from), saturate(from + pageSize - 1));
+        }
+
+        int dash = input.indexOf('-', start);
+        if (dash < 0 || dash >= end) {
+            return new ParseResult.Error(BotMessages.INVALID_LIST_FORMAT);
+        }
+        int from = NumericParser.parsePositiveInteger(input, start, dash);
+        int to = NumericParser.parsePositiveInteger(input, dash + 1, end);
+        if (from < 0 || to < 0 || from > to) {
+            return new ParseResult.Error(BotMessages.INVALID_LIST_FORMAT);
+        }
+        return new ParseResult.ListRange(from, to);
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
     }
-    
+
+    private static int saturate(long value) {
+        return (int) Math.min(value, Integer.MAX_VALUE);
+    }
+
     @Override
     public String[] getCommandKeywords() {
         return new String[]{"list", "ls", "show", "display"};
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,25 @@
+package org.todobot.parsers.command.task;
+
+import org.todobot.common.CommandType;
+import org.todobot.parsers.core.CommandParser;
+import org.todobot.parsers.core.ParseResult;
+
+public class OverdueParser extends CommandParser {
+    private static final ParseResult OVERDUE = new ParseResult.NoArguments(CommandType.OVERDUE);
+    
+    @Override
+    public ParseResult parse(String arguments) {
+        return OVERDUE;
+    }
+    
+    // Arguments are ignored, so there is nothing to copy out of the input
+    @Override
+    public ParseResult parse(String input, int start, int end) {
+        return OVERDUE;
+    }
+    
+    @Override
+    public String[] getCommandKeywords() {
+        return new String[]{"overdue"};
+    }
+}
@@ -4,23 +4,31 @@ import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import org.todobot.common.BotMessages;
-import org.todobot.common.CommandType;
+import org.todobot.model.Priority;
+import org.todobot.model.TaskSelection;
 import org.todobot.parsers.core.CommandParser;
 import org.todobot.parsers.core.ParseResult;
+import org.todobot.parsers.util.NumericParser;
+import org.todobot.parsers.util.TaskSelectionParser;
 
 public class PriorityParser extends CommandParser {
-    // Regex: Matches task number (positive integer) followed by priority level (optional ! prefix + alphabetic chars)
-    private static final Pattern PRIORITY_PATTERN = Pattern.compile("^\\s*([1-9]\\d*)\\s+(!?[a-zA-Z]+)\\s*$");
+    // Regex: Matches the tasks (a number, range, list or filter) followed by priority level (optional ! prefix + alphabetic chars)
+    private static final Pattern PRIORITY_PATTERN = Pattern.compile("^\\s*(\\S.*?)\\s+(!?[a-zA-Z]+)\\s*$");
     
     @Override
     public ParseResult parse(String arguments) {
         Matcher matcher = PRIORITY_PATTERN.matcher(arguments);
         
         if (!matcher.matches()) {
-            return new ParseResult(BotMessages.INVALID_PRIORITY_FORMAT);
+            return new ParseResult.Error(BotMessages.INVALID_PRIORITY_FORMAT);
         }
         
-        String taskNumber = matcher.group(1);
+        int taskNumber = NumericParser.parsePositiveInteger(arguments, matcher.start(1), matcher.end(1));
+        TaskSelection selection = taskNumber > 0 ? null
+                : TaskSelectionParser.parse(arguments, matcher.start(1), matcher.end(1));
+        if (taskNumber < 0 && selection == null) {
+            return new ParseResult.Error(BotMessages.INVALID_PRIORITY_FORMAT);
+        }
         String priorityToken = matcher.group(2);
         
         // Remove optional ! prefix from priority token
@@ -31,10 +39,14 @@ public class PriorityParser extends CommandParser {
         // Validate priority token
         String normalizedPriority = priorityToken.toLowerCase();
         if (!isValidPriorityToken(normalizedPriority)) {
-            return new ParseResult(BotMessages.INVALID_PRIORITY_LEVEL);
+            return new ParseResult.Error(BotMessages.INVALID_PRIORITY_LEVEL);
         }
         
-        return new ParseResult(CommandType.PRIORITY, new String[]{taskNumber, priorityToken});
+        Priority priority = Priority.fromString(normalizedPriority);
+        if (selection != null) {
+            return new ParseResult.BulkSetPriority(selection, priority);
+        }
+        return new ParseResult.SetPriority(taskNumber, priority);
     }
     
     @Override
@@ -0,0 +1,44 @@
+package org.todobot.parsers.command.task;
+
+import org.todobot.common.BotMessages;
+import org.todobot.parsers.core.CommandParser;
+import org.todobot.parsers.core.ParseResult;
+import org.todobot.parsers.util.NumericParser;
+
+public class UpcomingParser extends CommandParser {
+    private static final ParseResult NEXT_WEEK = new ParseResult.Upcoming(7);
+    
+    @Override
+    public ParseResult parse(String arguments) {
+        return parse(arguments, 0, arguments.length());
+    }
+    
+    // Accepts nothing (the next 7 days), "[days]d" or just "[days]"
+    @Override
+    public ParseResult parse(String input, int start, int end) {
+        while (end > start && isWhitespace(input.charAt(end - 1))) {
+            end--;
+        }
+        while (start < end && isWhitespace(input.charAt(start))) {
+            start++;
+        }
+        if (start == end) {
+            return NEXT_WEEK;
+        }
+        
+        char unit = input.charAt(end - 1);
+        if (unit == 'd' || unit == 'D') {
+            end--;
+        }
+        int days = NumericParser.parsePositiveInteger(input, start, end);
+        if (days < 0) {
+            return new ParseResult.Error(BotMessages.INVALID_UPCOMING_FORMAT);
+        }
+        return new ParseResult.Upcoming(days);
+    }
+    
+    @Override
+    public String[] getCommandKeywords() {
+        return new String[]{"upcoming"};
+    }
+}
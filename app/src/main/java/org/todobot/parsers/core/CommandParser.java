@@ -3,4 +3,17 @@ package org.todobot.parsers.core;
 public abstract class CommandParser {
     public abstract ParseResult parse(String arguments);
     public abstract String[] getCommandKeywords();
-}
\ No newline at end of file
+    
+    /**
+     * Parses the arguments found at input[start, end). Parsers that can work on the
+     * range directly override this to skip copying the arguments into a new string.
+     */
+    public ParseResult parse(String input, int start, int end) {
+        return parse(input.substring(start, end));
+    }
+    
+    // Same characters as the regex class \s; shared with the parser utilities so they all split input alike
+    public static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+}
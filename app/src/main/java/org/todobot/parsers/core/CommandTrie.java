@@ -0,0 +1,54 @@
+package org.todobot.parsers.core;
+
+/**
+ * Case-insensitive keyword lookup that reads the keyword straight out of the input
+ * string, so dispatching a command needs neither a substring nor a lower-cased copy.
+ */
+class CommandTrie {
+    private static final int ALPHABET_SIZE = 128;
+    
+    private static final class Node {
+        final Node[] children = new Node[ALPHABET_SIZE];
+        CommandParser parser;
+    }
+    
+    private final Node root = new Node();
+    
+    void put(String keyword, CommandParser parser) {
+        Node node = root;
+        for (int i = 0; i < keyword.length(); i++) {
+            int c = toLowerAscii(keyword.charAt(i));
+            if (c < 0) {
+                throw new IllegalArgumentException("Command keywords must be ASCII: " + keyword);
+            }
+            if (node.children[c] == null) {
+                node.children[c] = new Node();
+            }
+            node = node.children[c];
+        }
+        node.parser = parser;
+    }
+    
+    // Looks up input[start, end) as a keyword
+    CommandParser get(String input, int start, int end) {
+        Node node = root;
+        for (int i = start; i < end; i++) {
+            int c = toLowerAscii(input.charAt(i));
+            if (c < 0) {
+                return null;
+            }
+            node = node.children[c];
+            if (node == null) {
+                return null;
+            }
+        }
+        return node.parser;
+    }
+    
+    private static int toLowerAscii(char c) {
+        if (c >= ALPHABET_SIZE) {
+            return -1;
+        }
+        return c >= 'A' && c <= 'Z' ? c + ('a' - 'A') : c;
+    }
+}
@@ -1,58 +1,146 @@
 package org.todobot.parsers.core;
 
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
 import org.todobot.common.CommandType;
+import org.todobot.model.Priority;
+import org.todobot.model.TaskSelection;
+
+/**
+ * Outcome of parsing one line of input. Each command has its own record holding
+ * its arguments already converted to their final types, so commands read plain
+ * fields instead of unpacking string or object arrays.
+ */
+public sealed interface ParseResult {
+    CommandType getCommandType();
+
+    default boolean isValid() {
+        return true;
+    }
+
+    default String getErrorMessage() {
+        return "";
+    }
+
+    // Results that create a new task
+    sealed interface AddTask extends ParseResult {
+        String description();
+    }
+
+    record AddTodo(String description) implements AddTask {
+        @Override
+        public CommandType getCommandType() {
+            return CommandType.TODO;
+        }
+    }
 
-public class ParseResult {
-    private CommandType commandType;
-    private String[] arguments;
-    private Object[] timeData;
-    private boolean isValid;
-    private String errorMessage;
-    
-    public ParseResult(CommandType commandType, String[] arguments, Object[] timeData, boolean isValid, String errorMessage) {
-        this.commandType = commandType;
-        this.arguments = arguments;
-        this.timeData = timeData;
-        this.isValid = isValid;
-        this.errorMessage = errorMessage;
-    }
-    
-    // Success constructor with string arguments only
-    public ParseResult(CommandType commandType, String[] arguments) {
-        this(commandType, arguments, null, true, "");
-    }
-    
-    // Success constructor with time data
-    public ParseResult(CommandType commandType, String[] arguments, Object[] timeData) {
-        this(commandType, arguments, timeData, true, "");
-    }
-    
-    // Error constructor
-    public ParseResult(String errorMessage) {
-        this(null, new String[0], null, false, errorMessage);
-    }
-    
-    public CommandType getCommandType() {
-        return commandType;
-    }
-    
-    public String[] getArguments() {
-        return arguments;
-    }
-    
-    public boolean isValid() {
-        return isValid;
-    }
-    
-    public String getErrorMessage() {
-        return errorMessage;
-    }
-    
-    public Object[] getTimeData() {
-        return timeData;
-    }
-    
-    public boolean isEmpty() {
-        return commandType == null && arguments.length == 0;
-    }
-}
\ No newline at end of file
+    record AddDeadline(String description, LocalDateTime by, boolean hasTime) implements AddTask {
+        @Override
+        public CommandType getCommandType() {
+            return CommandType.DEADLINE;
+        }
+    }
+
+    record AddEvent(String description, LocalDateTime from, boolean hasFromTime,
+                    LocalDateTime to, boolean hasToTime) implements AddTask {
+        @Override
+        public CommandType getCommandType() {
+            return CommandType.EVENT;
+        }
+    }
+
+    // mark, unmark and delete
+    record TaskNumber(CommandType commandType, int taskNumber) implements ParseResult {
+        @Override
+        public CommandType getCommandType() {
+            return commandType;
+        }
+    }
+
+    record SetPriority(int taskNumber, Priority priority) implements ParseResult {
+        @Override
+        public CommandType getCommandType() {
+            return CommandType.PRIORITY;
+        }
+    }
+
+    // mark, unmark and delete applied to several tasks at once
+    record BulkTasks(CommandType commandType, TaskSelection selection) implements ParseResult {
+        @Override
+        public CommandType getCommandType() {
+            return commandType;
+        }
+    }
+
+    record BulkSetPriority(TaskSelection selection, Priority priority) implements ParseResult {
+        @Override
+        public CommandType getCommandType() {
+            return CommandType.PRIORITY;
+        }
+    }
+
+    record Find(String keyword) implements ParseResult {
+        @Override
+        public CommandType getCommandType() {
+            return CommandType.FIND;
+        }
+    }
+
+    // list with a range of task numbers, both ends inclusive
+    record ListRange(int from, int to) implements ParseResult {
+        @Override
+        public CommandType getCommandType() {
+            return CommandType.LIST;
+        }
+    }
+
+    // Unfinished tasks due within the next given number of days
+    record Upcoming(int days) implements ParseResult {
+        @Override
+        public CommandType getCommandType() {
+            return CommandType.UPCOMING;
+        }
+    }
+
+    record DueOn(LocalDate date) implements ParseResult {
+        @Override
+        public CommandType getCommandType() {
+            return CommandType.DUE;
+        }
+    }
+
+    // Gaps between events on a day that last at least the given duration
+    record FreeSlots(LocalDate date, Duration minimum) implements ParseResult {
+        @Override
+        public CommandType getCommandType() {
+            return CommandType.FREE;
+        }
+    }
+
+    // Commands that take no arguments, such as list and help
+    record NoArguments(CommandType commandType) implements ParseResult {
+        @Override
+        public CommandType getCommandType() {
+            return commandType;
+        }
+    }
+
+    record Error(String message) implements ParseResult {
+        @Override
+        public CommandType getCommandType() {
+            return null;
+        }
+
+        @Override
+        public boolean isValid() {
+            return false;
+        }
+
+        @Override
+        public String getErrorMessage() {
+            return message;
+        }
+    }
+}
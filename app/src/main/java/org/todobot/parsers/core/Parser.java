@@ -4,25 +4,38 @@ import org.todobot.common.BotMessages;
 public class Parser {
     public static ParseResult parse(String input) {
         if (input == null) {
-            return new ParseResult(BotMessages.EMPTY_INPUT);
+            return new ParseResult.Error(BotMessages.EMPTY_INPUT);
         }
         
-        String trimmed = input.trim();
-        if (trimmed.isEmpty()) {
-            return new ParseResult(BotMessages.EMPTY_INPUT);
+        // Work on offsets into the input instead of trimming and splitting it
+        int start = 0;
+        int end = input.length();
+        while (start < end && input.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && input.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        if (start == end) {
+            return new ParseResult.Error(BotMessages.EMPTY_INPUT);
         }
         
-        String[] parts = trimmed.split("\\s+", 2);
-        String command = parts[0].toLowerCase();
-        String arguments = parts.length > 1 ? parts[1] : "";
+        int keywordEnd = start;
+        while (keywordEnd < end && !CommandParser.isWhitespace(input.charAt(keywordEnd))) {
+            keywordEnd++;
+        }
+        int argumentsStart = keywordEnd;
+        while (argumentsStart < end && CommandParser.isWhitespace(input.charAt(argumentsStart))) {
+            argumentsStart++;
+        }
         
         // Delegate all commands to registered parsers
-        CommandParser parser = ParserRegistry.getParser(command);
+        CommandParser parser = ParserRegistry.getParser(input, start, keywordEnd);
         if (parser != null) {
-            return parser.parse(arguments);
+            return parser.parse(input, argumentsStart, end);
         }
         
         // Unknown command
-        return new ParseResult(BotMessages.INVALID_COMMAND);
+        return new ParseResult.Error(BotMessages.INVALID_COMMAND);
     }
-}
\ No newline at end of file
+}
@@ -5,18 +5,24 @@ import java.util.Map;
 
 import org.todobot.parsers.command.system.ByeParser;
 import org.todobot.parsers.command.system.HelpParser;
+import org.todobot.parsers.command.task.ConflictsParser;
 import org.todobot.parsers.command.task.DeadlineParser;
 import org.todobot.parsers.command.task.DeleteParser;
+import org.todobot.parsers.command.task.DueParser;
 import org.todobot.parsers.command.task.EventParser;
 import org.todobot.parsers.command.task.FindParser;
+import org.todobot.parsers.command.task.FreeParser;
 import org.todobot.parsers.command.task.ListParser;
 import org.todobot.parsers.command.task.MarkParser;
+import org.todobot.parsers.command.task.OverdueParser;
 import org.todobot.parsers.command.task.PriorityParser;
 import org.todobot.parsers.command.task.ToDoParser;
 import org.todobot.parsers.command.task.UnmarkParser;
+import org.todobot.parsers.command.task.UpcomingParser;
 
 public class ParserRegistry {
     private static final Map<String, CommandParser> parsers = new HashMap<>();
+    private static final CommandTrie keywordTrie = new CommandTrie();
     
     static {
         registerParser(new ToDoParser());
@@ -30,11 +36,17 @@ public class ParserRegistry {
         registerParser(new HelpParser());
         registerParser(new ByeParser());
         registerParser(new PriorityParser());
+        registerParser(new UpcomingParser());
+        registerParser(new OverdueParser());
+        registerParser(new DueParser());
+        registerParser(new ConflictsParser());
+        registerParser(new FreeParser());
     }
     
     private static void registerParser(CommandParser parser) {
         for (String keyword : parser.getCommandKeywords()) {
             parsers.put(keyword, parser);
+            keywordTrie.put(keyword, parser);
         }
     }
     
@@ -42,6 +54,11 @@ public class ParserRegistry {
         return parsers.get(command);
     }
     
+    // Case-insensitive lookup of the keyword at input[start, end) without copying it
+    public static CommandParser getParser(String input, int start, int end) {
+        return keywordTrie.get(input, start, end);
+    }
+    
     public static boolean hasParser(String command) {
         return parsers.containsKey(command);
     }
@@ -2,8 +2,11 @@ package org.todobot.parsers.util;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.Month;
+import java.time.Year;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
+import java.util.regex.Pattern;
 
 public class DateTimeParser {
     private static final DateTimeFormatter INPUT_DATE_FORMAT = DateTimeFormatter.ofPattern("dd-MM-yyyy");
@@ -11,6 +14,13 @@ public class DateTimeParser {
     private static final DateTimeFormatter OUTPUT_DATETIME_FORMAT = DateTimeFormatter.ofPattern("dd MMM yyyy, HHmm");
     private static final DateTimeFormatter OUTPUT_DATE_FORMAT = DateTimeFormatter.ofPattern("dd MMM yyyy");
     
+    // Regex: 2 digits-2 digits-4 digits, whitespace, then 2 digits:2 digits (date with time format)
+    private static final Pattern DATETIME_PATTERN = Pattern.compile("\\d{2}-\\d{2}-\\d{4}\\s+\\d{2}:\\d{2}");
+    // Regex: exactly 2 digits-2 digits-4 digits (date only format)
+    private static final Pattern DATE_PATTERN = Pattern.compile("\\d{2}-\\d{2}-\\d{4}");
+    private static final int DATE_LENGTH = "dd-MM-yyyy".length();
+    private static final int DATETIME_LENGTH = "dd-MM-yyyy HH:mm".length();
+    
     public static class DateTimeResult {
         private final LocalDateTime dateTime;
         private final boolean hasTime;
@@ -30,18 +40,79 @@ public class DateTimeParser {
     }
     
     public static DateTimeResult parseDateTime(String input) throws DateTimeParseException {
-         if (input == null) {
+        if (input == null) {
             throw new DateTimeParseException("Date/time input cannot be empty", "", 0);
         }
-        if (input.trim().isEmpty()) {
+        
+        // Same bounds as trim(), without allocating a new string
+        int start = 0;
+        int end = input.length();
+        while (start < end && input.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && input.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        if (start == end) {
             throw new DateTimeParseException("Date/time input cannot be empty", input, 0);
-        }             
+        }
         
-        String trimmedInput = input.trim();
+        DateTimeResult result = parseFixedWidth(input, start, end);
+        if (result != null) {
+            return result;
+        }
+        return parseWithFormatter(input.substring(start, end));
+    }
+    
+    // Fast path for well-formed dd-MM-yyyy[ HH:mm] input with in-range values. Returns null for
+    // anything else, including values the formatter would adjust (31-04, 24:00), so those
+    // keep their exact behaviour and error messages
+    private static DateTimeResult parseFixedWidth(String input, int start, int end) {
+        int length = end - start;
+        if (length != DATE_LENGTH && length != DATETIME_LENGTH) {
+            return null;
+        }
+        if (input.charAt(start + 2) != '-' || input.charAt(start + 5) != '-') {
+            return null;
+        }
+        int day = parseDigits(input, start, 2);
+        int month = parseDigits(input, start + 3, 2);
+        int year = parseDigits(input, start + 6, 4);
+        if (month < 1 || month > 12 || year < 1 || day < 1
+                || day > Month.of(month).length(Year.isLeap(year))) {
+            return null;
+        }
+        if (length == DATE_LENGTH) {
+            return new DateTimeResult(LocalDateTime.of(year, month, day, 0, 0), false);
+        }
         
+        if (input.charAt(start + 10) != ' ' || input.charAt(start + 13) != ':') {
+            return null;
+        }
+        int hour = parseDigits(input, start + 11, 2);
+        int minute = parseDigits(input, start + 14, 2);
+        if (hour < 0 || hour > 23 || minute < 0 || minute > 59) {
+            return null;
+        }
+        return new DateTimeResult(LocalDateTime.of(year, month, day, hour, minute), true);
+    }
+    
+    // Returns -1 unless all characters are ASCII digits
+    private static int parseDigits(String input, int from, int count) {
+        int value = 0;
+        for (int i = from; i < from + count; i++) {
+            char c = input.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+    
+    private static DateTimeResult parseWithFormatter(String trimmedInput) throws DateTimeParseException {
         // Try to parse as date with time first (DD-MM-YYYY HH:MM)
-        // Regex: Matches 2 digits-2 digits-4 digits, followed by whitespace, then 2 digits:2 digits (date with time format)
-        if (trimmedInput.matches("\\d{2}-\\d{2}-\\d{4}\\s+\\d{2}:\\d{2}")) {
+        if (DATETIME_PATTERN.matcher(trimmedInput).matches()) {
             try {
                 LocalDateTime dateTime = LocalDateTime.parse(trimmedInput, INPUT_DATETIME_FORMAT);
                 return new DateTimeResult(dateTime, true);
@@ -52,8 +123,7 @@ public class DateTimeParser {
         }
         
         // Try to parse as date only (DD-MM-YYYY)
-        // Regex: Matches exactly 2 digits-2 digits-4 digits (date only format)
-        if (trimmedInput.matches("\\d{2}-\\d{2}-\\d{4}")) {
+        if (DATE_PATTERN.matcher(trimmedInput).matches()) {
             try {
                 LocalDate date = LocalDate.parse(trimmedInput, INPUT_DATE_FORMAT);
                 LocalDateTime dateTime = date.atStartOfDay();
@@ -1,27 +1,53 @@
 package org.todobot.parsers.util;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-
 import org.todobot.common.BotMessages;
 import org.todobot.common.CommandType;
+import org.todobot.model.TaskSelection;
 import org.todobot.parsers.core.CommandParser;
 import org.todobot.parsers.core.ParseResult;
 
 public abstract class NumericParser extends CommandParser {
-    // Regex: Matches positive integers (1-9 followed by any digits), with optional whitespace at start/end
-    private static final Pattern POSITIVE_INTEGER_PATTERN = Pattern.compile("^\\s*([1-9]\\d*)\\s*$");
-    
     @Override
     public ParseResult parse(String arguments) {
-        Matcher matcher = POSITIVE_INTEGER_PATTERN.matcher(arguments);
-        
-        if (!matcher.matches()) {
-            return new ParseResult(BotMessages.INVALID_NUMBER_FORMAT);
+        return parse(arguments, 0, arguments.length());
+    }
+    
+    @Override
+    public ParseResult parse(String input, int start, int end) {
+        int taskNumber = parsePositiveInteger(input, start, end);
+        if (taskNumber > 0) {
+            return new ParseResult.TaskNumber(getCommandType(), taskNumber);
+        }
+        TaskSelection selection = TaskSelectionParser.parse(input, start, end);
+        if (selection != null) {
+            return new ParseResult.BulkTasks(getCommandType(), selection);
+        }
+        return new ParseResult.Error(BotMessages.INVALID_NUMBER_FORMAT);
+    }
+    
+    /**
+     * Same as matching ^\s*([1-9]\d*)\s*$ against input[start, end); returns the value, or -1.
+     * Numbers too large for an int come back as Integer.MAX_VALUE, which no task list reaches.
+     */
+    public static int parsePositiveInteger(String input, int start, int end) {
+        while (start < end && isWhitespace(input.charAt(start))) {
+            start++;
+        }
+        while (end > start && isWhitespace(input.charAt(end - 1))) {
+            end--;
+        }
+        if (start == end || input.charAt(start) < '1' || input.charAt(start) > '9') {
+            return -1;
+        }
+        long value = 0;
+        for (int i = start; i < end; i++) {
+            char c = input.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            value = Math.min(value * 10 + (c - '0'), Integer.MAX_VALUE);
         }
-        
-        String taskNumber = matcher.group(1);
-        return new ParseResult(getCommandType(), new String[]{taskNumber});
+        return (int) value;
     }
     
     protected abstract CommandType getCommandType();
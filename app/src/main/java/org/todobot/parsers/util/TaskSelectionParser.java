@@ -0,0 +1,73 @@
+package org.todobot.parsers.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.todobot.model.TaskSelection;
+import org.todobot.parsers.core.CommandParser;
+
+public class TaskSelectionParser {
+    private static final String DONE = "done";
+    private static final String UNDONE = "undone";
+    private static final String FIND_PREFIX = "find:";
+
+    /**
+     * Parses input[start, end) as "done", "undone", "find:[query]" or a comma-separated
+     * list of task numbers and ranges such as "1,4,9" or "3-40". Returns null if it is none of these.
+     */
+    public static TaskSelection parse(String input, int start, int end) {
+        while (start < end && CommandParser.isWhitespace(input.charAt(start))) {
+            start++;
+        }
+        while (end > start && CommandParser.isWhitespace(input.charAt(end - 1))) {
+            end--;
+        }
+        if (start == end) {
+            return null;
+        }
+
+        if (matchesIgnoreCase(input, start, end, DONE)) {
+            return new TaskSelection.Status(true);
+        }
+        if (matchesIgnoreCase(input, start, end, UNDONE)) {
+            return new TaskSelection.Status(false);
+        }
+        if (input.regionMatches(true, start, FIND_PREFIX, 0, FIND_PREFIX.length())) {
+            String query = input.substring(start + FIND_PREFIX.length(), end).trim();
+            return query.isEmpty() ? null : new TaskSelection.Matching(query);
+        }
+
+        List<TaskSelection.Range> ranges = new ArrayList<>();
+        int itemStart = start;
+        while (itemStart <= end) {
+            int comma = input.indexOf(',', itemStart);
+            int itemEnd = comma < 0 || comma > end ? end : comma;
+            TaskSelection.Range range = parseRange(input, itemStart, itemEnd);
+            if (range == null) {
+                return null;
+            }
+            ranges.add(range);
+            itemStart = itemEnd + 1;
+        }
+        return new TaskSelection.Numbers(ranges);
+    }
+
+    // "[number]" or "[from]-[to]", with from no larger than to
+    private static TaskSelection.Range parseRange(String input, int start, int end) {
+        int dash = input.indexOf('-', start);
+        if (dash < 0 || dash >= end) {
+            int number = NumericParser.parsePositiveInteger(input, start, end);
+            return number < 0 ? null : new TaskSelection.Range(number, number);
+        }
+        int from = NumericParser.parsePositiveInteger(input, start, dash);
+        int to = NumericParser.parsePositiveInteger(input, dash + 1, end);
+        if (from < 0 || to < 0 || from > to) {
+            return null;
+        }
+        return new TaskSelection.Range(from, to);
+    }
+
+    private static boolean matchesIgnoreCase(String input, int start, int end, String keyword) {
+        return end - start == keyword.length() && input.regionMatches(true, start, keyword, 0, keyword.length());
+    }
+}
@@ -0,0 +1,20 @@
+package org.todobot.service;
+
+/**
+ * Outcome of handling one line of input: the text to show the user, whether the
+ * command failed, and whether the session should end afterwards.
+ */
+public record CommandResponse(String message, boolean isExit, boolean isError) {
+
+    public static CommandResponse reply(String message) {
+        return new CommandResponse(message, false, false);
+    }
+
+    public static CommandResponse error(String message) {
+        return new CommandResponse(message, false, true);
+    }
+
+    public static CommandResponse exit(String message) {
+        return new CommandResponse(message, true, false);
+    }
+}
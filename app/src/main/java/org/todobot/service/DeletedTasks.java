@@ -0,0 +1,11 @@
+package org.todobot.service;
+
+import java.util.List;
+
+import org.todobot.model.Task;
+
+/**
+ * The tasks removed by one delete, and how many tasks were left in the list straight afterwards.
+ */
+public record DeletedTasks(List<Task> tasks, int remainingCount) {
+}
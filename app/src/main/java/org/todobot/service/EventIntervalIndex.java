@@ -0,0 +1,263 @@
+package org.todobot.service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+
+import org.todobot.model.Event;
+
+/**
+ * Interval tree over event time ranges: an AVL tree ordered by start time, where
+ * each node also records the latest end time in its subtree. That lets an overlap
+ * query skip every subtree that ends before the query starts, so finding the k
+ * events that overlap a range costs O(log n + k).
+ *
+ * <p>Ranges are half-open, so back-to-back events do not clash. An event end
+ * without a time covers that whole day. Not thread-safe; {@link TaskList} guards
+ * it with its lock.
+ */
+class EventIntervalIndex {
+    private static final class Node {
+        final long start;
+        final long seq;
+        final long end;
+        Node left;
+        Node right;
+        int height = 1;
+        long maxEnd;
+
+        Node(long start, long seq, long end) {
+            this.start = start;
+            this.seq = seq;
+            this.end = end;
+            this.maxEnd = end;
+        }
+    }
+
+    // A pair of events whose ranges overlap, identified by sequence number
+    record Conflict(long firstSeq, long secondSeq) {
+    }
+
+    // Open time between events, [start, end)
+    record Slot(LocalDateTime start, LocalDateTime end) {
+    }
+
+    private Node root;
+
+    void add(long seq, Event event) {
+        root = insert(root, startOf(event), seq, endOf(event));
+    }
+
+    void remove(long seq, Event event) {
+        root = delete(root, startOf(event), seq);
+    }
+
+    void clear() {
+        root = null;
+    }
+
+    // Visits the sequence numbers of events overlapping the given event's range, including the event itself if indexed
+    void forEachOverlapping(Event event, LongConsumer visitor) {
+        visitOverlapping(root, startOf(event), endOf(event), visitor);
+    }
+
+    /**
+     * Every overlapping pair, found with a sweep over the events in start order that
+     * keeps the still-running events in a heap ordered by end: O(n log n + k).
+     */
+    List<Conflict> conflicts() {
+        List<Conflict> conflicts = new ArrayList<>();
+        PriorityQueue<Node> running = new PriorityQueue<>((a, b) -> Long.compare(a.end, b.end));
+        inOrder(root, node -> {
+            while (!running.isEmpty() && running.peek().end <= node.start) {
+                running.poll();
+            }
+            for (Node other : running) {
+                // Only differs from "still running" for an event of zero length
+                if (other.start < node.end) {
+                    conflicts.add(new Conflict(other.seq, node.seq));
+                }
+            }
+            running.add(node);
+        });
+        return conflicts;
+    }
+
+    // Gaps of at least minSeconds between events inside [from, to)
+    List<Slot> freeSlots(LocalDateTime from, LocalDateTime to, long minSeconds) {
+        long windowStart = toSeconds(from);
+        long windowEnd = toSeconds(to);
+        List<Slot> slots = new ArrayList<>();
+        long[] freeFrom = {windowStart};
+        collectOverlapping(root, windowStart, windowEnd, node -> {
+            if (node.start - freeFrom[0] >= minSeconds) {
+                slots.add(new Slot(toDateTime(freeFrom[0]), toDateTime(node.start)));
+            }
+            freeFrom[0] = Math.max(freeFrom[0], node.end);
+        });
+        if (windowEnd - freeFrom[0] >= minSeconds) {
+            slots.add(new Slot(toDateTime(freeFrom[0]), to));
+        }
+        return slots;
+    }
+
+    // === TREE OPERATIONS ===
+
+    private static void visitOverlapping(Node node, long from, long to, LongConsumer visitor) {
+        collectOverlapping(node, from, to, overlap -> visitor.accept(overlap.seq));
+    }
+
+    private static void collectOverlapping(Node node, long from, long to, Consumer<Node> visitor) {
+        if (node == null || node.maxEnd <= from) {
+            return;
+        }
+        collectOverlapping(node.left, from, to, visitor);
+        if (node.start >= to) {
+            // Everything to the right starts even later
+            return;
+        }
+        if (node.end > from) {
+            visitor.accept(node);
+        }
+        collectOverlapping(node.right, from, to, visitor);
+    }
+
+    private static void inOrder(Node node, Consumer<Node> visitor) {
+        if (node != null) {
+            inOrder(node.left, visitor);
+            visitor.accept(node);
+            inOrder(node.right, visitor);
+        }
+    }
+
+    private static int compare(long start, long seq, Node node) {
+        int byStart = Long.compare(start, node.start);
+        return byStart != 0 ? byStart : Long.compare(seq, node.seq);
+    }
+
+    private static Node insert(Node node, long start, long seq, long end) {
+        if (node == null) {
+            return new Node(start, seq, end);
+        }
+        int cmp = compare(start, seq, node);
+        if (cmp < 0) {
+            node.left = insert(node.left, start, seq, end);
+        } else if (cmp > 0) {
+            node.right = insert(node.right, start, seq, end);
+        } else {
+            return node;
+        }
+        return rebalance(node);
+    }
+
+    private static Node delete(Node node, long start, long seq) {
+        if (node == null) {
+            return null;
+        }
+        int cmp = compare(start, seq, node);
+        if (cmp < 0) {
+            node.left = delete(node.left, start, seq);
+        } else if (cmp > 0) {
+            node.right = delete(node.right, start, seq);
+        } else {
+            if (node.left == null) {
+                return node.right;
+            }
+            if (node.right == null) {
+                return node.left;
+            }
+            Node successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            successor.right = deleteMin(node.right);
+            successor.left = node.left;
+            return rebalance(successor);
+        }
+        return rebalance(node);
+    }
+
+    private static Node deleteMin(Node node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        node.left = deleteMin(node.left);
+        return rebalance(node);
+    }
+
+    private static Node rebalance(Node node) {
+        update(node);
+        int balance = height(node.left) - height(node.right);
+        if (balance > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        }
+        if (balance < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private static Node rotateRight(Node node) {
+        Node pivot = node.left;
+        node.left = pivot.right;
+        pivot.right = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private static Node rotateLeft(Node node) {
+        Node pivot = node.right;
+        node.right = pivot.left;
+        pivot.left = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private static void update(Node node) {
+        node.height = Math.max(height(node.left), height(node.right)) + 1;
+        long maxEnd = node.end;
+        if (node.left != null) {
+            maxEnd = Math.max(maxEnd, node.left.maxEnd);
+        }
+        if (node.right != null) {
+            maxEnd = Math.max(maxEnd, node.right.maxEnd);
+        }
+        node.maxEnd = maxEnd;
+    }
+
+    private static int height(Node node) {
+        return node == null ? 0 : node.height;
+    }
+
+    // === TIME CONVERSION ===
+
+    private static long startOf(Event event) {
+        return toSeconds(event.getFromDateTime());
+    }
+
+    private static long endOf(Event event) {
+        LocalDateTime to = event.getToDateTime();
+        return toSeconds(event.hasToTime() ? to : to.toLocalDate().plusDays(1).atStartOfDay());
+    }
+
+    // Only the ordering matters, so any fixed offset will do
+    private static long toSeconds(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    private static LocalDateTime toDateTime(long seconds) {
+        return LocalDateTime.ofEpochSecond(seconds, 0, ZoneOffset.UTC);
+    }
+}
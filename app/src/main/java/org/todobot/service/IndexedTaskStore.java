@@ -0,0 +1,394 @@
+package org.todobot.service;
+
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+import java.util.function.Consumer;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ObjLongConsumer;
+
+import org.todobot.model.Task;
+
+/**
+ * Ordered task storage backed by a size-augmented AVL tree.
+ * Every task gets an increasing sequence number when it is stored. New tasks are
+ * only ever appended, so sequence order is list order and a task's position is
+ * simply its rank. Lookup, removal and rank queries all run in O(log n).
+ *
+ * <p>The tree is persistent: nodes are never modified, and a change copies the
+ * O(log n) nodes on its path and then publishes the new root. Readers on any thread
+ * can therefore take a {@link Snapshot} in O(1) and use it without locking.
+ * Writes must be serialized by the caller.
+ */
+class IndexedTaskStore {
+    private static final class Node {
+        final long seq;
+        final Task task;
+        final Node left;
+        final Node right;
+        final int height;
+        final int size;
+
+        Node(long seq, Task task, Node left, Node right) {
+            this.seq = seq;
+            this.task = task;
+            this.left = left;
+            this.right = right;
+            this.height = Math.max(height(left), height(right)) + 1;
+            this.size = size(left) + size(right) + 1;
+        }
+    }
+
+    private volatile Node root;
+    // Only touched by the writer
+    private long nextSeq;
+    private Task lastRemoved;
+    private long lastRemovedSeq;
+
+    Snapshot snapshot() {
+        return new Snapshot(root);
+    }
+
+    int size() {
+        return size(root);
+    }
+
+    boolean isEmpty() {
+        return root == null;
+    }
+
+    // The sequence number the next added task will get, so it can be indexed before it is published
+    long nextSeq() {
+        return nextSeq;
+    }
+
+    long add(Task task) {
+        long seq = nextSeq++;
+        root = insertLast(root, seq, task);
+        return seq;
+    }
+
+    Task get(int index) {
+        Node node = nodeAt(root, index);
+        return node == null ? null : node.task;
+    }
+
+    long seqAt(int index) {
+        Node node = nodeAt(root, index);
+        return node == null ? -1 : node.seq;
+    }
+
+    Task remove(int index) {
+        Node current = root;
+        if (index < 0 || index >= size(current)) {
+            return null;
+        }
+        root = removeAt(current, index);
+        Task removed = lastRemoved;
+        lastRemoved = null;
+        return removed;
+    }
+
+    /**
+     * Removes the tasks at the given ascending, distinct positions and reports each
+     * one with its sequence number. A few removals are done one at a time; larger
+     * batches rebuild the tree from the survivors in a single O(n) pass, keeping
+     * their sequence numbers.
+     */
+    void removeAll(int[] positions, ObjLongConsumer<Task> removed) {
+        Node current = root;
+        int size = size(current);
+        if (positions.length == 0) {
+            return;
+        }
+        if ((long) positions.length * (32 - Integer.numberOfLeadingZeros(size)) < size) {
+            // Highest first, so the remaining positions stay valid
+            for (int i = positions.length - 1; i >= 0; i--) {
+                current = removeAt(current, positions[i]);
+                removed.accept(lastRemoved, lastRemovedSeq);
+            }
+            lastRemoved = null;
+            root = current;
+            return;
+        }
+
+        int keptCount = size - positions.length;
+        long[] keptSeqs = new long[keptCount];
+        Task[] keptTasks = new Task[keptCount];
+        int[] next = new int[2]; // next position to drop, next kept slot
+        visitNodes(current, node -> {
+            int index = next[0] + next[1];
+            if (next[0] < positions.length && positions[next[0]] == index) {
+                next[0]++;
+                removed.accept(node.task, node.seq);
+            } else {
+                keptSeqs[next[1]] = node.seq;
+                keptTasks[next[1]] = node.task;
+                next[1]++;
+            }
+        });
+        root = build(keptSeqs, keptTasks, 0, keptCount);
+    }
+
+    Task getBySeq(long seq) {
+        return snapshot().getBySeq(seq);
+    }
+
+    // Returns the 0-based position of the task with the given sequence number, or -1
+    int indexOfSeq(long seq) {
+        return snapshot().indexOfSeq(seq);
+    }
+
+    void clear() {
+        root = null;
+    }
+
+    // Replaces the contents; the tasks receive consecutive sequence numbers starting at the returned value
+    long setAll(List<Task> tasks) {
+        long firstSeq = nextSeq;
+        root = build(tasks, 0, tasks.size());
+        return firstSeq;
+    }
+
+    // Visits tasks at positions [from, to) in order without touching the rest of the tree
+    void forEachInRange(int from, int to, ObjIntConsumer<Task> visitor) {
+        snapshot().forEachInRange(from, to, visitor);
+    }
+
+    ArrayList<Task> toList() {
+        return new ArrayList<>(snapshot());
+    }
+
+    /**
+     * Read-only list view of the store at the moment it was taken. Later changes to
+     * the store are not visible through it.
+     */
+    static final class Snapshot extends AbstractList<Task> implements RandomAccess {
+        private final Node root;
+
+        private Snapshot(Node root) {
+            this.root = root;
+        }
+
+        @Override
+        public int size() {
+            return IndexedTaskStore.size(root);
+        }
+
+        @Override
+        public Task get(int index) {
+            Node node = nodeAt(root, index);
+            if (node == null) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+            }
+            return node.task;
+        }
+
+        Task getBySeq(long seq) {
+            Node node = root;
+            while (node != null) {
+                if (seq < node.seq) {
+                    node = node.left;
+                } else if (seq > node.seq) {
+                    node = node.right;
+                } else {
+                    return node.task;
+                }
+            }
+            return null;
+        }
+
+        int indexOfSeq(long seq) {
+            Node node = root;
+            int rank = 0;
+            while (node != null) {
+                if (seq < node.seq) {
+                    node = node.left;
+                } else if (seq > node.seq) {
+                    rank += IndexedTaskStore.size(node.left) + 1;
+                    node = node.right;
+                } else {
+                    return rank + IndexedTaskStore.size(node.left);
+                }
+            }
+            return -1;
+        }
+
+        void forEachInRange(int from, int to, ObjIntConsumer<Task> visitor) {
+            visit(root, 0, Math.max(from, 0), Math.min(to, size()), visitor);
+        }
+
+        @Override
+        public void forEach(Consumer<? super Task> action) {
+            forEachInRange(0, size(), (task, index) -> action.accept(task));
+        }
+
+        // In-order walk; avoids the O(log n) descent per element that get(i) would cost
+        @Override
+        public Iterator<Task> iterator() {
+            return new Iterator<>() {
+                private final ArrayDeque<Node> path = new ArrayDeque<>();
+
+                {
+                    pushLeft(root);
+                }
+
+                @Override
+                public boolean hasNext() {
+                    return !path.isEmpty();
+                }
+
+                @Override
+                public Task next() {
+                    if (path.isEmpty()) {
+                        throw new NoSuchElementException();
+                    }
+                    Node node = path.pop();
+                    pushLeft(node.right);
+                    return node.task;
+                }
+
+                private void pushLeft(Node node) {
+                    for (; node != null; node = node.left) {
+                        path.push(node);
+                    }
+                }
+            };
+        }
+    }
+
+    // === TREE OPERATIONS ===
+
+    private static Node nodeAt(Node node, int index) {
+        if (index < 0 || index >= size(node)) {
+            return null;
+        }
+        while (true) {
+            int leftSize = size(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index > leftSize) {
+                index -= leftSize + 1;
+                node = node.right;
+            } else {
+                return node;
+            }
+        }
+    }
+
+    private static void visit(Node node, int offset, int from, int to, ObjIntConsumer<Task> visitor) {
+        if (node == null || from >= to) {
+            return;
+        }
+        int index = offset + size(node.left);
+        if (from < index) {
+            visit(node.left, offset, from, to, visitor);
+        }
+        if (index >= from && index < to) {
+            visitor.accept(node.task, index);
+        }
+        if (index + 1 < to) {
+            visit(node.right, index + 1, from, to, visitor);
+        }
+    }
+
+    private static void visitNodes(Node node, Consumer<Node> visitor) {
+        if (node != null) {
+            visitNodes(node.left, visitor);
+            visitor.accept(node);
+            visitNodes(node.right, visitor);
+        }
+    }
+
+    private static Node build(long[] seqs, Task[] tasks, int from, int to) {
+        if (from >= to) {
+            return null;
+        }
+        int mid = (from + to) >>> 1;
+        return new Node(seqs[mid], tasks[mid], build(seqs, tasks, from, mid), build(seqs, tasks, mid + 1, to));
+    }
+
+    private Node build(List<Task> tasks, int from, int to) {
+        if (from >= to) {
+            return null;
+        }
+        int mid = (from + to) >>> 1;
+        Node left = build(tasks, from, mid);
+        long seq = nextSeq++;
+        Node right = build(tasks, mid + 1, to);
+        return new Node(seq, tasks.get(mid), left, right);
+    }
+
+    private static Node insertLast(Node node, long seq, Task task) {
+        if (node == null) {
+            return new Node(seq, task, null, null);
+        }
+        return balance(node.left, node, insertLast(node.right, seq, task));
+    }
+
+    private Node removeAt(Node node, int index) {
+        int leftSize = size(node.left);
+        if (index < leftSize) {
+            return balance(removeAt(node.left, index), node, node.right);
+        }
+        if (index > leftSize) {
+            return balance(node.left, node, removeAt(node.right, index - leftSize - 1));
+        }
+        lastRemoved = node.task;
+        lastRemovedSeq = node.seq;
+        if (node.left == null) {
+            return node.right;
+        }
+        if (node.right == null) {
+            return node.left;
+        }
+        Node successor = node.right;
+        while (successor.left != null) {
+            successor = successor.left;
+        }
+        return balance(node.left, successor, removeMin(node.right));
+    }
+
+    private static Node removeMin(Node node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        return balance(removeMin(node.left), node, node.right);
+    }
+
+    // Builds a copy of top with the given children, rotating if they differ in height by more than one
+    private static Node balance(Node left, Node top, Node right) {
+        int balance = height(left) - height(right);
+        if (balance > 1) {
+            if (height(left.left) < height(left.right)) {
+                Node pivot = left.right;
+                return join(join(left.left, left, pivot.left), pivot, join(pivot.right, top, right));
+            }
+            return join(left.left, left, join(left.right, top, right));
+        }
+        if (balance < -1) {
+            if (height(right.right) < height(right.left)) {
+                Node pivot = right.left;
+                return join(join(left, top, pivot.left), pivot, join(pivot.right, right, right.right));
+            }
+            return join(join(left, top, right.left), right, right.right);
+        }
+        return join(left, top, right);
+    }
+
+    private static Node join(Node left, Node top, Node right) {
+        return new Node(top.seq, top.task, left, right);
+    }
+
+    private static int height(Node node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static int size(Node node) {
+        return node == null ? 0 : node.size;
+    }
+}
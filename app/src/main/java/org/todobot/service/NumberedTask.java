@@ -0,0 +1,9 @@
+package org.todobot.service;
+
+import org.todobot.model.Task;
+
+/**
+ * A task together with its 1-based number in the list at the time it was read.
+ */
+public record NumberedTask(int number, Task task) {
+}
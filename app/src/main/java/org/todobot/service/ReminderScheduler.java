@@ -0,0 +1,278 @@
+package org.todobot.service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.todobot.common.BotMessages;
+import org.todobot.model.Task;
+
+/**
+ * Sends a reminder a set lead time before each unfinished deadline falls due or event starts.
+ *
+ * <p>Pending reminders sit in a hierarchical timing wheel with one-second ticks: five levels
+ * of 64 slots, each slot 64 times wider than a slot on the level below. Scheduling or
+ * cancelling a reminder links or unlinks one node, so it is O(1) however many are pending,
+ * and a single virtual thread advances the wheel once a second. As a coarse slot comes due
+ * its reminders are refiled one level down, so each reminder moves at most once per level.
+ * Times come from {@link TaskTimeIndex#dueTime}, the same as the overdue and upcoming
+ * commands, so a deadline with only a date is reminded of before the end of that day.
+ */
+class ReminderScheduler implements TaskListListener {
+    private static final int SLOT_BITS = 6;
+    private static final int SLOT_MASK = (1 << SLOT_BITS) - 1;
+    private static final int LEVELS = 5;
+    // About 34 years; later reminders wait in the top level and are refiled when they reach the bottom
+    private static final long MAX_DELAY = (1L << (SLOT_BITS * LEVELS)) - 1;
+    private static final long TICK_MILLIS = 1000;
+
+    private static final class Entry {
+        final Task task;
+        final long dueTick;
+        int level;
+        int slot;
+        Entry prev;
+        Entry next;
+
+        Entry(Task task, long dueTick) {
+            this.task = task;
+            this.dueTick = dueTick;
+        }
+    }
+
+    private final long leadSeconds;
+    private final Clock clock;
+    private final ZoneId zone;
+    private final Consumer<String> notifier;
+    private final Object lock = new Object();
+
+    // Guarded by lock. Slots hold the heads of doubly linked lists; ticks are epoch seconds
+    private final Entry[][] wheel = new Entry[LEVELS][1 << SLOT_BITS];
+    private final Map<Task, Entry> pending = new IdentityHashMap<>();
+    private long currentTick;
+
+    private Thread ticker;
+
+    ReminderScheduler(Duration leadTime, Clock clock, Consumer<String> notifier) {
+        this.leadSeconds = Math.max(leadTime.toSeconds(), 0);
+        this.clock = clock;
+        this.zone = clock.getZone();
+        this.notifier = notifier;
+        this.currentTick = clock.instant().getEpochSecond();
+    }
+
+    void start() {
+        ticker = Thread.ofVirtual().name("todobot-reminders").start(this::run);
+    }
+
+    void close() {
+        if (ticker != null) {
+            ticker.interrupt();
+        }
+    }
+
+    // Replaces every pending reminder with ones for the given tasks
+    void reset(List<Task> tasks) {
+        synchronized (lock) {
+            clear();
+            for (Task task : tasks) {
+                schedule(task);
+            }
+        }
+    }
+
+    int getPendingCount() {
+        synchronized (lock) {
+            return pending.size();
+        }
+    }
+
+    @Override
+    public void onTaskAdded(Task task, int taskNumber) {
+        synchronized (lock) {
+            schedule(task);
+        }
+    }
+
+    @Override
+    public void onTaskUpdated(Task task, int taskNumber) {
+        synchronized (lock) {
+            if (task.isDone()) {
+                cancel(task);
+            } else {
+                schedule(task);
+            }
+        }
+    }
+
+    @Override
+    public void onTaskDeleted(Task task, int taskNumber) {
+        synchronized (lock) {
+            cancel(task);
+        }
+    }
+
+    @Override
+    public void onTasksDeleted(List<Task> tasks, int[] taskNumbers) {
+        synchronized (lock) {
+            tasks.forEach(this::cancel);
+        }
+    }
+
+    @Override
+    public void onAllTasksDeleted() {
+        synchronized (lock) {
+            clear();
+        }
+    }
+
+    /**
+     * Runs every tick up to and including the given epoch second and sends the reminders
+     * that came due. The notifier is called without the lock held.
+     */
+    void advanceTo(long epochSecond) {
+        List<Task> due = new ArrayList<>();
+        synchronized (lock) {
+            while (currentTick <= epochSecond) {
+                tick(due);
+            }
+        }
+        for (Task task : due) {
+            try {
+                notifier.accept(BotMessages.formatReminder(task));
+            } catch (RuntimeException e) {
+                System.err.println("Error delivering reminder: " + e.getMessage());
+            }
+        }
+    }
+
+    private void run() {
+        while (!Thread.currentThread().isInterrupted()) {
+            advanceTo(clock.instant().getEpochSecond());
+            try {
+                // Wake just after the next second starts
+                Thread.sleep(TICK_MILLIS - clock.millis() % TICK_MILLIS);
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+    // === WHEEL OPERATIONS ===
+
+    private void schedule(Task task) {
+        if (task.isDone() || pending.containsKey(task)) {
+            return;
+        }
+        LocalDateTime start = TaskTimeIndex.dueTime(task);
+        if (start == null) {
+            return;
+        }
+        long startTick = start.atZone(zone).toEpochSecond();
+        if (startTick <= currentTick) {
+            // Already started or overdue; the overdue command covers those
+            return;
+        }
+        Entry entry = new Entry(task, Math.max(startTick - leadSeconds, currentTick));
+        pending.put(task, entry);
+        insert(entry);
+    }
+
+    private void cancel(Task task) {
+        Entry entry = pending.remove(task);
+        if (entry != null) {
+            unlink(entry);
+        }
+    }
+
+    private void clear() {
+        for (Entry[] level : wheel) {
+            Arrays.fill(level, null);
+        }
+        pending.clear();
+    }
+
+    // Files the entry on the lowest level whose span still reaches its due tick
+    private void insert(Entry entry) {
+        long tick = entry.dueTick - currentTick > MAX_DELAY ? currentTick + MAX_DELAY
+                : Math.max(entry.dueTick, currentTick);
+        long delay = tick - currentTick;
+        int level = 0;
+        while (level < LEVELS - 1 && delay >= 1L << (SLOT_BITS * (level + 1))) {
+            level++;
+        }
+        link(entry, level, (int) (tick >>> (SLOT_BITS * level)) & SLOT_MASK);
+    }
+
+    private void tick(List<Task> due) {
+        int index = (int) currentTick & SLOT_MASK;
+        if (index == 0) {
+            // The bottom level has wrapped, so refile the next slot of each level that wrapped with it
+            for (int level = 1; level < LEVELS; level++) {
+                int slot = (int) (currentTick >>> (SLOT_BITS * level)) & SLOT_MASK;
+                Entry entry = detach(level, slot);
+                while (entry != null) {
+                    Entry next = entry.next;
+                    insert(entry);
+                    entry = next;
+                }
+                if (slot != 0) {
+                    break;
+                }
+            }
+        }
+
+        Entry entry = detach(0, index);
+        while (entry != null) {
+            Entry next = entry.next;
+            if (entry.dueTick > currentTick) {
+                // Was further out than the wheel reaches
+                insert(entry);
+            } else {
+                pending.remove(entry.task);
+                due.add(entry.task);
+            }
+            entry = next;
+        }
+        currentTick++;
+    }
+
+    private void link(Entry entry, int level, int slot) {
+        Entry head = wheel[level][slot];
+        entry.level = level;
+        entry.slot = slot;
+        entry.prev = null;
+        entry.next = head;
+        if (head != null) {
+            head.prev = entry;
+        }
+        wheel[level][slot] = entry;
+    }
+
+    private void unlink(Entry entry) {
+        if (entry.prev != null) {
+            entry.prev.next = entry.next;
+        } else {
+            wheel[entry.level][entry.slot] = entry.next;
+        }
+        if (entry.next != null) {
+            entry.next.prev = entry.prev;
+        }
+        entry.prev = null;
+        entry.next = null;
+    }
+
+    // Empties a slot and returns its old list; the entries keep their next links for walking
+    private Entry detach(int level, int slot) {
+        Entry head = wheel[level][slot];
+        wheel[level][slot] = null;
+        return head;
+    }
+}
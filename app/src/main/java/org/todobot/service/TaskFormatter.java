@@ -1,45 +1,114 @@
 package org.todobot.service;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.List;
 import org.todobot.common.BotMessages;
 import org.todobot.model.Task;
 
 public class TaskFormatter {
     
-    public static String formatTaskList(ArrayList<Task> tasks) {
+    public static String formatTaskList(List<Task> tasks) {
         if (tasks.isEmpty()) {
             return BotMessages.TASK_LIST_HEADER + "\n" + BotMessages.TASK_LIST_EMPTY;
         }
         
-        StringBuilder sb = new StringBuilder();
+        // Task lines are cached, so sizing the builder up front costs one cheap extra pass
+        int capacity = BotMessages.TASK_LIST_HEADER.length();
+        int number = 0;
+        for (Task task : tasks) {
+            capacity += lineLength(task, ++number);
+        }
+        
+        StringBuilder sb = new StringBuilder(capacity);
         sb.append(BotMessages.TASK_LIST_HEADER);
-        for (int i = 0; i < tasks.size(); i++) {
-            sb.append("\n ").append(i + 1).append(".").append(tasks.get(i));
+        number = 0;
+        for (Task task : tasks) {
+            sb.append("\n ").append(++number).append('.').append(task.toString());
         }
         return sb.toString();
     }
     
-    public static String formatSearchResults(ArrayList<Task> allTasks, ArrayList<Task> matchingTasks, String keyword) {
+    /**
+     * Writes the whole list to out line by line instead of building it as one string.
+     */
+    static void writeTaskList(Appendable out, IndexedTaskStore.Snapshot tasks) throws IOException {
+        if (tasks.isEmpty()) {
+            out.append(BotMessages.TASK_LIST_HEADER).append('\n').append(BotMessages.TASK_LIST_EMPTY);
+            return;
+        }
+        out.append(BotMessages.TASK_LIST_HEADER);
+        writeLines(out, tasks, 0, tasks.size());
+    }
+    
+    /**
+     * Writes tasks numbered [fromNumber, toNumber] to out. Only that part of the store is
+     * visited, so the cost depends on how many tasks are shown, not on the list size.
+     * Returns false if the range starts past the end of a non-empty list.
+     */
+    static boolean writeTaskRange(Appendable out, IndexedTaskStore.Snapshot tasks, int fromNumber, int toNumber) throws IOException {
+        int taskCount = tasks.size();
+        if (taskCount == 0) {
+            writeTaskList(out, tasks);
+            return true;
+        }
+        if (fromNumber > taskCount) {
+            out.append(BotMessages.formatListRangeOutOfBounds(taskCount));
+            return false;
+        }
+        int lastNumber = Math.min(toNumber, taskCount);
+        out.append(BotMessages.formatTaskRangeHeader(fromNumber, lastNumber, taskCount));
+        writeLines(out, tasks, fromNumber - 1, lastNumber);
+        return true;
+    }
+    
+    private static void writeLines(Appendable out, IndexedTaskStore.Snapshot tasks, int from, int to) throws IOException {
+        try {
+            tasks.forEachInRange(from, to, (task, index) -> {
+                try {
+                    out.append("\n ").append(Integer.toString(index + 1)).append('.').append(task.toString());
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+    
+    public static String formatSearchResults(ArrayList<Task> matchingTasks, int[] taskNumbers, String keyword) {
         if (matchingTasks.isEmpty()) {
             return BotMessages.formatNoMatchingTasks(keyword);
         }
+        return formatNumberedTasks(BotMessages.SEARCH_RESULTS_HEADER, null, matchingTasks, taskNumbers);
+    }
+    
+    // Lists tasks under header with their numbers in the full list, or returns emptyMessage if there are none
+    public static String formatNumberedTasks(String header, String emptyMessage, ArrayList<Task> tasks, int[] taskNumbers) {
+        if (tasks.isEmpty()) {
+            return emptyMessage;
+        }
         
-        // Pre-compute task index mapping for O(1) lookup - fixes O(n²) performance issue
-        Map<Task, Integer> taskIndexMap = new HashMap<>();
-        for (int i = 0; i < allTasks.size(); i++) {
-            taskIndexMap.put(allTasks.get(i), i + 1);
+        int capacity = header.length();
+        for (int i = 0; i < tasks.size(); i++) {
+            capacity += lineLength(tasks.get(i), taskNumbers[i]);
         }
         
-        StringBuilder sb = new StringBuilder();
-        sb.append(BotMessages.SEARCH_RESULTS_HEADER);
-        for (int i = 0; i < matchingTasks.size(); i++) {
-            Integer originalIndex = taskIndexMap.get(matchingTasks.get(i));
-            // Defensive check - should never be null in normal usage
-            int index = originalIndex != null ? originalIndex : i + 1;
-            sb.append("\n ").append(index).append(".").append(matchingTasks.get(i));
+        StringBuilder sb = new StringBuilder(capacity);
+        sb.append(header);
+        for (int i = 0; i < tasks.size(); i++) {
+            sb.append("\n ").append(taskNumbers[i]).append('.').append(tasks.get(i).toString());
         }
         return sb.toString();
     }
+    
+    // Length of "\n <number>.<task>"
+    private static int lineLength(Task task, int number) {
+        int digits = 1;
+        for (int n = number; n >= 10; n /= 10) {
+            digits++;
+        }
+        return 3 + digits + task.toString().length();
+    }
 }
\ No newline at end of file
@@ -1,56 +1,231 @@
 package org.todobot.service;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.stream.Collectors;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.LongStream;
 
+import org.todobot.common.BotConfig;
 import org.todobot.common.BotMessages;
+import org.todobot.model.Event;
+import org.todobot.model.Priority;
 import org.todobot.model.Task;
+import org.todobot.model.TaskSelection;
 
+/**
+ * The task list, safe to share between threads. Changes are serialized by a write
+ * lock, and listeners are notified while it is held, so they see changes in order.
+ * Listing, task lookups and searches read an immutable snapshot of the store and never
+ * wait; the search index is copy-on-write, and a task goes into it before the store
+ * publishes it and comes out afterwards. The time and event indexes are still read
+ * under the read lock.
+ */
 public class TaskList {
-    private final ArrayList<Task> tasks;
-    private static final int MAX_TASKS = 100;
+    public static final int UNLIMITED = 0;
+    
+    private final IndexedTaskStore tasks;
+    private final TaskSearchIndex searchIndex;
+    private final TaskTimeIndex timeIndex;
+    private final EventIntervalIndex eventIndex;
+    private final List<TaskListListener> listeners;
+    private final int maxTasks;
+    private final Lock readLock;
+    private final Lock writeLock;
     
     public TaskList() {
-        this.tasks = new ArrayList<>();
+        this(BotConfig.getMaxTasks());
+    }
+    
+    public TaskList(int maxTasks) {
+        this.tasks = new IndexedTaskStore();
+        this.searchIndex = new TaskSearchIndex();
+        this.timeIndex = new TaskTimeIndex();
+        this.eventIndex = new EventIntervalIndex();
+        this.listeners = new CopyOnWriteArrayList<>();
+        this.maxTasks = maxTasks;
+        ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        this.readLock = lock.readLock();
+        this.writeLock = lock.writeLock();
+    }
+    
+    public void addListener(TaskListListener listener) {
+        listeners.add(listener);
+    }
+    
+    public void removeListener(TaskListListener listener) {
+        listeners.remove(listener);
+    }
+    
+    // Returns the new task's number, which is also the new task count, or 0 if the list is full
+    public int addTask(Task task) {
+        writeLock.lock();
+        try {
+            if (isFull()) {
+                return 0;
+            }
+            long seq = tasks.nextSeq();
+            index(seq, task);
+            tasks.add(task);
+            int taskNumber = tasks.size();
+            listeners.forEach(listener -> listener.onTaskAdded(task, taskNumber));
+            return taskNumber;
+        } finally {
+            writeLock.unlock();
+        }
     }
     
-    public boolean addTask(Task task) {
-        if (tasks.size() >= MAX_TASKS) {
-            return false;
+    // Keep the secondary indexes in step with the store; callers hold the write lock
+    private void index(long seq, Task task) {
+        searchIndex.add(seq, task);
+        timeIndex.add(seq, task);
+        if (task instanceof Event event) {
+            eventIndex.add(seq, event);
         }
-        tasks.add(task);
-        return true;
+    }
+    
+    private void unindex(long seq, Task task) {
+        searchIndex.remove(seq, task);
+        timeIndex.remove(seq, task);
+        if (task instanceof Event event) {
+            eventIndex.remove(seq, event);
+        }
+    }
+    
+    private void clearIndexes() {
+        searchIndex.clear();
+        timeIndex.clear();
+        eventIndex.clear();
     }
     
     public String listTasks() {
-        return TaskFormatter.formatTaskList(tasks);
+        return TaskFormatter.formatTaskList(tasks.snapshot());
     }
     
-    public boolean markTask(int taskNumber) {
-        if (taskNumber < 1 || taskNumber > tasks.size()) {
-            return false;
+    // Formats only the tasks numbered [fromNumber, toNumber]
+    public String listTasks(int fromNumber, int toNumber) {
+        StringBuilder sb = new StringBuilder();
+        try {
+            writeTasks(sb, fromNumber, toNumber);
+        } catch (IOException e) {
+            // StringBuilder never throws
+            throw new UncheckedIOException(e);
         }
-        tasks.get(taskNumber - 1).markAsDone();
-        return true;
+        return sb.toString();
     }
     
-    public boolean unmarkTask(int taskNumber) {
-        if (taskNumber < 1 || taskNumber > tasks.size()) {
-            return false;
+    public void writeTasks(Appendable out) throws IOException {
+        TaskFormatter.writeTaskList(out, tasks.snapshot());
+    }
+    
+    // Returns false if the range starts past the last task
+    public boolean writeTasks(Appendable out, int fromNumber, int toNumber) throws IOException {
+        return TaskFormatter.writeTaskRange(out, tasks.snapshot(), fromNumber, toNumber);
+    }
+    
+    // Single-task changes return the changed task, or null if there is no such task
+    public Task markTask(int taskNumber) {
+        writeLock.lock();
+        try {
+            Task task = tasks.get(taskNumber - 1);
+            if (task == null) {
+                return null;
+            }
+            task.markAsDone();
+            timeIndex.update(tasks.seqAt(taskNumber - 1), task);
+            listeners.forEach(listener -> listener.onTaskUpdated(task, taskNumber));
+            return task;
+        } finally {
+            writeLock.unlock();
         }
-        tasks.get(taskNumber - 1).markAsNotDone();
-        return true;
     }
     
-    public Task getTask(int taskNumber) {
-        if (taskNumber < 1 || taskNumber > tasks.size()) {
-            return null;
+    public Task unmarkTask(int taskNumber) {
+        writeLock.lock();
+        try {
+            Task task = tasks.get(taskNumber - 1);
+            if (task == null) {
+                return null;
+            }
+            task.markAsNotDone();
+            timeIndex.update(tasks.seqAt(taskNumber - 1), task);
+            listeners.forEach(listener -> listener.onTaskUpdated(task, taskNumber));
+            return task;
+        } finally {
+            writeLock.unlock();
         }
+    }
+    
+    public Task setTaskPriority(int taskNumber, Priority priority) {
+        writeLock.lock();
+        try {
+            Task task = tasks.get(taskNumber - 1);
+            if (task == null) {
+                return null;
+            }
+            task.setPriority(priority);
+            listeners.forEach(listener -> listener.onTaskUpdated(task, taskNumber));
+            return task;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+    
+    // Bulk changes return the affected tasks, or null without changing anything if the selection names a missing task
+    public List<Task> markTasks(TaskSelection selection) {
+        return updateTasks(selection, Task::markAsDone);
+    }
+    
+    public List<Task> unmarkTasks(TaskSelection selection) {
+        return updateTasks(selection, Task::markAsNotDone);
+    }
+    
+    public List<Task> setTasksPriority(TaskSelection selection, Priority priority) {
+        return updateTasks(selection, task -> task.setPriority(priority));
+    }
+    
+    private List<Task> updateTasks(TaskSelection selection, Consumer<Task> change) {
+        writeLock.lock();
+        try {
+            int[] positions = resolve(selection);
+            if (positions == null) {
+                return null;
+            }
+            IndexedTaskStore.Snapshot current = tasks.snapshot();
+            List<Task> updated = new ArrayList<>(positions.length);
+            for (int position : positions) {
+                Task task = current.get(position);
+                change.accept(task);
+                timeIndex.update(tasks.seqAt(position), task);
+                updated.add(task);
+                listeners.forEach(listener -> listener.onTaskUpdated(task, position + 1));
+            }
+            return updated;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+    
+    public Task getTask(int taskNumber) {
         return tasks.get(taskNumber - 1);
     }
     
     public boolean isFull() {
-        return tasks.size() >= MAX_TASKS;
+        return maxTasks > UNLIMITED && tasks.size() >= maxTasks;
+    }
+    
+    public int getMaxTasks() {
+        return maxTasks;
     }
     
     public boolean isEmpty() {
@@ -61,26 +236,149 @@ public class TaskList {
         return tasks.size();
     }
     
-    public Task deleteTask(int taskNumber) {
-        if (taskNumber < 1 || taskNumber > tasks.size()) {
-            return null;
+    // The remaining count is read under the same lock, so it matches the list right after this delete
+    public DeletedTasks deleteTask(int taskNumber) {
+        writeLock.lock();
+        try {
+            long seq = tasks.seqAt(taskNumber - 1);
+            Task task = tasks.remove(taskNumber - 1);
+            if (task == null) {
+                return null;
+            }
+            unindex(seq, task);
+            listeners.forEach(listener -> listener.onTaskDeleted(task, taskNumber));
+            return new DeletedTasks(List.of(task), tasks.size());
+        } finally {
+            writeLock.unlock();
+        }
+    }
+    
+    // Removes every selected task in one pass; null and an empty result mean the same as for markTasks
+    public DeletedTasks deleteTasks(TaskSelection selection) {
+        writeLock.lock();
+        try {
+            int[] positions = resolve(selection);
+            if (positions == null) {
+                return null;
+            }
+            if (positions.length == 0) {
+                return new DeletedTasks(List.of(), tasks.size());
+            }
+            // The snapshot still holds the removed tasks after the store has moved on
+            IndexedTaskStore.Snapshot before = tasks.snapshot();
+            long[] removedSeqs = new long[positions.length];
+            int[] removedCount = new int[1];
+            tasks.removeAll(positions, (task, seq) -> removedSeqs[removedCount[0]++] = seq);
+            
+            List<Task> deleted = new ArrayList<>(positions.length);
+            int[] taskNumbers = new int[positions.length];
+            for (int i = 0; i < positions.length; i++) {
+                deleted.add(before.get(positions[i]));
+                taskNumbers[i] = positions[i] + 1;
+            }
+            // Unindexed only now that the store no longer has them, since searches do not lock
+            for (int i = 0; i < removedCount[0]; i++) {
+                unindex(removedSeqs[i], before.getBySeq(removedSeqs[i]));
+            }
+            listeners.forEach(listener -> listener.onTasksDeleted(deleted, taskNumbers));
+            return new DeletedTasks(deleted, tasks.size());
+        } finally {
+            writeLock.unlock();
         }
-        return tasks.remove(taskNumber - 1);
+    }
+    
+    // Returns the selected positions in ascending order, or null if a task number is out of range
+    private int[] resolve(TaskSelection selection) {
+        IndexedTaskStore.Snapshot current = tasks.snapshot();
+        int size = current.size();
+        return switch (selection) {
+            case TaskSelection.Numbers numbers -> {
+                BitSet positions = new BitSet(size);
+                for (TaskSelection.Range range : numbers.ranges()) {
+                    if (range.from() < 1 || range.to() > size) {
+                        yield null;
+                    }
+                    positions.set(range.from() - 1, range.to());
+                }
+                yield positions.stream().toArray();
+            }
+            case TaskSelection.Status status -> {
+                int[] positions = new int[size];
+                int count = 0;
+                int index = 0;
+                for (Task task : current) {
+                    if (task.isDone() == status.done()) {
+                        positions[count++] = index;
+                    }
+                    index++;
+                }
+                yield Arrays.copyOf(positions, count);
+            }
+            case TaskSelection.Matching matching -> {
+                long[] seqs = searchIndex.search(matching.query(), current::getBySeq);
+                int[] positions = new int[seqs.length];
+                for (int i = 0; i < seqs.length; i++) {
+                    positions[i] = current.indexOfSeq(seqs[i]);
+                }
+                Arrays.sort(positions);
+                yield positions;
+            }
+        };
     }
     
     public int deleteAllTasks() {
-        int deletedCount = tasks.size();
-        tasks.clear();
-        return deletedCount;
+        writeLock.lock();
+        try {
+            int deletedCount = tasks.size();
+            tasks.clear();
+            clearIndexes();
+            listeners.forEach(TaskListListener::onAllTasksDeleted);
+            return deletedCount;
+        } finally {
+            writeLock.unlock();
+        }
     }
     
     public ArrayList<Task> getAllTasks() {
-        return new ArrayList<>(tasks);
+        return tasks.toList();
+    }
+    
+    /**
+     * Returns an unmodifiable view of the list as it is now, in O(1).
+     * Later changes to the list do not show up in it.
+     */
+    public List<Task> snapshot() {
+        return tasks.snapshot();
+    }
+    
+    /**
+     * Runs action on a snapshot while holding off writers, so nothing can change
+     * between taking the snapshot and whatever action records about it.
+     */
+    void withSnapshot(Consumer<List<Task>> action) {
+        readLock.lock();
+        try {
+            action.accept(tasks.snapshot());
+        } finally {
+            readLock.unlock();
+        }
     }
     
     public void setTasks(ArrayList<Task> tasks) {
-        this.tasks.clear();
-        this.tasks.addAll(tasks);
+        writeLock.lock();
+        try {
+            long firstSeq = this.tasks.nextSeq();
+            timeIndex.clear();
+            eventIndex.clear();
+            for (int i = 0; i < tasks.size(); i++) {
+                index(firstSeq + i, tasks.get(i));
+            }
+            this.tasks.setAll(tasks);
+            // The old tasks stay searchable until the new list has been published
+            searchIndex.removeBefore(firstSeq);
+        } finally {
+            writeLock.unlock();
+        }
     }
     
     public String findTasks(String keyword) {
@@ -88,12 +386,140 @@ public class TaskList {
             return BotMessages.SEARCH_KEYWORD_REQUIRED;
         }
         
-        String lowerKeyword = keyword.toLowerCase().trim();
+        IndexedTaskStore.Snapshot current = tasks.snapshot();
+        long[] matchingSeqs = searchIndex.search(keyword, current::getBySeq);
+        
+        ArrayList<Task> matchingTasks = new ArrayList<>(matchingSeqs.length);
+        int[] taskNumbers = new int[matchingSeqs.length];
+        for (int i = 0; i < matchingSeqs.length; i++) {
+            matchingTasks.add(current.getBySeq(matchingSeqs[i]));
+            taskNumbers[i] = current.indexOfSeq(matchingSeqs[i]) + 1;
+        }
         
-        ArrayList<Task> matchingTasks = tasks.stream()
-            .filter(task -> task.getDescription().toLowerCase().contains(lowerKeyword))
-            .collect(Collectors.toCollection(ArrayList::new));
+        return TaskFormatter.formatSearchResults(matchingTasks, taskNumbers, keyword);
+    }
+    
+    // Same matches as findTasks, returned as data; numbers and tasks come from one snapshot so they agree
+    public List<NumberedTask> searchTasks(String keyword) {
+        if (keyword == null || keyword.isBlank()) {
+            return List.of();
+        }
+        IndexedTaskStore.Snapshot current = tasks.snapshot();
+        long[] matchingSeqs = searchIndex.search(keyword, current::getBySeq);
         
-        return TaskFormatter.formatSearchResults(tasks, matchingTasks, keyword);
+        List<NumberedTask> matches = new ArrayList<>(matchingSeqs.length);
+        for (long seq : matchingSeqs) {
+            matches.add(new NumberedTask(current.indexOfSeq(seq) + 1, current.getBySeq(seq)));
+        }
+        return matches;
+    }
+    
+    // Unfinished deadlines and events due within the next given number of days
+    public String listUpcoming(LocalDateTime now, int days) {
+        return formatDueTasks(index -> index.dueBetween(now, now.plusDays(days)),
+                BotMessages.formatUpcomingHeader(days), BotMessages.formatNothingUpcoming(days));
+    }
+    
+    public String listOverdue(LocalDateTime now) {
+        return formatDueTasks(index -> index.dueBefore(now), BotMessages.OVERDUE_HEADER, BotMessages.NOTHING_OVERDUE);
+    }
+    
+    public String listDueOn(LocalDate date) {
+        return formatDueTasks(index -> index.dueBetween(date.atStartOfDay(), date.plusDays(1).atStartOfDay()),
+                BotMessages.formatDueOnHeader(date), BotMessages.formatNothingDueOn(date));
+    }
+    
+    private String formatDueTasks(Function<TaskTimeIndex, long[]> query, String header, String emptyMessage) {
+        ArrayList<Task> dueTasks;
+        int[] taskNumbers;
+        readLock.lock();
+        try {
+            IndexedTaskStore.Snapshot current = tasks.snapshot();
+            long[] seqs = query.apply(timeIndex);
+            
+            dueTasks = new ArrayList<>(seqs.length);
+            taskNumbers = new int[seqs.length];
+            for (int i = 0; i < seqs.length; i++) {
+                dueTasks.add(current.getBySeq(seqs[i]));
+                taskNumbers[i] = current.indexOfSeq(seqs[i]) + 1;
+            }
+        } finally {
+            readLock.unlock();
+        }
+        
+        return TaskFormatter.formatNumberedTasks(header, emptyMessage, dueTasks, taskNumbers);
+    }
+    
+    // Other events that overlap the given one, or an empty string if there are none
+    public String describeConflicts(Event event) {
+        ArrayList<Task> overlapping = new ArrayList<>();
+        int[] taskNumbers;
+        readLock.lock();
+        try {
+            IndexedTaskStore.Snapshot current = tasks.snapshot();
+            LongStream.Builder seqs = LongStream.builder();
+            eventIndex.forEachOverlapping(event, seqs);
+            
+            long[] overlappingSeqs = seqs.build().toArray();
+            taskNumbers = new int[overlappingSeqs.length];
+            for (long seq : overlappingSeqs) {
+                Task other = current.getBySeq(seq);
+                if (other != event) {
+                    taskNumbers[overlapping.size()] = current.indexOfSeq(seq) + 1;
+                    overlapping.add(other);
+                }
+            }
+        } finally {
+            readLock.unlock();
+        }
+        return TaskFormatter.formatNumberedTasks(BotMessages.formatEventConflictWarning(overlapping.size()), "",
+                overlapping, taskNumbers);
+    }
+    
+    // Every pair of overlapping events, in order of the later one's start
+    public String listConflicts() {
+        StringBuilder sb = new StringBuilder();
+        int count;
+        readLock.lock();
+        try {
+            IndexedTaskStore.Snapshot current = tasks.snapshot();
+            List<EventIntervalIndex.Conflict> conflicts = eventIndex.conflicts();
+            count = conflicts.size();
+            for (EventIntervalIndex.Conflict conflict : conflicts) {
+                sb.append("\n ").append(current.indexOfSeq(conflict.firstSeq()) + 1).append('.')
+                        .append(current.getBySeq(conflict.firstSeq()))
+                        .append("\n   overlaps ").append(current.indexOfSeq(conflict.secondSeq()) + 1).append('.')
+                        .append(current.getBySeq(conflict.secondSeq()));
+            }
+        } finally {
+            readLock.unlock();
+        }
+        return count == 0 ? BotMessages.NO_EVENT_CONFLICTS : BotMessages.formatEventConflictsHeader(count) + sb;
+    }
+    
+    // Gaps between events on the given day that are at least minimum long
+    public String listFreeSlots(LocalDate date, Duration minimum) {
+        List<EventIntervalIndex.Slot> slots;
+        readLock.lock();
+        try {
+            slots = eventIndex.freeSlots(date.atStartOfDay(), date.plusDays(1).atStartOfDay(), minimum.toSeconds());
+        } finally {
+            readLock.unlock();
+        }
+        if (slots.isEmpty()) {
+            return BotMessages.formatNoFreeSlots(date, minimum);
+        }
+        
+        StringBuilder sb = new StringBuilder(BotMessages.formatFreeSlotsHeader(date, minimum));
+        for (EventIntervalIndex.Slot slot : slots) {
+            sb.append("\n   ").append(formatSlotTime(slot.start(), date))
+                    .append(" - ").append(formatSlotTime(slot.end(), date));
+        }
+        return sb.toString();
+    }
+    
+    // The end of the day shows as 24:00 rather than 00:00
+    private static String formatSlotTime(LocalDateTime time, LocalDate date) {
+        return time.toLocalDate().isAfter(date) ? "24:00" : time.toLocalTime().toString();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,26 @@
+package org.todobot.service;
+
+import java.util.List;
+
+import org.todobot.model.Task;
+
+/**
+ * Receives every successful mutation of a {@link TaskList}.
+ * Task numbers are 1-based and refer to the list as it was when the change happened.
+ */
+public interface TaskListListener {
+    default void onTaskAdded(Task task, int taskNumber) {}
+    
+    default void onTaskUpdated(Task task, int taskNumber) {}
+    
+    default void onTaskDeleted(Task task, int taskNumber) {}
+    
+    // Task numbers are ascending; by default this is reported as single deletes from the end backwards
+    default void onTasksDeleted(List<Task> tasks, int[] taskNumbers) {
+        for (int i = taskNumbers.length - 1; i >= 0; i--) {
+            onTaskDeleted(tasks.get(i), taskNumbers[i]);
+        }
+    }
+    
+    default void onAllTasksDeleted() {}
+}
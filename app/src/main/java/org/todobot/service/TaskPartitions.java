@@ -0,0 +1,241 @@
+package org.todobot.service;
+
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+import org.todobot.common.BotConfig;
+import org.todobot.storage.TaskStorage;
+
+/**
+ * Separate task lists for the users (or workspaces) of a shared deployment, each with
+ * its own data directory. A partition is loaded the first time it is used, so start-up
+ * cost does not grow with the number of users.
+ *
+ * <p>Loaded partitions are kept in least-recently-used order. Before a partition is
+ * loaded, after each request and on a periodic sweep, the oldest are saved and unloaded
+ * while their estimated size is over the memory budget, and any that have been idle for
+ * longer than the idle timeout go too. A partition is never unloaded while a request is
+ * using it, and an unloaded partition leaves nothing behind, so the number of distinct
+ * ids seen does not matter.
+ */
+public class TaskPartitions {
+    // Rough heap cost of a loaded task with its index entries, and of an empty partition; only used for the budget
+    private static final long BYTES_PER_TASK = 512;
+    private static final long BYTES_PER_PARTITION = 16 * 1024;
+    // Ids become directory names, so only allow characters that are safe in a path
+    private static final Pattern PARTITION_ID = Pattern.compile("[A-Za-z0-9_-]{1,64}");
+    // Idle partitions are swept at the idle timeout, but at least once a minute and at most ten times a second
+    private static final long MAX_SWEEP_NANOS = TimeUnit.MINUTES.toNanos(1);
+    private static final long MIN_SWEEP_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private static final class Partition {
+        final String id;
+        // Requests share the read lock; loading and unloading take the write lock
+        final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        ToDoBotService service;
+        // Set under the write lock once the partition has left the map; lookups that raced with that retry
+        boolean removed;
+        // Guarded by the loaded map
+        long estimatedBytes;
+        long lastUsedNanos;
+
+        Partition(String id) {
+            this.id = id;
+        }
+    }
+
+    private final Function<String, ToDoBotService> loader;
+    private final long memoryBudgetBytes;
+    private final long idleTimeoutNanos;
+    // Partitions that are loaded or being loaded; unloading removes the entry
+    private final ConcurrentHashMap<String, Partition> partitions = new ConcurrentHashMap<>();
+    // Loaded partitions, least recently used first
+    private final LinkedHashMap<String, Partition> loaded = new LinkedHashMap<>(16, 0.75f, true);
+    private long loadedBytes;
+    private final ScheduledThreadPoolExecutor sweeper;
+
+    // Partition "alice" lives in [dataDir]/alice
+    public TaskPartitions(String dataDir) {
+        this(id -> new ToDoBotService(new TaskStorage(Paths.get(dataDir, id).toString())),
+                BotConfig.getPartitionMemoryBudgetMb() * 1024L * 1024L,
+                Duration.ofMinutes(BotConfig.getPartitionIdleMinutes()));
+    }
+
+    public TaskPartitions(Function<String, ToDoBotService> loader, long memoryBudgetBytes, Duration idleTimeout) {
+        this.loader = loader;
+        this.memoryBudgetBytes = memoryBudgetBytes;
+        this.idleTimeoutNanos = idleTimeout.toNanos();
+        this.sweeper = new ScheduledThreadPoolExecutor(1, Thread.ofVirtual().name("todobot-partition-sweeper").factory());
+        long sweepNanos = Math.max(Math.min(idleTimeoutNanos, MAX_SWEEP_NANOS), MIN_SWEEP_NANOS);
+        sweeper.scheduleWithFixedDelay(this::sweep, sweepNanos, sweepNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public static boolean isValidId(String id) {
+        return id != null && PARTITION_ID.matcher(id).matches();
+    }
+
+    /**
+     * Runs action against the given partition's service, loading it first if needed.
+     * The partition stays loaded until the action returns.
+     */
+    public <T> T withPartition(String id, Function<ToDoBotService, T> action) {
+        if (!isValidId(id)) {
+            throw new IllegalArgumentException("Invalid partition id: " + id);
+        }
+        Partition partition = acquire(id);
+        T result;
+        try {
+            result = action.apply(partition.service);
+            touch(partition, estimateBytes(partition.service));
+        } finally {
+            partition.lock.readLock().unlock();
+        }
+        evictIfNeeded(0);
+        return result;
+    }
+
+    public int getLoadedCount() {
+        synchronized (loaded) {
+            return loaded.size();
+        }
+    }
+
+    // Partitions with an entry in the map, including any still being loaded
+    int getPartitionCount() {
+        return partitions.size();
+    }
+
+    // Saves and unloads every partition
+    public void close() {
+        sweeper.shutdownNow();
+        synchronized (loaded) {
+            loaded.clear();
+            loadedBytes = 0;
+        }
+        for (Partition partition : partitions.values()) {
+            unload(partition, true);
+        }
+    }
+
+    // Returns the partition loaded and with its read lock held
+    private Partition acquire(String id) {
+        while (true) {
+            Partition partition = partitions.computeIfAbsent(id, Partition::new);
+            Lock readLock = partition.lock.readLock();
+            readLock.lock();
+            if (partition.service != null) {
+                return partition;
+            }
+            readLock.unlock();
+            // Make room first, without holding this partition's lock while others are saved
+            evictIfNeeded(BYTES_PER_PARTITION);
+            load(partition);
+        }
+    }
+
+    private void load(Partition partition) {
+        partition.lock.writeLock().lock();
+        try {
+            if (partition.service != null || partition.removed) {
+                return;
+            }
+            try {
+                partition.service = loader.apply(partition.id);
+            } catch (RuntimeException e) {
+                remove(partition);
+                throw e;
+            }
+            touch(partition, estimateBytes(partition.service));
+        } finally {
+            partition.lock.writeLock().unlock();
+        }
+    }
+
+    private void touch(Partition partition, long estimatedBytes) {
+        synchronized (loaded) {
+            if (loaded.put(partition.id, partition) != null) {
+                loadedBytes -= partition.estimatedBytes;
+            }
+            partition.estimatedBytes = estimatedBytes;
+            partition.lastUsedNanos = System.nanoTime();
+            loadedBytes += estimatedBytes;
+        }
+    }
+
+    // Unloads idle partitions even when no requests arrive; an exception would cancel later runs
+    private void sweep() {
+        try {
+            evictIfNeeded(0);
+        } catch (RuntimeException e) {
+            System.err.println("Error unloading idle partitions: " + e.getMessage());
+        }
+    }
+
+    // Unloads partitions until reserveBytes more would fit in the budget, and any that are idle
+    private void evictIfNeeded(long reserveBytes) {
+        List<Partition> evicted = new ArrayList<>();
+        synchronized (loaded) {
+            long now = System.nanoTime();
+            Iterator<Partition> eldestFirst = loaded.values().iterator();
+            while (eldestFirst.hasNext()) {
+                Partition eldest = eldestFirst.next();
+                // After a request the partition it used stays even if it is over the budget on its own
+                boolean overBudget = loadedBytes > memoryBudgetBytes - reserveBytes
+                        && (reserveBytes > 0 || loaded.size() > 1);
+                if (!overBudget && now - eldest.lastUsedNanos < idleTimeoutNanos) {
+                    break;
+                }
+                eldestFirst.remove();
+                loadedBytes -= eldest.estimatedBytes;
+                evicted.add(eldest);
+            }
+        }
+        // Saving happens outside the map lock so other partitions are not held up
+        for (Partition partition : evicted) {
+            unload(partition, false);
+        }
+    }
+
+    // Waits for requests in progress on the partition, then saves it and drops it from memory
+    private void unload(Partition partition, boolean force) {
+        partition.lock.writeLock().lock();
+        try {
+            if (!force) {
+                synchronized (loaded) {
+                    if (loaded.get(partition.id) == partition) {
+                        // Used again since it was picked for eviction
+                        return;
+                    }
+                }
+            }
+            if (partition.service != null) {
+                partition.service.cleanup();
+                partition.service = null;
+            }
+            remove(partition);
+        } finally {
+            partition.lock.writeLock().unlock();
+        }
+    }
+
+    // Callers hold the write lock; the next lookup of this id creates a fresh partition
+    private void remove(Partition partition) {
+        partition.removed = true;
+        partitions.remove(partition.id, partition);
+    }
+
+    private static long estimateBytes(ToDoBotService service) {
+        return BYTES_PER_PARTITION + service.getTasks().size() * BYTES_PER_TASK;
+    }
+}
@@ -0,0 +1,347 @@
+package org.todobot.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongFunction;
+import java.util.regex.Pattern;
+
+import org.todobot.model.Task;
+
+/**
+ * Incrementally maintained inverted index over task descriptions.
+ * Each lowercase whitespace-separated token maps to the sorted sequence numbers of
+ * the tasks containing it. A second index maps every 1- to 3-character gram to the
+ * tokens containing it, so substring queries only look at matching vocabulary
+ * instead of scanning every task.
+ *
+ * <p>One writer at a time changes the index while searches run without locking.
+ * Posting lists are never modified once published: a change stores a new list for the
+ * token, and appends reuse spare capacity beyond what earlier lists can see. A search
+ * may therefore see tasks that are not in the caller's snapshot yet; it drops any
+ * sequence number the lookup does not find. Callers add a task here before publishing
+ * it and remove it afterwards, so every task in a snapshot is always findable.
+ */
+class TaskSearchIndex {
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    // Operators must be upper case so ordinary words like "and" stay searchable
+    private static final Pattern OR_OPERATOR = Pattern.compile("\\s+OR\\s+");
+    private static final Pattern AND_OPERATOR = Pattern.compile("\\s+AND\\s+");
+    private static final int MAX_GRAM_LENGTH = 3;
+    private static final long[] NO_MATCHES = new long[0];
+
+    private final ConcurrentHashMap<String, PostingList> postings = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Set<String>> gramToTokens = new ConcurrentHashMap<>();
+
+    void add(long seq, Task task) {
+        for (String token : tokenize(task.getDescription())) {
+            PostingList list = postings.get(token);
+            // The postings go in before the grams, so a search never finds a token without them
+            postings.put(token, list == null ? PostingList.of(seq) : list.with(seq));
+            if (list == null) {
+                indexGrams(token);
+            }
+        }
+    }
+
+    void remove(long seq, Task task) {
+        for (String token : tokenize(task.getDescription())) {
+            PostingList list = postings.get(token);
+            if (list != null) {
+                replace(token, list.without(seq));
+            }
+        }
+    }
+
+    // Drops every task numbered below seq, which after a reload is everything from before it
+    void removeBefore(long seq) {
+        postings.forEach((token, list) -> replace(token, list.from(seq)));
+    }
+
+    void clear() {
+        postings.clear();
+        gramToTokens.clear();
+    }
+
+    private void replace(String token, PostingList list) {
+        if (list.isEmpty()) {
+            unindexGrams(token);
+            postings.remove(token);
+        } else {
+            postings.put(token, list);
+        }
+    }
+
+    /**
+     * Returns the sequence numbers of matching tasks in list order.
+     * Terms joined by {@code AND} must all match, alternatives joined by {@code OR}
+     * are combined; a plain query behaves like a case-insensitive substring search.
+     */
+    long[] search(String query, LongFunction<Task> taskLookup) {
+        long[] result = NO_MATCHES;
+        for (String alternative : OR_OPERATOR.split(query.trim())) {
+            long[] matches = null;
+            for (String term : AND_OPERATOR.split(alternative.trim())) {
+                long[] termMatches = searchTerm(term.trim().toLowerCase(), taskLookup);
+                matches = matches == null ? termMatches : intersect(matches, termMatches);
+                if (matches.length == 0) {
+                    break;
+                }
+            }
+            result = union(result, matches);
+        }
+        return retainPresent(result, taskLookup);
+    }
+
+    // Drops tasks that were indexed after the caller's snapshot was taken
+    private static long[] retainPresent(long[] seqs, LongFunction<Task> taskLookup) {
+        int count = 0;
+        for (long seq : seqs) {
+            if (taskLookup.apply(seq) != null) {
+                seqs[count++] = seq;
+            }
+        }
+        return count == seqs.length ? seqs : Arrays.copyOf(seqs, count);
+    }
+
+    private long[] searchTerm(String term, LongFunction<Task> taskLookup) {
+        if (term.isEmpty()) {
+            return NO_MATCHES;
+        }
+
+        String[] pieces = WHITESPACE.split(term);
+        long[] candidates = null;
+        for (String piece : pieces) {
+            long[] pieceMatches = searchPiece(piece);
+            candidates = candidates == null ? pieceMatches : intersect(candidates, pieceMatches);
+            if (candidates.length == 0) {
+                return NO_MATCHES;
+            }
+        }
+        if (pieces.length == 1) {
+            return candidates;
+        }
+
+        // Phrases can span tokens, so confirm the candidates against the full description
+        long[] verified = new long[candidates.length];
+        int count = 0;
+        for (long seq : candidates) {
+            Task task = taskLookup.apply(seq);
+            if (task != null && task.getDescription().toLowerCase().contains(term)) {
+                verified[count++] = seq;
+            }
+        }
+        return Arrays.copyOf(verified, count);
+    }
+
+    // Union of postings for every indexed token that contains the piece
+    private long[] searchPiece(String piece) {
+        List<PostingList> lists = new ArrayList<>();
+        int total = 0;
+        for (String token : candidateTokens(piece)) {
+            PostingList list = postings.get(token);
+            // The token may have been removed since its grams were read
+            if (list != null && (piece.length() <= MAX_GRAM_LENGTH || token.contains(piece))) {
+                lists.add(list);
+                total += list.size;
+            }
+        }
+        if (lists.isEmpty()) {
+            return NO_MATCHES;
+        }
+        if (lists.size() == 1) {
+            return lists.get(0).toArray();
+        }
+
+        long[] merged = new long[total];
+        int offset = 0;
+        for (PostingList list : lists) {
+            System.arraycopy(list.seqs, 0, merged, offset, list.size);
+            offset += list.size;
+        }
+        Arrays.sort(merged);
+        return distinct(merged);
+    }
+
+    private Set<String> candidateTokens(String piece) {
+        if (piece.length() <= MAX_GRAM_LENGTH) {
+            return gramToTokens.getOrDefault(piece, Set.of());
+        }
+
+        // Start from the rarest trigram of the piece
+        Set<String> smallest = null;
+        for (int i = 0; i + MAX_GRAM_LENGTH <= piece.length(); i++) {
+            Set<String> tokens = gramToTokens.get(piece.substring(i, i + MAX_GRAM_LENGTH));
+            if (tokens == null) {
+                return Set.of();
+            }
+            if (smallest == null || tokens.size() < smallest.size()) {
+                smallest = tokens;
+            }
+        }
+        return smallest;
+    }
+
+    private void indexGrams(String token) {
+        for (String gram : grams(token)) {
+            gramToTokens.computeIfAbsent(gram, key -> ConcurrentHashMap.newKeySet()).add(token);
+        }
+    }
+
+    private void unindexGrams(String token) {
+        for (String gram : grams(token)) {
+            Set<String> tokens = gramToTokens.get(gram);
+            if (tokens != null) {
+                tokens.remove(token);
+                if (tokens.isEmpty()) {
+                    gramToTokens.remove(gram);
+                }
+            }
+        }
+    }
+
+    private static Set<String> grams(String token) {
+        Set<String> grams = new HashSet<>();
+        for (int length = 1; length <= MAX_GRAM_LENGTH; length++) {
+            for (int i = 0; i + length <= token.length(); i++) {
+                grams.add(token.substring(i, i + length));
+            }
+        }
+        return grams;
+    }
+
+    private static Set<String> tokenize(String description) {
+        Set<String> tokens = new HashSet<>();
+        for (String token : WHITESPACE.split(description.toLowerCase())) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    private static long[] distinct(long[] sorted) {
+        int count = 0;
+        for (int i = 0; i < sorted.length; i++) {
+            if (count == 0 || sorted[count - 1] != sorted[i]) {
+                sorted[count++] = sorted[i];
+            }
+        }
+        return count == sorted.length ? sorted : Arrays.copyOf(sorted, count);
+    }
+
+    private static long[] intersect(long[] a, long[] b) {
+        long[] result = new long[Math.min(a.length, b.length)];
+        int i = 0;
+        int j = 0;
+        int count = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                result[count++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    private static long[] union(long[] a, long[] b) {
+        if (a.length == 0) {
+            return b;
+        }
+        if (b.length == 0) {
+            return a;
+        }
+        long[] result = new long[a.length + b.length];
+        int i = 0;
+        int j = 0;
+        int count = 0;
+        while (i < a.length || j < b.length) {
+            if (j == b.length || (i < a.length && a[i] < b[j])) {
+                result[count++] = a[i++];
+            } else if (i == a.length || b[j] < a[i]) {
+                result[count++] = b[j++];
+            } else {
+                result[count++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    /**
+     * Sorted, duplicate-free list of task sequence numbers. Readers only look at the
+     * first size entries, so a newer list may share the array and append past them.
+     * Only the newest list for a token is ever extended, by the single writer.
+     */
+    private static final class PostingList {
+        private final long[] seqs;
+        private final int size;
+
+        private PostingList(long[] seqs, int size) {
+            this.seqs = seqs;
+            this.size = size;
+        }
+
+        static PostingList of(long seq) {
+            long[] seqs = new long[4];
+            seqs[0] = seq;
+            return new PostingList(seqs, 1);
+        }
+
+        PostingList with(long seq) {
+            if (seqs[size - 1] < seq) {
+                // New tasks get the highest sequence number, so this is the common case
+                long[] target = size < seqs.length ? seqs : Arrays.copyOf(seqs, size * 2);
+                target[size] = seq;
+                return new PostingList(target, size + 1);
+            }
+            int index = Arrays.binarySearch(seqs, 0, size, seq);
+            if (index >= 0) {
+                return this;
+            }
+            index = -index - 1;
+            long[] copy = new long[size + 1];
+            System.arraycopy(seqs, 0, copy, 0, index);
+            copy[index] = seq;
+            System.arraycopy(seqs, index, copy, index + 1, size - index);
+            return new PostingList(copy, size + 1);
+        }
+
+        PostingList without(long seq) {
+            int index = Arrays.binarySearch(seqs, 0, size, seq);
+            if (index < 0) {
+                return this;
+            }
+            long[] copy = new long[size - 1];
+            System.arraycopy(seqs, 0, copy, 0, index);
+            System.arraycopy(seqs, index + 1, copy, index, size - index - 1);
+            return new PostingList(copy, size - 1);
+        }
+
+        // The entries from seq onwards
+        PostingList from(long seq) {
+            int index = Arrays.binarySearch(seqs, 0, size, seq);
+            if (index < 0) {
+                index = -index - 1;
+            }
+            return index == 0 ? this : new PostingList(Arrays.copyOfRange(seqs, index, size), size - index);
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        long[] toArray() {
+            return Arrays.copyOf(seqs, size);
+        }
+    }
+}
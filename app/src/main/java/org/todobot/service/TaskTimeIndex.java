@@ -0,0 +1,90 @@
+package org.todobot.service;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Comparator;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+
+import org.todobot.model.Deadline;
+import org.todobot.model.Event;
+import org.todobot.model.Task;
+
+/**
+ * Sorted index of unfinished deadlines and events by the time they fall due, so
+ * time-window queries are a range scan costing O(log n + k) rather than a pass over
+ * the whole list. Deadlines are filed under their due time and events under their
+ * start. A deadline without a time is due at the end of its day.
+ *
+ * <p>Finished tasks are left out, so the scans only touch tasks they will return.
+ * Not thread-safe; {@link TaskList} guards it with its lock.
+ */
+class TaskTimeIndex {
+    private record Entry(LocalDateTime time, long seq) {
+    }
+
+    private static final Comparator<Entry> ORDER =
+            Comparator.comparing(Entry::time).thenComparingLong(Entry::seq);
+
+    private final TreeSet<Entry> entries = new TreeSet<>(ORDER);
+
+    void add(long seq, Task task) {
+        LocalDateTime time = dueTime(task);
+        if (time != null && !task.isDone()) {
+            entries.add(new Entry(time, seq));
+        }
+    }
+
+    void remove(long seq, Task task) {
+        LocalDateTime time = dueTime(task);
+        if (time != null) {
+            entries.remove(new Entry(time, seq));
+        }
+    }
+
+    // Call after a task's status changes so it enters or leaves the index
+    void update(long seq, Task task) {
+        if (task.isDone()) {
+            remove(seq, task);
+        } else {
+            add(seq, task);
+        }
+    }
+
+    void clear() {
+        entries.clear();
+    }
+
+    // Sequence numbers of tasks due in [from, to), earliest first
+    long[] dueBetween(LocalDateTime from, LocalDateTime to) {
+        if (!from.isBefore(to)) {
+            return new long[0];
+        }
+        return toSeqs(entries.subSet(new Entry(from, Long.MIN_VALUE), true, new Entry(to, Long.MIN_VALUE), false));
+    }
+
+    // Sequence numbers of tasks due before the given time, earliest first
+    long[] dueBefore(LocalDateTime time) {
+        return toSeqs(entries.headSet(new Entry(time, Long.MIN_VALUE), false));
+    }
+
+    private static long[] toSeqs(NavigableSet<Entry> range) {
+        long[] seqs = new long[range.size()];
+        int i = 0;
+        for (Entry entry : range) {
+            seqs[i++] = entry.seq();
+        }
+        return seqs;
+    }
+
+    static LocalDateTime dueTime(Task task) {
+        if (task instanceof Deadline deadline) {
+            LocalDateTime by = deadline.getByDateTime();
+            return deadline.hasTimeInfo() ? by : by.toLocalDate().atTime(LocalTime.MAX);
+        }
+        if (task instanceof Event event) {
+            return event.getFromDateTime();
+        }
+        return null;
+    }
+}
@@ -1,94 +1,185 @@
 package org.todobot.service;
 
-import org.todobot.commands.core.Command;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Consumer;
+
 import org.todobot.commands.system.HelpCommand;
 import org.todobot.commands.task.AddCommand;
+import org.todobot.commands.task.BulkPriorityCommand;
+import org.todobot.commands.task.BulkTaskCommand;
+import org.todobot.commands.task.ConflictsCommand;
 import org.todobot.commands.task.DeleteAllCommand;
 import org.todobot.commands.task.DeleteAllConfirmCommand;
 import org.todobot.commands.task.DeleteCommand;
+import org.todobot.commands.task.DueCommand;
 import org.todobot.commands.task.FindCommand;
+import org.todobot.commands.task.FreeCommand;
 import org.todobot.commands.task.ListCommand;
 import org.todobot.commands.task.MarkCommand;
+import org.todobot.commands.task.OverdueCommand;
 import org.todobot.commands.task.PriorityCommand;
+import org.todobot.commands.task.UpcomingCommand;
+import org.todobot.common.BotConfig;
 import org.todobot.common.BotMessages;
 import org.todobot.common.CommandType;
+import org.todobot.model.Task;
 import org.todobot.parsers.core.ParseResult;
 import org.todobot.parsers.core.Parser;
 import org.todobot.storage.TaskStorage;
 
 public class ToDoBotService {
     private final TaskList taskList;
-    private final TaskStorage storage;
+    private final WriteBehindPersister persister;
+    private ReminderScheduler reminders;
+    
+    // Commands hold no per-call state, so one instance of each is reused
+    private final AddCommand addCommand;
+    private final ListCommand listCommand;
+    private final MarkCommand markCommand;
+    private final MarkCommand unmarkCommand;
+    private final DeleteCommand deleteCommand;
+    private final DeleteAllCommand deleteAllCommand;
+    private final DeleteAllConfirmCommand deleteAllConfirmCommand;
+    private final FindCommand findCommand;
+    private final HelpCommand helpCommand;
+    private final PriorityCommand priorityCommand;
+    private final BulkTaskCommand bulkTaskCommand;
+    private final BulkPriorityCommand bulkPriorityCommand;
+    private final UpcomingCommand upcomingCommand;
+    private final OverdueCommand overdueCommand;
+    private final DueCommand dueCommand;
+    private final ConflictsCommand conflictsCommand;
+    private final FreeCommand freeCommand;
     
     public ToDoBotService() {
-        this.storage = new TaskStorage();
+        this(new TaskStorage());
+    }
+    
+    public ToDoBotService(TaskStorage storage) {
+        this(storage, false);
+    }
+    
+    // With deferred persistence nothing is written until cleanup(), which saves once
+    public ToDoBotService(TaskStorage storage, boolean deferPersistence) {
         this.taskList = new TaskList();
         
         // Load tasks on startup
         taskList.setTasks(storage.loadTasks());
+        
+        // Changes are written by a background thread so commands never wait on the disk
+        this.persister = new WriteBehindPersister(storage, BotConfig.getWriteBehindDelayMs(), deferPersistence);
+        taskList.addListener(persister);
+        
+        this.addCommand = new AddCommand(taskList);
+        this.listCommand = new ListCommand(taskList);
+        this.markCommand = new MarkCommand(taskList, true);
+        this.unmarkCommand = new MarkCommand(taskList, false);
+        this.deleteCommand = new DeleteCommand(taskList);
+        this.deleteAllCommand = new DeleteAllCommand(taskList);
+        this.deleteAllConfirmCommand = new DeleteAllConfirmCommand(taskList);
+        this.findCommand = new FindCommand(taskList);
+        this.helpCommand = new HelpCommand(taskList);
+        this.priorityCommand = new PriorityCommand(taskList);
+        this.bulkTaskCommand = new BulkTaskCommand(taskList);
+        this.bulkPriorityCommand = new BulkPriorityCommand(taskList);
+        this.upcomingCommand = new UpcomingCommand(taskList);
+        this.overdueCommand = new OverdueCommand(taskList);
+        this.dueCommand = new DueCommand(taskList);
+        this.conflictsCommand = new ConflictsCommand(taskList);
+        this.freeCommand = new FreeCommand(taskList);
     }
     
-    public String processCommand(String input) {
-        ParseResult result = Parser.parse(input);
-        
+    // Parses the input once and runs it; front-ends check isExit() instead of parsing again
+    public CommandResponse handleCommand(String input) {
+        return handleCommand(Parser.parse(input));
+    }
+    
+    // For front-ends that build the command from structured input instead of typed text
+    public CommandResponse handleCommand(ParseResult result) {
         if (!result.isValid()) {
-            return result.getErrorMessage();
+            return CommandResponse.error(result.getErrorMessage());
         }
         
         // Handle bye command
         if (result.getCommandType() == CommandType.BYE) {
-            return BotMessages.FAREWELL;
+            return CommandResponse.exit(BotMessages.FAREWELL);
         }
         
-        Command command = createCommand(result.getCommandType());
-        if (command == null) {
-            return BotMessages.UNKNOWN_COMMAND;
-        }
-        
-        String output = command.execute(result);
-        
-        // Save tasks after any command that might modify them
-        if (isModifyingCommand(result.getCommandType())) {
-            storage.saveTasks(taskList.getAllTasks());
-        }
+        CommandResponse response = execute(result);
+        persister.commandCompleted(taskList);
         
-        return output;
+        return response;
     }
     
-    private Command createCommand(CommandType commandType) {
-        return switch (commandType) {
-            case TODO, DEADLINE, EVENT -> new AddCommand(taskList, commandType);
-            case LIST -> new ListCommand(taskList);
-            case MARK -> new MarkCommand(taskList, true);
-            case UNMARK -> new MarkCommand(taskList, false);
-            case DELETE -> new DeleteCommand(taskList);
-            case DELETE_ALL -> new DeleteAllCommand(taskList);
-            case DELETE_ALL_CONFIRM -> new DeleteAllConfirmCommand(taskList);
-            case FIND -> new FindCommand(taskList);
-            case HELP -> new HelpCommand(taskList);
-            case PRIORITY -> new PriorityCommand(taskList);
-            default -> null;
+    public String processCommand(String input) {
+        return handleCommand(input).message();
+    }
+    
+    // Dispatches on the result type, so each command receives its arguments already typed
+    private CommandResponse execute(ParseResult result) {
+        return switch (result) {
+            case ParseResult.AddTask add -> addCommand.execute(add);
+            case ParseResult.TaskNumber number -> switch (number.commandType()) {
+                case MARK -> markCommand.execute(number);
+                case UNMARK -> unmarkCommand.execute(number);
+                case DELETE -> deleteCommand.execute(number);
+                default -> CommandResponse.error(BotMessages.UNKNOWN_COMMAND);
+            };
+            case ParseResult.SetPriority priority -> priorityCommand.execute(priority);
+            case ParseResult.BulkTasks bulk -> bulkTaskCommand.execute(bulk);
+            case ParseResult.BulkSetPriority bulk -> bulkPriorityCommand.execute(bulk);
+            case ParseResult.Find find -> findCommand.execute(find);
+            case ParseResult.ListRange range -> listCommand.execute(range);
+            case ParseResult.Upcoming upcoming -> upcomingCommand.execute(upcoming);
+            case ParseResult.DueOn dueOn -> dueCommand.execute(dueOn);
+            case ParseResult.FreeSlots free -> freeCommand.execute(free);
+            case ParseResult.NoArguments noArguments -> switch (noArguments.commandType()) {
+                case LIST -> listCommand.execute(noArguments);
+                case DELETE_ALL -> deleteAllCommand.execute(noArguments);
+                case DELETE_ALL_CONFIRM -> deleteAllConfirmCommand.execute(noArguments);
+                case HELP -> helpCommand.execute(noArguments);
+                case OVERDUE -> overdueCommand.execute(noArguments);
+                case CONFLICTS -> conflictsCommand.execute(noArguments);
+                default -> CommandResponse.error(BotMessages.UNKNOWN_COMMAND);
+            };
+            case ParseResult.Error error -> CommandResponse.error(error.message());
         };
     }
     
-    private boolean isModifyingCommand(CommandType commandType) {
-        return commandType == CommandType.TODO ||
-               commandType == CommandType.DEADLINE ||
-               commandType == CommandType.EVENT ||
-               commandType == CommandType.MARK ||
-               commandType == CommandType.UNMARK ||
-               commandType == CommandType.DELETE ||
-               commandType == CommandType.DELETE_ALL ||
-               commandType == CommandType.DELETE_ALL_CONFIRM ||
-               commandType == CommandType.PRIORITY;
+    // Read-only views for front-ends that want data rather than formatted text
+    public List<Task> getTasks() {
+        return taskList.snapshot();
     }
     
-    public boolean shouldExit(String input) {
-        ParseResult result = Parser.parse(input);
-        return result.isValid() && result.getCommandType() == CommandType.BYE;
+    public List<NumberedTask> searchTasks(String keyword) {
+        return taskList.searchTasks(keyword);
+    }
+    
+    /**
+     * Starts sending reminders for upcoming deadlines and events, beginning with the tasks
+     * loaded at startup. The notifier is called on a background thread.
+     */
+    public void startReminders(Consumer<String> notifier) {
+        if (reminders != null || !BotConfig.areRemindersEnabled()) {
+            return;
+        }
+        ReminderScheduler scheduler = new ReminderScheduler(Duration.ofMinutes(BotConfig.getReminderLeadMinutes()),
+                Clock.systemDefaultZone(), notifier);
+        // Holding off writers means no change can slip in between the rebuild and the first callback
+        taskList.withSnapshot(tasks -> {
+            scheduler.reset(tasks);
+            taskList.addListener(scheduler);
+        });
+        scheduler.start();
+        reminders = scheduler;
     }
     
     public void cleanup() {
-        storage.saveTasks(taskList.getAllTasks());
+        if (reminders != null) {
+            reminders.close();
+        }
+        persister.close(taskList);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,221 @@
+package org.todobot.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.todobot.model.Task;
+import org.todobot.storage.TaskStorage;
+
+/**
+ * Keeps disk I/O off the thread that runs commands.
+ * Changes are encoded into journal records as they happen and handed to a single
+ * writer thread, which waits for the write-behind window and then writes everything
+ * that arrived in one go. Full snapshots are coalesced the same way, so a burst of
+ * commands costs at most one save.
+ *
+ * <p>Nothing is dropped until it is on disk. A snapshot that fails to save stays queued,
+ * with the records that came after it, and is retried. After a failed journal append the
+ * file may end in a partial record, so records are held back until a snapshot replaces it.
+ */
+class WriteBehindPersister implements TaskListListener {
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 30;
+    private static final long RETRY_DELAY_MS = 1000;
+
+    private final TaskStorage storage;
+    private final long delayMs;
+    private final boolean deferred;
+    private final ScheduledThreadPoolExecutor writer;
+    private final Object lock = new Object();
+
+    // Guarded by lock; records are always newer than the pending snapshot
+    private List<Task> pendingSnapshot;
+    private List<String> pendingRecords = new ArrayList<>();
+    private boolean flushScheduled;
+    // Set by the writer when an append fails, cleared once a snapshot has been saved
+    private volatile boolean journalFailed;
+
+    // Changed only under the task list's lock: counted by its writers, reset while snapshotting
+    private volatile int changesSinceSnapshot;
+
+    WriteBehindPersister(TaskStorage storage, long delayMs) {
+        this(storage, delayMs, false);
+    }
+
+    // A deferred persister only counts changes and writes a single snapshot on close
+    WriteBehindPersister(TaskStorage storage, long delayMs, boolean deferred) {
+        this.storage = storage;
+        this.delayMs = Math.max(delayMs, 0);
+        this.deferred = deferred;
+        // Virtual, so a process holding many task lists does not pin a platform thread for each
+        this.writer = new ScheduledThreadPoolExecutor(1, Thread.ofVirtual().name("todobot-writer").factory());
+        writer.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+        // Records replayed at startup have not been folded into the snapshot yet
+        this.changesSinceSnapshot = storage.getJournalRecordCount();
+    }
+
+    @Override
+    public void onTaskAdded(Task task, int taskNumber) {
+        recordChange(isJournaling() ? storage.encodeTaskAdded(task) : null);
+    }
+
+    @Override
+    public void onTaskUpdated(Task task, int taskNumber) {
+        recordChange(isJournaling() ? storage.encodeTaskUpdated(taskNumber, task) : null);
+    }
+
+    @Override
+    public void onTaskDeleted(Task task, int taskNumber) {
+        recordChange(isJournaling() ? storage.encodeTaskDeleted(taskNumber) : null);
+    }
+
+    @Override
+    public void onTasksDeleted(List<Task> tasks, int[] taskNumbers) {
+        recordChange(isJournaling() ? storage.encodeTasksDeleted(taskNumbers) : null);
+    }
+
+    @Override
+    public void onAllTasksDeleted() {
+        recordChange(isJournaling() ? storage.encodeAllTasksDeleted() : null);
+    }
+
+    /**
+     * Called after each command. Queues a snapshot when one is due: after every change
+     * without a journal, or once the journal has grown past the compaction threshold.
+     */
+    void commandCompleted(TaskList taskList) {
+        if (deferred || (changesSinceSnapshot == 0 && !journalFailed)) {
+            return;
+        }
+        if (storage.isJournalEnabled() && !journalFailed
+                && changesSinceSnapshot < storage.getCompactionThreshold()) {
+            return;
+        }
+        taskList.withSnapshot(this::queueSnapshot);
+    }
+
+    /**
+     * Writes out everything still pending, folding unsaved changes into a snapshot,
+     * and forces the files to disk. Does nothing to the files if nothing changed.
+     */
+    void close(TaskList taskList) {
+        if (writer.isShutdown()) {
+            return;
+        }
+        boolean changed = changesSinceSnapshot > 0 || journalFailed;
+        if (changed) {
+            taskList.withSnapshot(this::queueSnapshot);
+        }
+        synchronized (lock) {
+            // A snapshot that failed earlier may still be waiting for its retry
+            changed |= pendingSnapshot != null;
+        }
+
+        writer.execute(this::flush);
+        writer.shutdown();
+        try {
+            if (!writer.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                System.err.println("Timed out waiting for tasks to be saved");
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        synchronized (lock) {
+            if (pendingSnapshot != null || !pendingRecords.isEmpty()) {
+                System.err.println("Some task changes could not be saved");
+            }
+        }
+        if (changed) {
+            storage.sync();
+        }
+    }
+
+    private boolean isJournaling() {
+        return storage.isJournalEnabled() && !deferred;
+    }
+
+    private void recordChange(String record) {
+        changesSinceSnapshot++;
+        if (record == null) {
+            return;
+        }
+        synchronized (lock) {
+            pendingRecords.add(record);
+            scheduleFlush();
+        }
+    }
+
+    // Runs with writers held off, so no change can land between the snapshot and dropping its records
+    private void queueSnapshot(List<Task> tasks) {
+        changesSinceSnapshot = 0;
+        synchronized (lock) {
+            // The snapshot already contains every record queued so far
+            pendingSnapshot = tasks;
+            pendingRecords = new ArrayList<>();
+            scheduleFlush();
+        }
+    }
+
+    private void scheduleFlush() {
+        scheduleFlush(delayMs);
+    }
+
+    private void scheduleFlush(long delay) {
+        if (flushScheduled || writer.isShutdown()) {
+            return;
+        }
+        flushScheduled = true;
+        writer.schedule(this::flush, delay, TimeUnit.MILLISECONDS);
+    }
+
+    private void flush() {
+        List<Task> snapshot;
+        List<String> records;
+        synchronized (lock) {
+            flushScheduled = false;
+            snapshot = pendingSnapshot;
+            if (snapshot == null && journalFailed) {
+                // Wait for the snapshot that close() or the next command queues
+                return;
+            }
+            records = pendingRecords;
+            pendingSnapshot = null;
+            pendingRecords = new ArrayList<>();
+        }
+
+        boolean saved = false;
+        boolean appended = false;
+        try {
+            saved = snapshot == null || storage.saveTasks(snapshot);
+            appended = saved && (records.isEmpty() || storage.appendJournal(records));
+        } catch (RuntimeException e) {
+            System.err.println("Error saving tasks in the background: " + e.getMessage());
+        }
+
+        synchronized (lock) {
+            if (saved && snapshot != null) {
+                journalFailed = false;
+            }
+            if (appended) {
+                return;
+            }
+            if (saved) {
+                journalFailed = true;
+            }
+            // A snapshot queued in the meantime already covers everything that failed here
+            if (pendingSnapshot == null) {
+                if (!saved) {
+                    pendingSnapshot = snapshot;
+                }
+                records.addAll(pendingRecords);
+                pendingRecords = records;
+            }
+            if (!saved) {
+                scheduleFlush(Math.max(delayMs, RETRY_DELAY_MS));
+            }
+        }
+    }
+}
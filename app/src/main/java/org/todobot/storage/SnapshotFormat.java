@@ -0,0 +1,11 @@
+package org.todobot.storage;
+
+/**
+ * On-disk encodings of the task snapshot. Loading detects the format from the
+ * file itself, so switching formats only affects the next save.
+ */
+public enum SnapshotFormat {
+    JSON,
+    COMPACT_JSON,
+    BINARY
+}
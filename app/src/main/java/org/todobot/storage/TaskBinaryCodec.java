@@ -0,0 +1,197 @@
+package org.todobot.storage;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.todobot.model.Deadline;
+import org.todobot.model.Event;
+import org.todobot.model.Priority;
+import org.todobot.model.Task;
+import org.todobot.model.ToDo;
+
+/**
+ * Compact binary snapshot encoding.
+ * <pre>
+ * int    magic "KBTS"
+ * short  version
+ * int    string count, then per string: int byte length, UTF-8 bytes
+ * int    task count, then per task:
+ *        byte  flags (bits 0-1 type, 2-3 priority, 4 done, 5 has time / has from time, 6 has to time)
+ *        int   description index into the string table
+ *        long  epoch second (UTC) of the deadline, or of the event start and end
+ * </pre>
+ * Dates are stored with second precision; task commands never produce anything finer.
+ */
+class TaskBinaryCodec {
+    static final int MAGIC = 0x4B425453;
+    static final int MAGIC_LENGTH = 4;
+    private static final short VERSION = 1;
+    private static final int HEADER_LENGTH = MAGIC_LENGTH + Short.BYTES;
+    // Smallest encodings: a string is at least its length, a task at least its flags and description index
+    private static final int MIN_STRING_BYTES = Integer.BYTES;
+    private static final int MIN_TASK_BYTES = Byte.BYTES + Integer.BYTES;
+
+    private static final int TYPE_TODO = 0;
+    private static final int TYPE_DEADLINE = 1;
+    private static final int TYPE_EVENT = 2;
+    private static final int TYPE_MASK = 0b11;
+    private static final int PRIORITY_SHIFT = 2;
+    private static final int PRIORITY_MASK = 0b11;
+    private static final int DONE_FLAG = 1 << 4;
+    private static final int FIRST_TIME_FLAG = 1 << 5;
+    private static final int SECOND_TIME_FLAG = 1 << 6;
+
+    private static final Priority[] PRIORITIES = Priority.values();
+
+    static boolean hasMagic(byte[] header, int length) {
+        return length == MAGIC_LENGTH
+                && ((header[0] & 0xFF) << 24 | (header[1] & 0xFF) << 16
+                    | (header[2] & 0xFF) << 8 | (header[3] & 0xFF)) == MAGIC;
+    }
+
+    void write(DataOutputStream out, List<Task> tasks) throws IOException {
+        // Repeated descriptions are written once and referenced by index
+        Map<String, Integer> stringIndex = new HashMap<>();
+        List<String> strings = new ArrayList<>();
+        int[] descriptionIndex = new int[tasks.size()];
+        int i = 0;
+        for (Task task : tasks) {
+            String description = task.getDescription();
+            Integer index = stringIndex.get(description);
+            if (index == null) {
+                index = strings.size();
+                stringIndex.put(description, index);
+                strings.add(description);
+            }
+            descriptionIndex[i++] = index;
+        }
+
+        out.writeInt(MAGIC);
+        out.writeShort(VERSION);
+        out.writeInt(strings.size());
+        for (String string : strings) {
+            byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+
+        // Iterated rather than indexed, since snapshots are not array-backed
+        out.writeInt(tasks.size());
+        i = 0;
+        for (Task task : tasks) {
+            writeTask(out, task, descriptionIndex[i++]);
+        }
+    }
+
+    // length is the size of the whole snapshot, so a corrupt count fails before anything is allocated for it
+    ArrayList<Task> read(DataInputStream in, long length) throws IOException {
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not a binary task snapshot");
+        }
+        short version = in.readShort();
+        if (version != VERSION) {
+            throw new IOException("Unsupported snapshot version: " + version);
+        }
+
+        long remaining = length - HEADER_LENGTH;
+        String[] strings = new String[readCount(in, remaining, MIN_STRING_BYTES)];
+        remaining -= Integer.BYTES;
+        for (int i = 0; i < strings.length; i++) {
+            byte[] bytes = new byte[readCount(in, remaining, 1)];
+            in.readFully(bytes);
+            strings[i] = new String(bytes, StandardCharsets.UTF_8);
+            remaining -= Integer.BYTES + bytes.length;
+        }
+
+        int taskCount = readCount(in, remaining, MIN_TASK_BYTES);
+        ArrayList<Task> tasks = new ArrayList<>(taskCount);
+        for (int i = 0; i < taskCount; i++) {
+            tasks.add(readTask(in, strings));
+        }
+        return tasks;
+    }
+
+    private void writeTask(DataOutputStream out, Task task, int descriptionIndex) throws IOException {
+        int flags = task.getPriority().ordinal() << PRIORITY_SHIFT;
+        if (task.isDone()) {
+            flags |= DONE_FLAG;
+        }
+
+        if (task instanceof Deadline deadline) {
+            flags |= TYPE_DEADLINE;
+            if (deadline.hasTimeInfo()) {
+                flags |= FIRST_TIME_FLAG;
+            }
+            out.writeByte(flags);
+            out.writeInt(descriptionIndex);
+            out.writeLong(toEpochSecond(deadline.getByDateTime()));
+        } else if (task instanceof Event event) {
+            flags |= TYPE_EVENT;
+            if (event.hasFromTime()) {
+                flags |= FIRST_TIME_FLAG;
+            }
+            if (event.hasToTime()) {
+                flags |= SECOND_TIME_FLAG;
+            }
+            out.writeByte(flags);
+            out.writeInt(descriptionIndex);
+            out.writeLong(toEpochSecond(event.getFromDateTime()));
+            out.writeLong(toEpochSecond(event.getToDateTime()));
+        } else {
+            out.writeByte(flags | TYPE_TODO);
+            out.writeInt(descriptionIndex);
+        }
+    }
+
+    private Task readTask(DataInputStream in, String[] strings) throws IOException {
+        int flags = in.readUnsignedByte();
+        int descriptionIndex = in.readInt();
+        if (descriptionIndex < 0 || descriptionIndex >= strings.length) {
+            throw new IOException("Invalid description index: " + descriptionIndex);
+        }
+        String description = strings[descriptionIndex];
+
+        Task task = switch (flags & TYPE_MASK) {
+            case TYPE_TODO -> new ToDo(description);
+            case TYPE_DEADLINE -> new Deadline(description, fromEpochSecond(in.readLong()),
+                    (flags & FIRST_TIME_FLAG) != 0);
+            case TYPE_EVENT -> new Event(description, fromEpochSecond(in.readLong()),
+                    (flags & FIRST_TIME_FLAG) != 0, fromEpochSecond(in.readLong()),
+                    (flags & SECOND_TIME_FLAG) != 0);
+            default -> throw new IOException("Unknown task type in snapshot: " + (flags & TYPE_MASK));
+        };
+
+        int priority = (flags >> PRIORITY_SHIFT) & PRIORITY_MASK;
+        task.setPriority(priority < PRIORITIES.length ? PRIORITIES[priority] : Priority.MEDIUM);
+        if ((flags & DONE_FLAG) != 0) {
+            task.markAsDone();
+        }
+        return task;
+    }
+
+    // Reads a count whose entries take at least minBytes each out of the remaining bytes, including the count itself
+    private static int readCount(DataInputStream in, long remaining, int minBytes) throws IOException {
+        int count = in.readInt();
+        long available = remaining - Integer.BYTES;
+        if (count < 0 || (long) count * minBytes > available) {
+            throw new IOException("Corrupt snapshot: length " + count + " with " + available + " bytes left");
+        }
+        return count;
+    }
+
+    private static long toEpochSecond(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    private static LocalDateTime fromEpochSecond(long epochSecond) {
+        return LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC);
+    }
+}
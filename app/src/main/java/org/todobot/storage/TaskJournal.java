@@ -0,0 +1,207 @@
+package org.todobot.storage;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.todobot.model.Priority;
+import org.todobot.model.Task;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+/**
+ * Append-only log of task mutations, written next to the snapshot file.
+ * Each line is one compact JSON record. The first line names the checksum of the
+ * snapshot the journal extends, so a journal left behind by an interrupted
+ * compaction is recognised as stale instead of being replayed twice.
+ */
+class TaskJournal {
+    private static final String OP_BASE = "base";
+    private static final String OP_ADD = "add";
+    private static final String OP_UPDATE = "update";
+    private static final String OP_DELETE = "delete";
+    private static final String OP_DELETE_MANY = "deleteMany";
+    private static final String OP_CLEAR = "clear";
+
+    private final Path journalPath;
+    private final TaskJsonCodec codec;
+    private long baseChecksum;
+    private int recordCount;
+
+    TaskJournal(Path journalPath, TaskJsonCodec codec) {
+        this.journalPath = journalPath;
+        this.codec = codec;
+    }
+
+    String encodeAdd(Task task) {
+        JsonObject record = newRecord(OP_ADD);
+        record.add("task", codec.toJson(task));
+        return record.toString();
+    }
+
+    String encodeUpdate(int taskNumber, Task task) {
+        JsonObject record = newRecord(OP_UPDATE);
+        record.addProperty("index", taskNumber);
+        record.addProperty("isDone", task.isDone());
+        record.addProperty("priority", task.getPriority().name());
+        return record.toString();
+    }
+
+    String encodeDelete(int taskNumber) {
+        JsonObject record = newRecord(OP_DELETE);
+        record.addProperty("index", taskNumber);
+        return record.toString();
+    }
+
+    // Task numbers must be ascending
+    String encodeDeleteMany(int[] taskNumbers) {
+        JsonObject record = newRecord(OP_DELETE_MANY);
+        JsonArray indices = new JsonArray(taskNumbers.length);
+        for (int taskNumber : taskNumbers) {
+            indices.add(taskNumber);
+        }
+        record.add("indices", indices);
+        return record.toString();
+    }
+
+    String encodeClear() {
+        return newRecord(OP_CLEAR).toString();
+    }
+
+    int getRecordCount() {
+        return recordCount;
+    }
+
+    // Drops the journal once its records are folded into a snapshot with the given checksum
+    void reset(long snapshotChecksum) throws IOException {
+        Files.deleteIfExists(journalPath);
+        baseChecksum = snapshotChecksum;
+        recordCount = 0;
+    }
+
+    void replay(ArrayList<Task> tasks, long snapshotChecksum) throws IOException {
+        baseChecksum = snapshotChecksum;
+        recordCount = 0;
+        if (!Files.exists(journalPath)) {
+            return;
+        }
+
+        try (BufferedReader reader = Files.newBufferedReader(journalPath, StandardCharsets.UTF_8)) {
+            String header = reader.readLine();
+            if (header == null || !isHeaderFor(header, snapshotChecksum)) {
+                System.err.println("Discarding stale task journal: " + journalPath);
+                reset(snapshotChecksum);
+                return;
+            }
+
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isBlank() && applyRecord(line, tasks)) {
+                    recordCount++;
+                }
+            }
+        }
+    }
+
+    private boolean isHeaderFor(String header, long snapshotChecksum) {
+        try {
+            JsonObject record = JsonParser.parseString(header).getAsJsonObject();
+            return OP_BASE.equals(record.get("op").getAsString())
+                    && record.get("checksum").getAsLong() == snapshotChecksum;
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+
+    private boolean applyRecord(String line, ArrayList<Task> tasks) {
+        try {
+            JsonObject record = JsonParser.parseString(line).getAsJsonObject();
+            String op = record.get("op").getAsString();
+            switch (op) {
+                case OP_ADD:
+                    Task task = codec.fromJson(record.getAsJsonObject("task"));
+                    if (task == null) {
+                        return false;
+                    }
+                    tasks.add(task);
+                    return true;
+                case OP_UPDATE:
+                    Task target = tasks.get(record.get("index").getAsInt() - 1);
+                    if (record.get("isDone").getAsBoolean()) {
+                        target.markAsDone();
+                    } else {
+                        target.markAsNotDone();
+                    }
+                    target.setPriority(Priority.valueOf(record.get("priority").getAsString()));
+                    return true;
+                case OP_DELETE:
+                    tasks.remove(record.get("index").getAsInt() - 1);
+                    return true;
+                case OP_DELETE_MANY:
+                    removeAll(tasks, record.getAsJsonArray("indices"));
+                    return true;
+                case OP_CLEAR:
+                    tasks.clear();
+                    return true;
+                default:
+                    System.err.println("Unknown journal record: " + op);
+                    return false;
+            }
+        } catch (RuntimeException e) {
+            // A torn final line after a crash lands here and is simply skipped
+            System.err.println("Error replaying journal record: " + e.getMessage());
+            return false;
+        }
+    }
+
+    // Compacts the survivors towards the front in one pass instead of shifting the list per removal
+    private static void removeAll(ArrayList<Task> tasks, JsonArray indices) {
+        int[] positions = new int[indices.size()];
+        for (int i = 0; i < positions.length; i++) {
+            positions[i] = indices.get(i).getAsInt() - 1;
+            if (positions[i] < 0 || positions[i] >= tasks.size() || (i > 0 && positions[i] <= positions[i - 1])) {
+                throw new IllegalArgumentException("Invalid task numbers in bulk delete");
+            }
+        }
+        int write = 0;
+        int next = 0;
+        for (int read = 0; read < tasks.size(); read++) {
+            if (next < positions.length && positions[next] == read) {
+                next++;
+            } else {
+                tasks.set(write++, tasks.get(read));
+            }
+        }
+        tasks.subList(write, tasks.size()).clear();
+    }
+
+    private JsonObject newRecord(String op) {
+        JsonObject record = new JsonObject();
+        record.addProperty("op", op);
+        return record;
+    }
+
+    // Appends already encoded records with a single write
+    void append(List<String> records) throws IOException {
+        StringBuilder lines = new StringBuilder();
+        if (recordCount == 0 && !Files.exists(journalPath)) {
+            JsonObject header = newRecord(OP_BASE);
+            header.addProperty("checksum", baseChecksum);
+            lines.append(header).append('\n');
+        }
+        for (String record : records) {
+            lines.append(record).append('\n');
+        }
+
+        Files.writeString(journalPath, lines, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        recordCount += records.size();
+    }
+}
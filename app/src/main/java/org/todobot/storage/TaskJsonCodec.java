@@ -0,0 +1,91 @@
+package org.todobot.storage;
+
+import java.time.LocalDateTime;
+
+import org.todobot.model.Deadline;
+import org.todobot.model.Event;
+import org.todobot.model.Priority;
+import org.todobot.model.Task;
+import org.todobot.model.ToDo;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+/**
+ * Converts single tasks to and from their JSON object form.
+ * Shared by the snapshot file and the mutation journal so both stay in the same format.
+ */
+class TaskJsonCodec {
+
+    JsonObject toJson(Task task) {
+        JsonObject taskObj = new JsonObject();
+        taskObj.addProperty("type", task.getClass().getSimpleName());
+        taskObj.addProperty("description", task.getDescription());
+        taskObj.addProperty("isDone", task.isDone());
+        taskObj.addProperty("priority", task.getPriority().name());
+        
+        if (task instanceof Deadline) {
+            Deadline deadline = (Deadline) task;
+            taskObj.addProperty("by", deadline.getByDateTime().toString());
+            taskObj.addProperty("hasTime", deadline.hasTimeInfo());
+        } else if (task instanceof Event) {
+            Event event = (Event) task;
+            taskObj.addProperty("from", event.getFromDateTime().toString());
+            taskObj.addProperty("hasFromTime", event.hasFromTime());
+            taskObj.addProperty("to", event.getToDateTime().toString());
+            taskObj.addProperty("hasToTime", event.hasToTime());
+        }
+        
+        return taskObj;
+    }
+    
+    Task fromJson(JsonObject taskObj) {
+        try {
+            String type = taskObj.get("type").getAsString();
+            String description = taskObj.get("description").getAsString();
+            boolean isDone = taskObj.get("isDone").getAsBoolean();
+            Priority priority = Priority.MEDIUM; // Default priority
+            JsonElement priorityElement = taskObj.get("priority");
+            if (priorityElement != null && !priorityElement.isJsonNull()) {
+                priority = Priority.valueOf(priorityElement.getAsString());
+            }
+            
+            Task task;
+            switch (type) {
+                case "ToDo":
+                    task = new ToDo(description);
+                    break;
+                case "Deadline":
+                    String byStr = taskObj.get("by").getAsString();
+                    boolean hasTime = taskObj.get("hasTime").getAsBoolean();
+                    LocalDateTime by = LocalDateTime.parse(byStr);
+                    task = new Deadline(description, by, hasTime);
+                    break;
+                case "Event":
+                    String fromStr = taskObj.get("from").getAsString();
+                    boolean hasFromTime = taskObj.get("hasFromTime").getAsBoolean();
+                    String toStr = taskObj.get("to").getAsString();
+                    boolean hasToTime = taskObj.get("hasToTime").getAsBoolean();
+                    LocalDateTime from = LocalDateTime.parse(fromStr);
+                    LocalDateTime to = LocalDateTime.parse(toStr);
+                    task = new Event(description, from, hasFromTime, to, hasToTime);
+                    break;
+                default:
+                    System.err.println("Unknown task type: " + type);
+                    return null;
+            }
+            
+            if (isDone) {
+                task.markAsDone();
+            }
+            
+            task.setPriority(priority);
+            
+            return task;
+            
+        } catch (Exception e) {
+            System.err.println("Error parsing task: " + e.getMessage());
+            return null;
+        }
+    }
+}
@@ -1,181 +1,339 @@
 package org.todobot.storage;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.time.LocalDateTime;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
 
-import org.todobot.model.Deadline;
-import org.todobot.model.Event;
-import org.todobot.model.Priority;
+import org.todobot.common.BotConfig;
 import org.todobot.model.Task;
-import org.todobot.model.ToDo;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
-import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
-import com.google.gson.JsonObject;
-import com.google.gson.JsonSyntaxException;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
 
 public class TaskStorage {
     private static final String DEFAULT_DATA_DIR = "./data";
     private static final String FILE_NAME = "KunBot.txt";
-    
+    private static final String JOURNAL_FILE_NAME = "KunBot.journal";
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final String BACKUP_SUFFIX = ".bak.";
+    private static final String PRETTY_INDENT = "  ";
+    private static final int BUFFER_SIZE = 64 * 1024;
+
     private final Path filePath;
     private final Gson gson;
-    
+    private final TaskJsonCodec codec;
+    private final Path journalPath;
+    private final TaskJournal journal;
+    private final boolean journalEnabled;
+    private final int compactionThreshold;
+    private final TaskBinaryCodec binaryCodec;
+    private final SnapshotFormat format;
+    private final long mmapThreshold;
+    private final int backupCount;
+
     public TaskStorage() {
         this(DEFAULT_DATA_DIR);
     }
-    
+
     public TaskStorage(String dataDir) {
+        this(dataDir, BotConfig.isJournalEnabled());
+    }
+
+    public TaskStorage(String dataDir, boolean journalEnabled) {
+        this(dataDir, journalEnabled, configuredFormat());
+    }
+
+    public TaskStorage(String dataDir, boolean journalEnabled, SnapshotFormat format) {
         this.filePath = Paths.get(dataDir, FILE_NAME);
-        this.gson = new GsonBuilder()
-            .setPrettyPrinting()
-            .create();
+        this.gson = new GsonBuilder().create();
+        this.codec = new TaskJsonCodec();
+        this.journalPath = Paths.get(dataDir, JOURNAL_FILE_NAME);
+        this.journal = new TaskJournal(journalPath, codec);
+        this.journalEnabled = journalEnabled;
+        this.compactionThreshold = BotConfig.getJournalCompactionThreshold();
+        this.binaryCodec = new TaskBinaryCodec();
+        this.format = format;
+        int thresholdMb = BotConfig.getMmapThresholdMb();
+        this.mmapThreshold = thresholdMb < 0 ? -1 : thresholdMb * 1024L * 1024L;
+        this.backupCount = BotConfig.getBackupCount();
+    }
+
+    private static SnapshotFormat configuredFormat() {
+        String format = BotConfig.getStorageFormat();
+        if ("binary".equalsIgnoreCase(format)) {
+            return SnapshotFormat.BINARY;
+        }
+        if (!"json".equalsIgnoreCase(format)) {
+            System.err.println("Unknown storage format '" + format + "', using json");
+        }
+        return BotConfig.isCompactJson() ? SnapshotFormat.COMPACT_JSON : SnapshotFormat.JSON;
     }
-    
+
     public ArrayList<Task> loadTasks() {
-        try {
-            String json = readJsonContent();
-            if (json == null) {
-                return new ArrayList<>();
+        ArrayList<Task> tasks = new ArrayList<>();
+        long snapshotChecksum = 0;
+        if (Files.exists(filePath)) {
+            CRC32 crc = new CRC32();
+            try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ);
+                    InputStream in = openSnapshot(channel, crc)) {
+                try {
+                    tasks = isBinarySnapshot(in)
+                            ? binaryCodec.read(new DataInputStream(in), channel.size())
+                            : readTasks(new JsonReader(new InputStreamReader(in, StandardCharsets.UTF_8)));
+                } finally {
+                    // The journal is keyed to the checksum of the whole file, not just what the parser consumed
+                    in.transferTo(OutputStream.nullOutputStream());
+                }
+            } catch (IOException | JsonParseException | IllegalStateException e) {
+                System.err.println("Error loading tasks: " + e.getMessage());
+                tasks = new ArrayList<>();
             }
-            
-            JsonArray jsonArray = gson.fromJson(json, JsonArray.class);
-            return jsonArrayToTasks(jsonArray);
-            
-        } catch (IOException | JsonSyntaxException e) {
-            System.err.println("Error loading tasks: " + e.getMessage());
-            return new ArrayList<>();
+            snapshotChecksum = crc.getValue();
+        }
+
+        try {
+            journal.replay(tasks, snapshotChecksum);
+        } catch (IOException e) {
+            System.err.println("Error replaying task journal: " + e.getMessage());
         }
+        return tasks;
     }
-    
-    public void saveTasks(ArrayList<Task> tasks) {
+
+    /**
+     * Writes the snapshot to a temporary file, forces it to disk and renames it over
+     * the task file, so a crash at any point leaves either the old or the new file intact.
+     * Returns false if the snapshot could not be written.
+     */
+    public boolean saveTasks(List<Task> tasks) {
+        Path tempPath = filePath.resolveSibling(FILE_NAME + TEMP_SUFFIX);
         try {
-            JsonArray jsonArray = tasksToJsonArray(tasks);
-            String json = gson.toJson(jsonArray);
-            writeJsonToFile(json);
+            createDataDirectoryIfNeeded();
+            CRC32 crc = new CRC32();
+            try (FileChannel channel = FileChannel.open(tempPath, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                OutputStream out = new BufferedOutputStream(
+                        new CheckedOutputStream(Channels.newOutputStream(channel), crc), BUFFER_SIZE);
+                writeSnapshot(out, tasks);
+                out.flush();
+                channel.force(true);
+            }
+            rotateBackups();
+            replaceAtomically(tempPath, filePath);
+            journal.reset(crc.getValue());
+            return true;
         } catch (IOException e) {
             System.err.println("Error saving tasks: " + e.getMessage());
+            try {
+                Files.deleteIfExists(tempPath);
+            } catch (IOException ignored) {
+                // The next save truncates it anyway
+            }
+            return false;
         }
     }
-    
-    private String readJsonContent() throws IOException {
-        if (!Files.exists(filePath)) {
-            return null;
-        }
-        
-        String json = Files.readString(filePath);
-        return json.trim().isEmpty() ? null : json;
-    }
-    
-    private JsonObject taskToJsonObject(Task task) {
-        JsonObject taskObj = new JsonObject();
-        taskObj.addProperty("type", task.getClass().getSimpleName());
-        taskObj.addProperty("description", task.getDescription());
-        taskObj.addProperty("isDone", task.isDone());
-        taskObj.addProperty("priority", task.getPriority().name());
-        
-        if (task instanceof Deadline) {
-            Deadline deadline = (Deadline) task;
-            taskObj.addProperty("by", deadline.getByDateTime().toString());
-            taskObj.addProperty("hasTime", deadline.hasTimeInfo());
-        } else if (task instanceof Event) {
-            Event event = (Event) task;
-            taskObj.addProperty("from", event.getFromDateTime().toString());
-            taskObj.addProperty("hasFromTime", event.hasFromTime());
-            taskObj.addProperty("to", event.getToDateTime().toString());
-            taskObj.addProperty("hasToTime", event.hasToTime());
-        }
-        
-        return taskObj;
-    }
-    
-    private JsonArray tasksToJsonArray(ArrayList<Task> tasks) {
-        JsonArray jsonArray = new JsonArray();
-        tasks.stream()
-            .map(this::taskToJsonObject)
-            .forEach(jsonArray::add);
-        return jsonArray;
-    }
-    
-    private ArrayList<Task> jsonArrayToTasks(JsonArray jsonArray) {
+
+    // === JOURNAL ===
+
+    public boolean isJournalEnabled() {
+        return journalEnabled;
+    }
+
+    public int getJournalRecordCount() {
+        return journal.getRecordCount();
+    }
+
+    public int getCompactionThreshold() {
+        return compactionThreshold;
+    }
+
+    // Journal records are encoded up front so they capture the task as it was at the time of the change
+    public String encodeTaskAdded(Task task) {
+        return journal.encodeAdd(task);
+    }
+
+    public String encodeTaskUpdated(int taskNumber, Task task) {
+        return journal.encodeUpdate(taskNumber, task);
+    }
+
+    public String encodeTaskDeleted(int taskNumber) {
+        return journal.encodeDelete(taskNumber);
+    }
+
+    public String encodeTasksDeleted(int[] taskNumbers) {
+        return journal.encodeDeleteMany(taskNumbers);
+    }
+
+    public String encodeAllTasksDeleted() {
+        return journal.encodeClear();
+    }
+
+    // Returns false if the records may not all have been written
+    public boolean appendJournal(List<String> records) {
+        try {
+            createDataDirectoryIfNeeded();
+            journal.append(records);
+            return true;
+        } catch (IOException e) {
+            System.err.println("Error writing task journal: " + e.getMessage());
+            return false;
+        }
+    }
+
+    // Forces the snapshot and journal to stable storage
+    public void sync() {
+        try {
+            forceIfExists(filePath);
+            forceIfExists(journalPath);
+        } catch (IOException e) {
+            System.err.println("Error syncing task files: " + e.getMessage());
+        }
+    }
+
+    private void forceIfExists(Path path) throws IOException {
+        if (Files.exists(path)) {
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+                channel.force(true);
+            }
+        }
+    }
+
+    private void writeSnapshot(OutputStream out, List<Task> tasks) throws IOException {
+        if (format == SnapshotFormat.BINARY) {
+            binaryCodec.write(new DataOutputStream(out), tasks);
+        } else {
+            JsonWriter writer = new JsonWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            writeTasks(writer, tasks);
+            writer.flush();
+        }
+    }
+
+    // The newest previous snapshot is KunBot.txt.bak.1, older generations count upwards
+    private void rotateBackups() throws IOException {
+        if (backupCount <= 0 || !Files.exists(filePath)) {
+            return;
+        }
+        Files.deleteIfExists(backupPath(backupCount));
+        for (int generation = backupCount - 1; generation >= 1; generation--) {
+            Path backup = backupPath(generation);
+            if (Files.exists(backup)) {
+                Files.move(backup, backupPath(generation + 1), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+
+        // The task file is only ever replaced, never rewritten in place, so a hard link is a safe copy
+        try {
+            Files.createLink(backupPath(1), filePath);
+        } catch (UnsupportedOperationException | IOException e) {
+            Files.copy(filePath, backupPath(1), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private Path backupPath(int generation) {
+        return filePath.resolveSibling(FILE_NAME + BACKUP_SUFFIX + generation);
+    }
+
+    private void replaceAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+
+        // Persist the rename itself; not every platform can open a directory for this
+        try (FileChannel directory = FileChannel.open(target.getParent(), StandardOpenOption.READ)) {
+            directory.force(true);
+        } catch (IOException e) {
+            // Best effort
+        }
+    }
+
+    // Large files are mapped and decoded in place, leaving caching to the OS page cache
+    private InputStream openSnapshot(FileChannel channel, CRC32 crc) throws IOException {
+        long size = channel.size();
+        if (mmapThreshold >= 0 && size >= mmapThreshold && size <= Integer.MAX_VALUE) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            crc.update(buffer.duplicate());
+            return new ByteBufferInputStream(buffer);
+        }
+        return new BufferedInputStream(
+                new CheckedInputStream(Channels.newInputStream(channel), crc), BUFFER_SIZE);
+    }
+
+    private boolean isBinarySnapshot(InputStream in) throws IOException {
+        byte[] header = new byte[TaskBinaryCodec.MAGIC_LENGTH];
+        in.mark(header.length);
+        int length = in.readNBytes(header, 0, header.length);
+        in.reset();
+        return TaskBinaryCodec.hasMagic(header, length);
+    }
+
+    // Parses one task at a time so memory use does not grow with the size of the file
+    private ArrayList<Task> readTasks(JsonReader reader) throws IOException {
         ArrayList<Task> tasks = new ArrayList<>();
-        
-        for (JsonElement element : jsonArray) {
-            JsonObject taskObj = element.getAsJsonObject();
-            Task task = parseTask(taskObj);
+        try {
+            reader.peek();
+        } catch (EOFException e) {
+            return tasks; // empty file
+        }
+
+        reader.beginArray();
+        while (reader.hasNext()) {
+            JsonElement element = JsonParser.parseReader(reader);
+            Task task = codec.fromJson(element.getAsJsonObject());
             if (task != null) {
-                tasks.add(task);    
+                tasks.add(task);
             }
         }
-        
+        reader.endArray();
+        if (reader.peek() != JsonToken.END_DOCUMENT) {
+            throw new JsonParseException("Unexpected content after task list");
+        }
         return tasks;
     }
-    
-    private void writeJsonToFile(String json) throws IOException {
-        createDataDirectoryIfNeeded();
-        Files.writeString(filePath, json);
+
+    private void writeTasks(JsonWriter writer, List<Task> tasks) throws IOException {
+        if (format != SnapshotFormat.COMPACT_JSON) {
+            writer.setIndent(PRETTY_INDENT);
+        }
+        writer.beginArray();
+        for (Task task : tasks) {
+            gson.toJson(codec.toJson(task), writer);
+        }
+        writer.endArray();
     }
-    
+
     private void createDataDirectoryIfNeeded() throws IOException {
         Path dataDir = filePath.getParent();
         if (!Files.exists(dataDir)) {
             Files.createDirectories(dataDir);
         }
     }
-    
-    private Task parseTask(JsonObject taskObj) {
-        try {
-            String type = taskObj.get("type").getAsString();
-            String description = taskObj.get("description").getAsString();
-            boolean isDone = taskObj.get("isDone").getAsBoolean();
-            Priority priority = Priority.MEDIUM; // Default priority
-            JsonElement priorityElement = taskObj.get("priority");
-            if (priorityElement != null && !priorityElement.isJsonNull()) {
-                priority = Priority.valueOf(priorityElement.getAsString());
-            }
-            
-            Task task;
-            switch (type) {
-                case "ToDo":
-                    task = new ToDo(description);
-                    break;
-                case "Deadline":
-                    String byStr = taskObj.get("by").getAsString();
-                    boolean hasTime = taskObj.get("hasTime").getAsBoolean();
-                    LocalDateTime by = LocalDateTime.parse(byStr);
-                    task = new Deadline(description, by, hasTime);
-                    break;
-                case "Event":
-                    String fromStr = taskObj.get("from").getAsString();
-                    boolean hasFromTime = taskObj.get("hasFromTime").getAsBoolean();
-                    String toStr = taskObj.get("to").getAsString();
-                    boolean hasToTime = taskObj.get("hasToTime").getAsBoolean();
-                    LocalDateTime from = LocalDateTime.parse(fromStr);
-                    LocalDateTime to = LocalDateTime.parse(toStr);
-                    task = new Event(description, from, hasFromTime, to, hasToTime);
-                    break;
-                default:
-                    System.err.println("Unknown task type: " + type);
-                    return null;
-            }
-            
-            if (isDone) {
-                task.markAsDone();
-            }
-            
-            task.setPriority(priority);
-            
-            return task;
-            
-        } catch (Exception e) {
-            System.err.println("Error parsing task: " + e.getMessage());
-            return null;
-        }
-    }
-}
\ No newline at end of file
+}
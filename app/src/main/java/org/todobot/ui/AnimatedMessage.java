@@ -1,5 +1,6 @@
 package org.todobot.ui;
 
+import javafx.animation.Timeline;
 import javafx.application.Platform;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
@@ -8,7 +9,8 @@ import javafx.scene.layout.HBox;
 
 /**
  * Self-animating message component that handles styling, layout, and animations.
- * Replaces manual Label + HBox + styling + animation setup.
+ * Replaces manual Label + HBox + styling + animation setup. Chat cells reuse one
+ * instance for many messages through {@link #setMessage}.
  */
 public class AnimatedMessage extends HBox {
     
@@ -16,42 +18,60 @@ public class AnimatedMessage extends HBox {
         USER, BOT
     }
     
+    private final Label label = new Label();
+    private MessageType type;
+    private Timeline entrance;
+    
+    public AnimatedMessage() {
+        label.setMaxWidth(Double.MAX_VALUE);
+        this.getChildren().add(label);
+    }
+    
     public AnimatedMessage(String message, MessageType type) {
-        Label label;
+        this();
+        setMessage(message, type);
+        
+        // Start animation after construction is complete
+        Platform.runLater(this::playEntrance);
+    }
+    
+    public void setMessage(String message, MessageType type) {
+        this.type = type;
+        
+        // A recycled node may still be sliding in with its previous message
+        if (entrance != null) {
+            entrance.stop();
+            entrance = null;
+        }
+        this.setTranslateX(0);
+        this.setOpacity(1.0);
         
         if (type == MessageType.USER) {
-            // Create user message with styling
-            label = new Label("> " + message);
+            // User messages are right-aligned
+            label.setText("> " + message);
             label.setStyle(ThemeManager.USER_MESSAGE);
-            label.setMaxWidth(Double.MAX_VALUE);
             label.setAlignment(Pos.CENTER_RIGHT);
-            
-            // Configure HBox for user message (right-aligned)
             this.setAlignment(Pos.CENTER_RIGHT);
             this.setPadding(new Insets(4, 0, 4, 60));
-            this.getChildren().add(label);
-            
-            // Start animation after construction is complete
-            Platform.runLater(() -> 
-                AnimationUtils.slideInFromRight(this).play()
-            );
-            
         } else { // MessageType.BOT
-            // Create bot message with styling
-            label = new Label("● " + message);
+            // Bot messages are left-aligned
+            label.setText("● " + message);
             label.setStyle(ThemeManager.BOT_MESSAGE);
-            label.setMaxWidth(Double.MAX_VALUE);
             label.setAlignment(Pos.CENTER_LEFT);
-            
-            // Configure HBox for bot message (left-aligned)
             this.setAlignment(Pos.CENTER_LEFT);
             this.setPadding(new Insets(4, 60, 4, 0));
-            this.getChildren().add(label);
-            
-            // Start animation after construction is complete
-            Platform.runLater(() -> 
-                AnimationUtils.slideInFromLeft(this).play()
-            );
         }
     }
-}
\ No newline at end of file
+    
+    public void playEntrance() {
+        entrance = type == MessageType.USER
+                ? AnimationUtils.slideInFromRight(this)
+                : AnimationUtils.slideInFromLeft(this);
+        entrance.setOnFinished(e -> entrance = null);
+        entrance.play();
+    }
+    
+    public Label getLabel() {
+        return label;
+    }
+}
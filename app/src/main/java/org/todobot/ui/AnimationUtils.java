@@ -97,9 +97,8 @@ public class AnimationUtils {
         return new Timeline(new KeyFrame(duration));
     }
     
-    public static Timeline createProcessingDelay() {
+    public static long getProcessingDelayMillis() {
         // Random delay between 100ms and 1000ms
-        double randomSeconds = 0.1 + (Math.random() * 0.9);
-        return createDelay(Duration.seconds(randomSeconds));
+        return 100 + (long) (Math.random() * 900);
     }
 }
\ No newline at end of file
@@ -0,0 +1,33 @@
+package org.todobot.ui;
+
+import org.todobot.ui.AnimatedMessage.MessageType;
+
+/**
+ * One entry in the GUI transcript. Cells are recycled while scrolling, so the
+ * message remembers whether its entrance animation has already been played.
+ */
+public class ChatMessage {
+    private final String text;
+    private final MessageType type;
+    private boolean animationPending = true;
+    
+    public ChatMessage(String text, MessageType type) {
+        this.text = text;
+        this.type = type;
+    }
+    
+    public String getText() {
+        return text;
+    }
+    
+    public MessageType getType() {
+        return type;
+    }
+    
+    // True only the first time it is called
+    public boolean takePendingAnimation() {
+        boolean pending = animationPending;
+        animationPending = false;
+        return pending;
+    }
+}
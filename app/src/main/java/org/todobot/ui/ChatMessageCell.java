@@ -0,0 +1,34 @@
+package org.todobot.ui;
+
+import javafx.scene.control.ListCell;
+
+/**
+ * List cell that shows a {@link ChatMessage}. The ListView only creates enough cells
+ * to fill the viewport, so the number of message nodes stays constant however long
+ * the transcript grows.
+ */
+public class ChatMessageCell extends ListCell<ChatMessage> {
+    private final AnimatedMessage view = new AnimatedMessage();
+    
+    public ChatMessageCell() {
+        setStyle(ThemeManager.CHAT_CELL);
+        // Let the list decide the width so long messages never add a horizontal scroll bar
+        setPrefWidth(0);
+    }
+    
+    @Override
+    protected void updateItem(ChatMessage message, boolean empty) {
+        super.updateItem(message, empty);
+        
+        if (empty || message == null) {
+            setGraphic(null);
+            return;
+        }
+        
+        view.setMessage(message.getText(), message.getType());
+        setGraphic(view);
+        if (message.takePendingAnimation()) {
+            view.playEntrance();
+        }
+    }
+}
@@ -39,6 +39,10 @@ public class ThemeManager {
         "-fx-border-radius: 14; " +
         "-fx-effect: dropshadow(gaussian, rgba(0, 0, 0, 0.15), 20, 0, 0, 4);";
     
+    public static final String CHAT_CELL = 
+        "-fx-background-color: transparent; " +
+        "-fx-padding: 6 20 6 20;";
+    
     // === MESSAGE STYLES ===
     
     public static final String USER_MESSAGE = 
@@ -168,7 +172,18 @@ public class ThemeManager {
         "    -fx-background-color: transparent;" +
         "}";
         
-    public static final String CUSTOM_SCROLL_BAR = SCROLL_BAR_VERTICAL + SCROLL_BAR_CSS;
+    // Chat list: no selection or hover highlight, transcript rows sit directly on the container
+    public static final String CHAT_LIST_CSS = 
+        ".list-view {" +
+        "    -fx-background-insets: 0;" +
+        "    -fx-padding: 14 0 14 0;" +
+        "}" +
+        ".list-view .list-cell:filled:selected," +
+        ".list-view .list-cell:filled:hover {" +
+        "    -fx-background-color: transparent;" +
+        "}";
+        
+    public static final String CUSTOM_SCROLL_BAR = SCROLL_BAR_VERTICAL + SCROLL_BAR_CSS + CHAT_LIST_CSS;
     
     // === PROMPT TEXT ===
     
@@ -4,6 +4,7 @@ import java.util.Scanner;
 
 import org.todobot.common.BotMessages;
 
+// Reminders print from another thread, so every method that writes holds the UI's lock for the whole message
 public class UI {
     private final Scanner scanner;
     
@@ -11,14 +12,14 @@ public class UI {
         this.scanner = new Scanner(System.in);
     }
     
-    public void showGreeting() {
+    public synchronized void showGreeting() {
         showLine();
         System.out.println(BotMessages.LOGO);
         System.out.println(BotMessages.GREETING);
         showLine();
     }
     
-    public void showFarewell() {
+    public synchronized void showFarewell() {
         showLine();
         System.out.println(BotMessages.FAREWELL);
         showLine();
@@ -28,11 +29,18 @@ public class UI {
         return scanner.nextLine();
     }
     
-    public void showResponse(String message) {
+    // The reply and its divider go out together, so a reminder never lands between them
+    public synchronized void showResponse(String message) {
         System.out.println(message);
+        showLine();
+    }
+    
+    public synchronized void showReminder(String message) {
+        System.out.println(message);
+        showLine();
     }
     
-    public void showLine() {
+    public synchronized void showLine() {
         System.out.println(BotMessages.HORIZONTAL_LINE);
     }
     
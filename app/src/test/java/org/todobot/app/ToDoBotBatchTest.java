@@ -0,0 +1,73 @@
+package org.todobot.app;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.todobot.service.ToDoBotService;
+import org.todobot.storage.TaskStorage;
+
+public class ToDoBotBatchTest {
+    
+    @TempDir
+    Path tempDir;
+    
+    private ToDoBotBatch batch;
+    private StringWriter output;
+    
+    @BeforeEach
+    void setUp() {
+        batch = new ToDoBotBatch(new ToDoBotService(new TaskStorage(tempDir.toString()), true));
+        output = new StringWriter();
+    }
+    
+    @Test
+    void shouldRunEveryLineAndCountFailures() throws IOException {
+        run("todo Read a book\n\nmark 5\ndeadline Report /by 32-13-2024\nlist\n");
+        
+        assertEquals(4, batch.getCommandCount());
+        assertEquals(2, batch.getFailureCount());
+        assertTrue(output.toString().contains("Read a book"));
+    }
+    
+    @Test
+    void shouldNotCountWarningsAsFailures() throws IOException {
+        run("todo Read a book\ndelete all\n");
+        
+        assertEquals(0, batch.getFailureCount());
+    }
+    
+    @Test
+    void shouldStopAtBye() throws IOException {
+        run("todo First task\nbye\ntodo Never added\n");
+        
+        assertEquals(2, batch.getCommandCount());
+        assertFalse(output.toString().contains("Never added"));
+    }
+    
+    @Test
+    void shouldSaveOnceAtCleanup() throws IOException {
+        run("todo First task\ntodo Second task\ndelete 1\n");
+        
+        assertFalse(Files.exists(tempDir.resolve("KunBot.txt")));
+        assertFalse(Files.exists(tempDir.resolve("KunBot.journal")));
+        
+        batch.cleanup();
+        
+        assertEquals(1, new TaskStorage(tempDir.toString()).loadTasks().size());
+    }
+    
+    private void run(String script) throws IOException {
+        batch.run(new BufferedReader(new StringReader(script)), output);
+    }
+}
@@ -0,0 +1,174 @@
+package org.todobot.app;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.todobot.service.TaskPartitions;
+import org.todobot.service.ToDoBotService;
+import org.todobot.storage.TaskStorage;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+public class ToDoBotServerTest {
+
+    @TempDir
+    Path tempDir;
+
+    private ToDoBotServer server;
+    private HttpClient client;
+    private String baseUri;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        TaskPartitions partitions = new TaskPartitions(tempDir.resolve("users").toString());
+        server = new ToDoBotServer(new ToDoBotService(new TaskStorage(tempDir.toString())), partitions,
+                new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+        server.start();
+        client = HttpClient.newHttpClient();
+        baseUri = "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop();
+    }
+
+    @Test
+    void shouldRunCommandsSentAsText() throws Exception {
+        HttpResponse<String> added = post("/command", "todo Read a book");
+        HttpResponse<String> failed = post("/command", "mark 5");
+
+        assertEquals(200, added.statusCode());
+        assertTrue(json(added).get("message").getAsString().contains("Read a book"));
+        assertEquals(400, failed.statusCode());
+        assertTrue(json(failed).get("error").getAsBoolean());
+    }
+
+    @Test
+    void shouldAddListFindAndMarkTasksAsJson() throws Exception {
+        assertEquals(201, post("/tasks", "{\"type\":\"deadline\",\"description\":\"Submit report\","
+                + "\"by\":\"25-12-2024 17:00\",\"priority\":\"high\"}").statusCode());
+        assertEquals(201, post("/tasks", "{\"type\":\"todo\",\"description\":\"Buy milk\"}").statusCode());
+        assertEquals(400, post("/tasks", "{\"type\":\"deadline\",\"description\":\"No date\"}").statusCode());
+        assertEquals(200, post("/tasks/2/mark", "").statusCode());
+
+        JsonArray tasks = json(get("/tasks")).getAsJsonArray("tasks");
+        assertEquals(2, tasks.size());
+        JsonObject deadline = tasks.get(0).getAsJsonObject();
+        assertEquals("deadline", deadline.get("type").getAsString());
+        assertEquals("2024-12-25T17:00", deadline.get("by").getAsString());
+        assertEquals("high", deadline.get("priority").getAsString());
+        assertTrue(tasks.get(1).getAsJsonObject().get("done").getAsBoolean());
+
+        JsonArray matches = json(get("/tasks?find=buy%20milk")).getAsJsonArray("tasks");
+        assertEquals(1, matches.size());
+        assertEquals(2, matches.get(0).getAsJsonObject().get("number").getAsInt());
+    }
+
+    @Test
+    void shouldNotReadCommandMarkersInsideJsonFields() throws Exception {
+        assertEquals(201, post("/tasks", "{\"type\":\"todo\",\"description\":\"Pay /by 01-01-2030 /to bank\"}")
+                .statusCode());
+        assertEquals(400, post("/tasks", "{\"type\":\"todo\",\"description\":\"Pay\","
+                + "\"priority\":\"high /by 01-01-2030\"}").statusCode());
+        assertEquals(400, post("/tasks", "{\"type\":\"todo\",\"description\":\"Pay !low\"}").statusCode());
+        assertEquals(400, post("/tasks", "{\"type\":\"deadline\",\"description\":\"Pay\","
+                + "\"by\":\"01-01-2030 /from 02-01-2030\"}").statusCode());
+        
+        JsonArray tasks = json(get("/tasks")).getAsJsonArray("tasks");
+        assertEquals(1, tasks.size());
+        assertEquals("todo", tasks.get(0).getAsJsonObject().get("type").getAsString());
+        assertEquals("Pay /by 01-01-2030 /to bank", tasks.get(0).getAsJsonObject().get("description").getAsString());
+    }
+    
+    @Test
+    void shouldRejectFieldsThatAreNotStrings() throws Exception {
+        HttpResponse<String> objectField = post("/tasks", "{\"type\":\"todo\",\"description\":{\"text\":\"Pay\"}}");
+        HttpResponse<String> arrayField = post("/tasks", "{\"type\":[\"todo\"],\"description\":\"Pay\"}");
+        
+        assertEquals(400, objectField.statusCode());
+        assertEquals("description must be a string", json(objectField).get("message").getAsString());
+        assertEquals(400, arrayField.statusCode());
+    }
+    
+    @Test
+    void shouldRejectUnknownEndpointsAndMethods() throws Exception {
+        assertEquals(404, post("/tasks/done/mark", "").statusCode());
+        assertEquals(404, post("/tasks/1/delete", "").statusCode());
+        assertEquals(405, get("/command").statusCode());
+        assertFalse(json(post("/tasks", "not json")).get("message").getAsString().isEmpty());
+    }
+
+    @Test
+    void shouldHandleConcurrentRequests() throws Exception {
+        int requestCount = 200;
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<HttpResponse<String>>> responses = new ArrayList<>();
+            for (int i = 0; i < requestCount; i++) {
+                String body = "todo Task " + i;
+                responses.add(clients.submit(() -> post("/command", body)));
+            }
+            for (Future<HttpResponse<String>> response : responses) {
+                assertEquals(200, response.get().statusCode());
+            }
+        }
+
+        assertEquals(requestCount, json(get("/tasks")).getAsJsonArray("tasks").size());
+    }
+
+    @Test
+    void shouldKeepUsersApartWithUserHeader() throws Exception {
+        post("/command", "todo Shared task");
+        send(HttpRequest.newBuilder(URI.create(baseUri + "/command")).header("X-User", "alice")
+                .POST(HttpRequest.BodyPublishers.ofString("todo Alice task")).build());
+        
+        JsonArray aliceTasks = json(send(HttpRequest.newBuilder(URI.create(baseUri + "/tasks"))
+                .header("X-User", "alice").GET().build())).getAsJsonArray("tasks");
+        HttpResponse<String> invalidUser = send(HttpRequest.newBuilder(URI.create(baseUri + "/tasks"))
+                .header("X-User", "../etc").GET().build());
+        
+        assertEquals(1, aliceTasks.size());
+        assertEquals("Alice task", aliceTasks.get(0).getAsJsonObject().get("description").getAsString());
+        assertEquals(1, json(get("/tasks")).getAsJsonArray("tasks").size());
+        assertEquals(400, invalidUser.statusCode());
+    }
+
+    private HttpResponse<String> send(HttpRequest request) throws IOException, InterruptedException {
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpResponse<String> get(String path) throws IOException, InterruptedException {
+        return client.send(HttpRequest.newBuilder(URI.create(baseUri + path)).GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpResponse<String> post(String path, String body) throws IOException, InterruptedException {
+        return client.send(HttpRequest.newBuilder(URI.create(baseUri + path))
+                .POST(HttpRequest.BodyPublishers.ofString(body)).build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static JsonObject json(HttpResponse<String> response) {
+        return JsonParser.parseString(response.body()).getAsJsonObject();
+    }
+}
@@ -4,6 +4,7 @@ import java.time.LocalDateTime;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.BeforeEach;
@@ -159,4 +160,19 @@ public class TaskTest {
         assertTrue(result.contains("[H]"));
         assertEquals("[T][ ][H] " + TEST_DESCRIPTION, result);
     }
-}
\ No newline at end of file
+    
+    @Test
+    void shouldReuseRenderedLineUntilTaskChanges() {
+        String first = deadline.toString();
+        assertSame(first, deadline.toString());
+        
+        deadline.markAsDone();
+        assertEquals("[D][X][M] " + TEST_DESCRIPTION + " (by: 25 Dec 2019)", deadline.toString());
+        
+        deadline.setPriority(Priority.LOW);
+        assertEquals("[D][X][L] " + TEST_DESCRIPTION + " (by: 25 Dec 2019)", deadline.toString());
+        
+        deadline.markAsNotDone();
+        assertEquals("[D][ ][L] " + TEST_DESCRIPTION + " (by: 25 Dec 2019)", deadline.toString());
+    }
+}
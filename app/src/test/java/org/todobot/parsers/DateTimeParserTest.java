@@ -5,7 +5,9 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 
 import org.junit.jupiter.api.Test;
@@ -164,6 +166,65 @@ public class DateTimeParserTest {
         assertTrue(result.hasTime());
     }
     
+    // parseDateTime() - Values the formatter adjusts rather than rejects
+    @Test
+    void shouldClampDayToEndOfMonth() {
+        DateTimeResult result = DateTimeParser.parseDateTime("31-04-2024");
+        
+        assertEquals(LocalDateTime.of(2024, 4, 30, 0, 0), result.getDateTime());
+    }
+    
+    @Test
+    void shouldRollMidnightAtEndOfDayIntoNextDay() {
+        DateTimeResult result = DateTimeParser.parseDateTime("31-12-2023 24:00");
+        
+        assertEquals(LocalDateTime.of(2024, 1, 1, 0, 0), result.getDateTime());
+        assertTrue(result.hasTime());
+    }
+    
+    @Test
+    void shouldRejectOtherWhitespaceBetweenDateAndTime() {
+        DateTimeParseException exception = assertThrows(DateTimeParseException.class, () -> {
+            DateTimeParser.parseDateTime("25-12-2023\t14:30");
+        });
+        assertTrue(exception.getMessage().contains("Invalid date/time format"));
+    }
+    
+    @Test
+    void shouldMatchFormatterForEveryDayAndMonth() {
+        DateTimeFormatter dateFormat = DateTimeFormatter.ofPattern("dd-MM-yyyy");
+        DateTimeFormatter dateTimeFormat = DateTimeFormatter.ofPattern("dd-MM-yyyy HH:mm");
+        String[] times = {"00:00", "09:05", "23:59", "24:00", "24:30", "12:60", "99:99"};
+        for (int year : new int[] {1, 1900, 2000, 2023, 2024, 9999}) {
+            for (int month = 0; month <= 13; month++) {
+                for (int day = 0; day <= 32; day++) {
+                    String date = String.format("%02d-%02d-%04d", day, month, year);
+                    assertSameAsFormatter(date, dateFormat, false);
+                    for (String time : times) {
+                        assertSameAsFormatter(date + " " + time, dateTimeFormat, true);
+                    }
+                }
+            }
+        }
+    }
+    
+    private void assertSameAsFormatter(String input, DateTimeFormatter format, boolean hasTime) {
+        LocalDateTime expected;
+        try {
+            expected = hasTime
+                    ? LocalDateTime.parse(input, format)
+                    : LocalDate.parse(input, format).atStartOfDay();
+        } catch (DateTimeParseException e) {
+            expected = null;
+        }
+        
+        if (expected == null) {
+            assertThrows(DateTimeParseException.class, () -> DateTimeParser.parseDateTime(input), input);
+        } else {
+            assertEquals(expected, DateTimeParser.parseDateTime(input).getDateTime(), input);
+        }
+    }
+    
     // formatDateTime() method tests
     @Test
     void shouldFormatDateOnly() {
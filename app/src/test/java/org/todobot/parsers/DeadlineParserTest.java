@@ -44,12 +44,12 @@ public class DeadlineParserTest {
         
         assertTrue(result.isValid());
         assertEquals(CommandType.DEADLINE, result.getCommandType());
-        assertEquals("homework", result.getArguments()[0]);
+        ParseResult.AddDeadline deadline = (ParseResult.AddDeadline) result;
+        assertEquals("homework", deadline.description());
         
-        Object[] timeData = result.getTimeData();
         LocalDateTime expectedDateTime = LocalDateTime.of(2023, 12, 25, 0, 0);
-        assertEquals(expectedDateTime, timeData[0]);
-        assertFalse((Boolean) timeData[1]);
+        assertEquals(expectedDateTime, deadline.by());
+        assertFalse(deadline.hasTime());
     }
     
     @Test
@@ -58,12 +58,12 @@ public class DeadlineParserTest {
         
         assertTrue(result.isValid());
         assertEquals(CommandType.DEADLINE, result.getCommandType());
-        assertEquals("buy milk", result.getArguments()[0]);
+        ParseResult.AddDeadline deadline = (ParseResult.AddDeadline) result;
+        assertEquals("buy milk", deadline.description());
         
-        Object[] timeData = result.getTimeData();
         LocalDateTime expectedDateTime = LocalDateTime.of(2024, 1, 1, 14, 30);
-        assertEquals(expectedDateTime, timeData[0]);
-        assertTrue((Boolean) timeData[1]); // hasTime = true
+        assertEquals(expectedDateTime, deadline.by());
+        assertTrue(deadline.hasTime()); // hasTime = true
     }
     
     @Test
@@ -72,12 +72,12 @@ public class DeadlineParserTest {
         
         assertTrue(result.isValid());
         assertEquals(CommandType.DEADLINE, result.getCommandType());
-        assertEquals("task with spaces", result.getArguments()[0]);
+        ParseResult.AddDeadline deadline = (ParseResult.AddDeadline) result;
+        assertEquals("task with spaces", deadline.description());
         
-        Object[] timeData = result.getTimeData();
         LocalDateTime expectedDateTime = LocalDateTime.of(2023, 12, 25, 0, 0);
-        assertEquals(expectedDateTime, timeData[0]);
-        assertFalse((Boolean) timeData[1]);
+        assertEquals(expectedDateTime, deadline.by());
+        assertFalse(deadline.hasTime());
     }
     
     @Test
@@ -86,12 +86,12 @@ public class DeadlineParserTest {
         
         assertTrue(result.isValid());
         assertEquals(CommandType.DEADLINE, result.getCommandType());
-        assertEquals("finish the project report", result.getArguments()[0]);
+        ParseResult.AddDeadline deadline = (ParseResult.AddDeadline) result;
+        assertEquals("finish the project report", deadline.description());
         
-        Object[] timeData = result.getTimeData();
         LocalDateTime expectedDateTime = LocalDateTime.of(2023, 12, 31, 23, 59);
-        assertEquals(expectedDateTime, timeData[0]);
-        assertTrue((Boolean) timeData[1]);
+        assertEquals(expectedDateTime, deadline.by());
+        assertTrue(deadline.hasTime());
     }
     
     @Test
@@ -100,12 +100,12 @@ public class DeadlineParserTest {
         
         assertTrue(result.isValid());
         assertEquals(CommandType.DEADLINE, result.getCommandType());
-        assertEquals("buy groceries & cook dinner", result.getArguments()[0]);
+        ParseResult.AddDeadline deadline = (ParseResult.AddDeadline) result;
+        assertEquals("buy groceries & cook dinner", deadline.description());
         
-        Object[] timeData = result.getTimeData();
         LocalDateTime expectedDateTime = LocalDateTime.of(2024, 7, 20, 0, 0);
-        assertEquals(expectedDateTime, timeData[0]);
-        assertFalse((Boolean) timeData[1]);
+        assertEquals(expectedDateTime, deadline.by());
+        assertFalse(deadline.hasTime());
     }
     
     // Invalid deadline formats - regex pattern failures
@@ -183,7 +183,8 @@ public class DeadlineParserTest {
         
         assertTrue(result.isValid());
         assertEquals(CommandType.DEADLINE, result.getCommandType());
-        assertEquals("task with by in name", result.getArguments()[0]);
+        ParseResult.AddDeadline deadline = (ParseResult.AddDeadline) result;
+        assertEquals("task with by in name", deadline.description());
     }
     
     @Test
@@ -192,7 +193,8 @@ public class DeadlineParserTest {
         
         assertTrue(result.isValid());
         assertEquals(CommandType.DEADLINE, result.getCommandType());
-        assertEquals("read a/b testing book", result.getArguments()[0]);
+        ParseResult.AddDeadline deadline = (ParseResult.AddDeadline) result;
+        assertEquals("read a/b testing book", deadline.description());
     }
     
     @Test
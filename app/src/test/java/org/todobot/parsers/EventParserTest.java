@@ -45,16 +45,16 @@ public class EventParserTest {
         
         assertTrue(result.isValid());
         assertEquals(CommandType.EVENT, result.getCommandType());
-        assertEquals("meeting", result.getArguments()[0]);
+        ParseResult.AddEvent event = (ParseResult.AddEvent) result;
+        assertEquals("meeting", event.description());
         
-        Object[] timeData = result.getTimeData();
         LocalDateTime expectedFromDateTime = LocalDateTime.of(2023, 12, 25, 0, 0);
         LocalDateTime expectedToDateTime = LocalDateTime.of(2023, 12, 26, 0, 0);
         
-        assertEquals(expectedFromDateTime, timeData[0]); // from dateTime
-        assertFalse((Boolean) timeData[1]); // from hasTime
-        assertEquals(expectedToDateTime, timeData[2]); // to dateTime
-        assertFalse((Boolean) timeData[3]); // to hasTime
+        assertEquals(expectedFromDateTime, event.from()); // from dateTime
+        assertFalse(event.hasFromTime()); // from hasTime
+        assertEquals(expectedToDateTime, event.to()); // to dateTime
+        assertFalse(event.hasToTime()); // to hasTime
     }
     
     @Test
@@ -63,16 +63,16 @@ public class EventParserTest {
         
         assertTrue(result.isValid());
         assertEquals(CommandType.EVENT, result.getCommandType());
-        assertEquals("conference", result.getArguments()[0]);
+        ParseResult.AddEvent event = (ParseResult.AddEvent) result;
+        assertEquals("conference", event.description());
         
-        Object[] timeData = result.getTimeData();
         LocalDateTime expectedFromDateTime = LocalDateTime.of(2024, 1, 1, 9, 0);
         LocalDateTime expectedToDateTime = LocalDateTime.of(2024, 1, 1, 17, 0);
         
-        assertEquals(expectedFromDateTime, timeData[0]);
-        assertTrue((Boolean) timeData[1]); // from hasTime
-        assertEquals(expectedToDateTime, timeData[2]);
-        assertTrue((Boolean) timeData[3]); // to hasTime
+        assertEquals(expectedFromDateTime, event.from());
+        assertTrue(event.hasFromTime()); // from hasTime
+        assertEquals(expectedToDateTime, event.to());
+        assertTrue(event.hasToTime()); // to hasTime
     }
     
     @Test
@@ -81,16 +81,16 @@ public class EventParserTest {
         
         assertTrue(result.isValid());
         assertEquals(CommandType.EVENT, result.getCommandType());
-        assertEquals("workshop", result.getArguments()[0]);
+        ParseResult.AddEvent event = (ParseResult.AddEvent) result;
+        assertEquals("workshop", event.description());
         
-        Object[] timeData = result.getTimeData();
         LocalDateTime expectedFromDateTime = LocalDateTime.of(2024, 6, 15, 0, 0);
         LocalDateTime expectedToDateTime = LocalDateTime.of(2024, 6, 15, 18, 0);
         
-        assertEquals(expectedFromDateTime, timeData[0]);
-        assertFalse((Boolean) timeData[1]); // from date only
-        assertEquals(expectedToDateTime, timeData[2]);
-        assertTrue((Boolean) timeData[3]); // to has time
+        assertEquals(expectedFromDateTime, event.from());
+        assertFalse(event.hasFromTime()); // from date only
+        assertEquals(expectedToDateTime, event.to());
+        assertTrue(event.hasToTime()); // to has time
     }
     
     @Test
@@ -99,16 +99,16 @@ public class EventParserTest {
         
         assertTrue(result.isValid());
         assertEquals(CommandType.EVENT, result.getCommandType());
-        assertEquals("project review", result.getArguments()[0]);
+        ParseResult.AddEvent event = (ParseResult.AddEvent) result;
+        assertEquals("project review", event.description());
         
-        Object[] timeData = result.getTimeData();
         LocalDateTime expectedFromDateTime = LocalDateTime.of(2023, 12, 25, 0, 0);
         LocalDateTime expectedToDateTime = LocalDateTime.of(2023, 12, 26, 0, 0);
         
-        assertEquals(expectedFromDateTime, timeData[0]);
-        assertFalse((Boolean) timeData[1]); // from hasTime
-        assertEquals(expectedToDateTime, timeData[2]);
-        assertFalse((Boolean) timeData[3]); // to hasTime
+        assertEquals(expectedFromDateTime, event.from());
+        assertFalse(event.hasFromTime()); // from hasTime
+        assertEquals(expectedToDateTime, event.to());
+        assertFalse(event.hasToTime()); // to hasTime
     }
     
     @Test
@@ -117,16 +117,16 @@ public class EventParserTest {
         
         assertTrue(result.isValid());
         assertEquals(CommandType.EVENT, result.getCommandType());
-        assertEquals("annual company retreat planning session", result.getArguments()[0]);
+        ParseResult.AddEvent event = (ParseResult.AddEvent) result;
+        assertEquals("annual company retreat planning session", event.description());
         
-        Object[] timeData = result.getTimeData();
         LocalDateTime expectedFromDateTime = LocalDateTime.of(2024, 7, 1, 8, 30);
         LocalDateTime expectedToDateTime = LocalDateTime.of(2024, 7, 3, 17, 30);
         
-        assertEquals(expectedFromDateTime, timeData[0]);
-        assertTrue((Boolean) timeData[1]); // from hasTime
-        assertEquals(expectedToDateTime, timeData[2]);
-        assertTrue((Boolean) timeData[3]); // to hasTime
+        assertEquals(expectedFromDateTime, event.from());
+        assertTrue(event.hasFromTime()); // from hasTime
+        assertEquals(expectedToDateTime, event.to());
+        assertTrue(event.hasToTime()); // to hasTime
     }
     
     // Invalid event formats - regex pattern failures
@@ -219,16 +219,16 @@ public class EventParserTest {
         
         assertTrue(result.isValid());
         assertEquals(CommandType.EVENT, result.getCommandType());
-        assertEquals("journey from home to office", result.getArguments()[0]);
+        ParseResult.AddEvent event = (ParseResult.AddEvent) result;
+        assertEquals("journey from home to office", event.description());
         
-        Object[] timeData = result.getTimeData();
         LocalDateTime expectedFromDateTime = LocalDateTime.of(2023, 12, 25, 0, 0);
         LocalDateTime expectedToDateTime = LocalDateTime.of(2023, 12, 26, 0, 0);
         
-        assertEquals(expectedFromDateTime, timeData[0]);
-        assertFalse((Boolean) timeData[1]); // from hasTime
-        assertEquals(expectedToDateTime, timeData[2]);
-        assertFalse((Boolean) timeData[3]); // to hasTime
+        assertEquals(expectedFromDateTime, event.from());
+        assertFalse(event.hasFromTime()); // from hasTime
+        assertEquals(expectedToDateTime, event.to());
+        assertFalse(event.hasToTime()); // to hasTime
     }
     
     @Test
@@ -237,16 +237,16 @@ public class EventParserTest {
         
         assertTrue(result.isValid());
         assertEquals(CommandType.EVENT, result.getCommandType());
-        assertEquals("read a/b testing manual", result.getArguments()[0]);
+        ParseResult.AddEvent event = (ParseResult.AddEvent) result;
+        assertEquals("read a/b testing manual", event.description());
         
-        Object[] timeData = result.getTimeData();
         LocalDateTime expectedFromDateTime = LocalDateTime.of(2023, 12, 25, 0, 0);
         LocalDateTime expectedToDateTime = LocalDateTime.of(2023, 12, 26, 0, 0);
         
-        assertEquals(expectedFromDateTime, timeData[0]);
-        assertFalse((Boolean) timeData[1]); // from hasTime
-        assertEquals(expectedToDateTime, timeData[2]);
-        assertFalse((Boolean) timeData[3]); // to hasTime
+        assertEquals(expectedFromDateTime, event.from());
+        assertFalse(event.hasFromTime()); // from hasTime
+        assertEquals(expectedToDateTime, event.to());
+        assertFalse(event.hasToTime()); // to hasTime
     }
     
     @Test
@@ -256,14 +256,14 @@ public class EventParserTest {
         
         assertTrue(result.isValid());
         assertEquals(CommandType.EVENT, result.getCommandType());
-        assertEquals("meeting", result.getArguments()[0]);
+        ParseResult.AddEvent event = (ParseResult.AddEvent) result;
+        assertEquals("meeting", event.description());
         
-        Object[] timeData = result.getTimeData();
         LocalDateTime expectedFromDateTime = LocalDateTime.of(2023, 12, 26, 0, 0);
         LocalDateTime expectedToDateTime = LocalDateTime.of(2023, 12, 25, 0, 0);
         
-        assertEquals(expectedFromDateTime, timeData[0]);
-        assertEquals(expectedToDateTime, timeData[2]);
+        assertEquals(expectedFromDateTime, event.from());
+        assertEquals(expectedToDateTime, event.to());
     }
     
     // Test getCommandKeywords
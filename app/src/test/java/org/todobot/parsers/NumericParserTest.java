@@ -39,7 +39,7 @@ public class NumericParserTest {
         
         assertTrue(result.isValid());
         assertEquals(CommandType.MARK, result.getCommandType());
-        assertEquals("1", result.getArguments()[0]);
+        assertEquals(1, ((ParseResult.TaskNumber) result).taskNumber());
     }
     
     @Test
@@ -48,7 +48,7 @@ public class NumericParserTest {
         
         assertTrue(result.isValid());
         assertEquals(CommandType.MARK, result.getCommandType());
-        assertEquals("5", result.getArguments()[0]);
+        assertEquals(5, ((ParseResult.TaskNumber) result).taskNumber());
     }
     
     @Test
@@ -60,8 +60,8 @@ public class NumericParserTest {
         assertTrue(deleteResult.isValid());
         assertEquals(CommandType.MARK, markResult.getCommandType());
         assertEquals(CommandType.DELETE, deleteResult.getCommandType());
-        assertEquals("42", markResult.getArguments()[0]);
-        assertEquals("42", deleteResult.getArguments()[0]);
+        assertEquals(42, ((ParseResult.TaskNumber) markResult).taskNumber());
+        assertEquals(42, ((ParseResult.TaskNumber) deleteResult).taskNumber());
     }
     
     // Invalid number formats
@@ -124,11 +124,11 @@ public class NumericParserTest {
     
     @Test
     void shouldAcceptVeryLargeNumber() {
-        // Test with a very large number to ensure regex handles it
+        // Numbers beyond int range saturate, so the command reports an invalid task number
         ParseResult result = markParser.parse("123456789012345");
         
         assertTrue(result.isValid());
-        assertEquals("123456789012345", result.getArguments()[0]);
+        assertEquals(Integer.MAX_VALUE, ((ParseResult.TaskNumber) result).taskNumber());
     }
     
     @Test
@@ -0,0 +1,140 @@
+package org.todobot.parsers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.todobot.common.BotMessages;
+import org.todobot.common.CommandType;
+import org.todobot.model.Priority;
+import org.todobot.model.TaskSelection;
+import org.todobot.parsers.core.ParseResult;
+import org.todobot.parsers.core.Parser;
+
+public class ParserTest {
+    
+    @Test
+    void shouldMatchKeywordsCaseInsensitively() {
+        assertEquals(CommandType.LIST, Parser.parse("LiSt").getCommandType());
+        assertEquals(CommandType.TODO, Parser.parse("TODO Read a book").getCommandType());
+        assertEquals(CommandType.BYE, Parser.parse("Quit").getCommandType());
+    }
+    
+    @Test
+    void shouldResolveAliases() {
+        assertEquals(CommandType.DELETE, Parser.parse("rm 2").getCommandType());
+        assertEquals(CommandType.DELETE, Parser.parse("d 2").getCommandType());
+        assertEquals(CommandType.HELP, Parser.parse("?").getCommandType());
+        assertEquals(CommandType.FIND, Parser.parse("search book").getCommandType());
+    }
+    
+    @Test
+    void shouldRejectKeywordPrefixesAndExtensions() {
+        assertEquals(BotMessages.INVALID_COMMAND, Parser.parse("mar 1").getErrorMessage());
+        assertEquals(BotMessages.INVALID_COMMAND, Parser.parse("marks 1").getErrorMessage());
+        assertEquals(BotMessages.INVALID_COMMAND, Parser.parse("tödo x").getErrorMessage());
+    }
+    
+    @Test
+    void shouldSplitKeywordFromArgumentsOnAnyWhitespace() {
+        ParseResult result = Parser.parse("  todo\t\tRead  a book  ");
+        
+        assertTrue(result.isValid());
+        assertEquals("Read  a book", ((ParseResult.AddTodo) result).description());
+    }
+    
+    @Test
+    void shouldParseNumbersAndDeleteKeywordsFromRange() {
+        assertEquals(42, ((ParseResult.TaskNumber) Parser.parse("mark   42 ")).taskNumber());
+        assertEquals(CommandType.DELETE_ALL_CONFIRM, Parser.parse("delete ALL Confirm").getCommandType());
+        assertFalse(Parser.parse("mark 4 2").isValid());
+    }
+    
+    @Test
+    void shouldReportEmptyInput() {
+        assertEquals(BotMessages.EMPTY_INPUT, Parser.parse(" \t ").getErrorMessage());
+        assertEquals(BotMessages.EMPTY_INPUT, Parser.parse(null).getErrorMessage());
+    }
+    
+    @Test
+    void shouldParseListRangesAndPages() {
+        assertEquals(new ParseResult.ListRange(200, 300), Parser.parse("list 200-300"));
+        assertEquals(new ParseResult.ListRange(5, 9), Parser.parse("ls 5 - 9"));
+        assertEquals(new ParseResult.ListRange(101, 150), Parser.parse("list --page 3"));
+        assertEquals(CommandType.LIST, Parser.parse("list").getCommandType());
+    }
+    
+    @Test
+    void shouldRejectMalformedListArguments() {
+        assertEquals(BotMessages.INVALID_LIST_FORMAT, Parser.parse("list 300-200").getErrorMessage());
+        assertEquals(BotMessages.INVALID_LIST_FORMAT, Parser.parse("list 0-5").getErrorMessage());
+        assertEquals(BotMessages.INVALID_LIST_FORMAT, Parser.parse("list --page").getErrorMessage());
+        assertEquals(BotMessages.INVALID_LIST_FORMAT, Parser.parse("list 5").getErrorMessage());
+    }
+    
+    @Test
+    void shouldIgnoreListArgumentsThatAreNotARangeOrPage() {
+        assertEquals(new ParseResult.NoArguments(CommandType.LIST), Parser.parse("list everything"));
+        assertEquals(new ParseResult.NoArguments(CommandType.LIST), Parser.parse("show all tasks"));
+        assertEquals(new ParseResult.NoArguments(CommandType.LIST), Parser.parse("list -5"));
+    }
+    
+    @Test
+    void shouldParseBulkSelections() {
+        TaskSelection numbers = new TaskSelection.Numbers(List.of(
+                new TaskSelection.Range(1, 1), new TaskSelection.Range(4, 9)));
+        
+        assertEquals(new ParseResult.BulkTasks(CommandType.MARK, numbers), Parser.parse("mark 1, 4-9"));
+        assertEquals(new ParseResult.BulkTasks(CommandType.DELETE, new TaskSelection.Status(true)),
+                Parser.parse("delete done"));
+        assertEquals(new ParseResult.BulkTasks(CommandType.UNMARK, new TaskSelection.Matching("weekly report")),
+                Parser.parse("unmark find:weekly report"));
+        assertEquals(new ParseResult.BulkSetPriority(numbers, Priority.HIGH), Parser.parse("priority 1,4-9 high"));
+        assertEquals(CommandType.PRIORITY, Parser.parse("priority find:report bug low").getCommandType());
+    }
+    
+    @Test
+    void shouldTrimTheSameWhitespaceForSingleAndBulkSelections() {
+        // An em space is not whitespace to the command parsers, so no selection may trim it either
+        assertTrue(Parser.parse("mark 1,2\t").isValid());
+        assertFalse(Parser.parse("mark 1\u2003").isValid());
+        assertFalse(Parser.parse("mark 1,2\u2003").isValid());
+        assertFalse(Parser.parse("mark done\u2003").isValid());
+    }
+    
+    @Test
+    void shouldRejectMalformedBulkSelections() {
+        assertEquals(BotMessages.INVALID_NUMBER_FORMAT, Parser.parse("mark 5-2").getErrorMessage());
+        assertEquals(BotMessages.INVALID_NUMBER_FORMAT, Parser.parse("mark 1,,2").getErrorMessage());
+        assertEquals(BotMessages.INVALID_NUMBER_FORMAT, Parser.parse("delete find:").getErrorMessage());
+        assertEquals(BotMessages.INVALID_PRIORITY_FORMAT, Parser.parse("priority 1- high").getErrorMessage());
+    }
+    
+    @Test
+    void shouldParseDueDateQueries() {
+        assertEquals(new ParseResult.Upcoming(14), Parser.parse("upcoming 14d"));
+        assertEquals(new ParseResult.Upcoming(7), Parser.parse("upcoming"));
+        assertEquals(CommandType.OVERDUE, Parser.parse("overdue").getCommandType());
+        assertEquals(new ParseResult.DueOn(LocalDate.of(2024, 12, 25)), Parser.parse("due 25-12-2024"));
+        assertEquals(BotMessages.INVALID_UPCOMING_FORMAT, Parser.parse("upcoming 2w").getErrorMessage());
+        assertEquals(BotMessages.INVALID_DUE_FORMAT, Parser.parse("due tomorrow").getErrorMessage());
+    }
+    
+    @Test
+    void shouldParseEventConflictQueries() {
+        LocalDate christmas = LocalDate.of(2024, 12, 25);
+        assertEquals(CommandType.CONFLICTS, Parser.parse("conflicts").getCommandType());
+        assertEquals(new ParseResult.FreeSlots(christmas, Duration.ofMinutes(90)), Parser.parse("free 25-12-2024 1h30m"));
+        assertEquals(new ParseResult.FreeSlots(christmas, Duration.ofHours(2)), Parser.parse("free 25-12-2024 2h"));
+        assertEquals(new ParseResult.FreeSlots(christmas, Duration.ofMinutes(30)), Parser.parse("free 25-12-2024"));
+        assertEquals(BotMessages.INVALID_FREE_FORMAT, Parser.parse("free 25-12-2024 0m").getErrorMessage());
+        assertEquals(BotMessages.INVALID_FREE_FORMAT, Parser.parse("free tomorrow").getErrorMessage());
+        assertEquals(BotMessages.INVALID_FREE_FORMAT, Parser.parse("free").getErrorMessage());
+    }
+}
+
@@ -8,6 +8,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.todobot.common.BotMessages;
 import org.todobot.common.CommandType;
+import org.todobot.model.Priority;
 import org.todobot.parsers.command.task.PriorityParser;
 import org.todobot.parsers.core.ParseResult;
 
@@ -45,8 +46,9 @@ public class PriorityParserTest {
         
         assertTrue(result.isValid());
         assertEquals(CommandType.PRIORITY, result.getCommandType());
-        assertEquals("1", result.getArguments()[0]);
-        assertEquals("high", result.getArguments()[1]);
+        ParseResult.SetPriority priority = (ParseResult.SetPriority) result;
+        assertEquals(1, priority.taskNumber());
+        assertEquals(Priority.HIGH, priority.priority());
     }
     
     @Test
@@ -55,8 +57,9 @@ public class PriorityParserTest {
         
         assertTrue(result.isValid());
         assertEquals(CommandType.PRIORITY, result.getCommandType());
-        assertEquals("2", result.getArguments()[0]);
-        assertEquals("medium", result.getArguments()[1]);
+        ParseResult.SetPriority priority = (ParseResult.SetPriority) result;
+        assertEquals(2, priority.taskNumber());
+        assertEquals(Priority.MEDIUM, priority.priority());
     }
     
     @Test
@@ -65,8 +68,9 @@ public class PriorityParserTest {
         
         assertTrue(result.isValid());
         assertEquals(CommandType.PRIORITY, result.getCommandType());
-        assertEquals("3", result.getArguments()[0]);
-        assertEquals("low", result.getArguments()[1]);
+        ParseResult.SetPriority priority = (ParseResult.SetPriority) result;
+        assertEquals(3, priority.taskNumber());
+        assertEquals(Priority.LOW, priority.priority());
     }
     
     @Test
@@ -75,8 +79,9 @@ public class PriorityParserTest {
         
         assertTrue(result.isValid());
         assertEquals(CommandType.PRIORITY, result.getCommandType());
-        assertEquals("5", result.getArguments()[0]);
-        assertEquals("h", result.getArguments()[1]);
+        ParseResult.SetPriority priority = (ParseResult.SetPriority) result;
+        assertEquals(5, priority.taskNumber());
+        assertEquals(Priority.HIGH, priority.priority());
     }
     
     @Test
@@ -85,8 +90,9 @@ public class PriorityParserTest {
         
         assertTrue(result.isValid());
         assertEquals(CommandType.PRIORITY, result.getCommandType());
-        assertEquals("10", result.getArguments()[0]);
-        assertEquals("m", result.getArguments()[1]);
+        ParseResult.SetPriority priority = (ParseResult.SetPriority) result;
+        assertEquals(10, priority.taskNumber());
+        assertEquals(Priority.MEDIUM, priority.priority());
     }
     
     @Test
@@ -95,8 +101,9 @@ public class PriorityParserTest {
         
         assertTrue(result.isValid());
         assertEquals(CommandType.PRIORITY, result.getCommandType());
-        assertEquals("42", result.getArguments()[0]);
-        assertEquals("l", result.getArguments()[1]);
+        ParseResult.SetPriority priority = (ParseResult.SetPriority) result;
+        assertEquals(42, priority.taskNumber());
+        assertEquals(Priority.LOW, priority.priority());
     }
     
     @Test
@@ -105,8 +112,9 @@ public class PriorityParserTest {
         
         assertTrue(result.isValid());
         assertEquals(CommandType.PRIORITY, result.getCommandType());
-        assertEquals("1", result.getArguments()[0]);
-        assertEquals("high", result.getArguments()[1]); // ! should be removed
+        ParseResult.SetPriority priority = (ParseResult.SetPriority) result;
+        assertEquals(1, priority.taskNumber());
+        assertEquals(Priority.HIGH, priority.priority()); // ! should be removed
     }
     
     @Test
@@ -115,8 +123,9 @@ public class PriorityParserTest {
         
         assertTrue(result.isValid());
         assertEquals(CommandType.PRIORITY, result.getCommandType());
-        assertEquals("7", result.getArguments()[0]);
-        assertEquals("medium", result.getArguments()[1]);
+        ParseResult.SetPriority priority = (ParseResult.SetPriority) result;
+        assertEquals(7, priority.taskNumber());
+        assertEquals(Priority.MEDIUM, priority.priority());
     }
     
     // Invalid task number formats
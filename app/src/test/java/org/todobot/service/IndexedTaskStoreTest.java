@@ -0,0 +1,156 @@
+package org.todobot.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.todobot.model.Task;
+import org.todobot.model.ToDo;
+
+public class IndexedTaskStoreTest {
+    
+    private IndexedTaskStore store;
+    
+    @BeforeEach
+    @SuppressWarnings("unused")
+    void setUp() {
+        store = new IndexedTaskStore();
+    }
+    
+    @Test
+    void shouldKeepInsertionOrder() {
+        for (int i = 0; i < 1000; i++) {
+            store.add(new ToDo("Task " + i));
+        }
+        
+        assertEquals(1000, store.size());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals("Task " + i, store.get(i).getDescription());
+        }
+    }
+    
+    @Test
+    void shouldReturnNullForOutOfRangeIndex() {
+        store.add(new ToDo("Only task"));
+        
+        assertNull(store.get(-1));
+        assertNull(store.get(1));
+        assertNull(store.remove(1));
+        assertEquals(1, store.size());
+    }
+    
+    @Test
+    void shouldMatchArrayListUnderRandomDeletes() {
+        ArrayList<Task> expected = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            ToDo task = new ToDo("Task " + i);
+            expected.add(task);
+            store.add(task);
+        }
+        
+        Random random = new Random(42);
+        while (expected.size() > 10) {
+            int index = random.nextInt(expected.size());
+            assertEquals(expected.remove(index), store.remove(index));
+        }
+        
+        assertEquals(expected, store.toList());
+    }
+    
+    @Test
+    void shouldTrackPositionBySequenceNumber() {
+        long first = store.add(new ToDo("First"));
+        long second = store.add(new ToDo("Second"));
+        long third = store.add(new ToDo("Third"));
+        
+        store.remove(0);
+        
+        assertEquals(-1, store.indexOfSeq(first));
+        assertEquals(0, store.indexOfSeq(second));
+        assertEquals(1, store.indexOfSeq(third));
+        assertEquals("Third", store.getBySeq(third).getDescription());
+        assertNull(store.getBySeq(first));
+    }
+    
+    @Test
+    void shouldVisitOnlyRequestedRange() {
+        ArrayList<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            tasks.add(new ToDo("Task " + i));
+        }
+        store.setAll(tasks);
+        
+        ArrayList<String> visited = new ArrayList<>();
+        store.forEachInRange(40, 43, (task, index) -> visited.add(index + ":" + task.getDescription()));
+        
+        assertEquals(3, visited.size());
+        assertEquals("40:Task 40", visited.get(0));
+        assertEquals("42:Task 42", visited.get(2));
+    }
+    
+    @Test
+    void shouldClearAllTasks() {
+        store.add(new ToDo("Task"));
+        store.clear();
+        
+        assertTrue(store.isEmpty());
+        assertEquals(0, store.size());
+    }
+    
+    @Test
+    void shouldKeepSnapshotUnchangedByLaterWrites() {
+        for (int i = 0; i < 100; i++) {
+            store.add(new ToDo("Task " + i));
+        }
+        IndexedTaskStore.Snapshot snapshot = store.snapshot();
+        ArrayList<Task> expected = new ArrayList<>(snapshot);
+        
+        store.remove(50);
+        store.add(new ToDo("Task 100"));
+        store.clear();
+        
+        assertEquals(expected, snapshot);
+        assertEquals(100, snapshot.size());
+        assertEquals("Task 50", snapshot.get(50).getDescription());
+        assertTrue(store.isEmpty());
+    }
+    
+    @Test
+    void shouldRemoveManyPositionsAndReportTheirSequenceNumbers() {
+        ArrayList<Task> expected = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            ToDo task = new ToDo("Task " + i);
+            expected.add(task);
+            store.add(task);
+        }
+        
+        // A handful goes through single removals, the large batch through a rebuild
+        for (int[] positions : new int[][]{{0, 500, 998}, IntStream.range(0, 997).filter(i -> i % 3 != 1).toArray()}) {
+            ArrayList<Long> removedSeqs = new ArrayList<>();
+            long[] seqs = new long[positions.length];
+            for (int i = 0; i < positions.length; i++) {
+                seqs[i] = store.seqAt(positions[i]);
+            }
+            store.removeAll(positions, (task, seq) -> removedSeqs.add(seq));
+            for (int i = positions.length - 1; i >= 0; i--) {
+                expected.remove(positions[i]);
+            }
+            
+            assertEquals(positions.length, removedSeqs.size());
+            for (long seq : seqs) {
+                assertTrue(removedSeqs.contains(seq));
+                assertEquals(-1, store.indexOfSeq(seq));
+            }
+            assertEquals(expected, store.toList());
+        }
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(i, store.indexOfSeq(store.seqAt(i)));
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package org.todobot.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.todobot.common.BotMessages;
+import org.todobot.model.Deadline;
+import org.todobot.model.Event;
+import org.todobot.model.Task;
+import org.todobot.model.ToDo;
+
+public class ReminderSchedulerTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 12, 20, 12, 0);
+    private static final Duration LEAD_TIME = Duration.ofMinutes(15);
+
+    private final List<String> reminders = new ArrayList<>();
+    private TaskList taskList;
+    private ReminderScheduler scheduler;
+
+    @BeforeEach
+    @SuppressWarnings("unused")
+    void setUp() {
+        Clock clock = Clock.fixed(NOW.toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+        scheduler = new ReminderScheduler(LEAD_TIME, clock, reminders::add);
+        taskList = new TaskList();
+        taskList.addListener(scheduler);
+    }
+
+    @Test
+    void shouldRemindLeadTimeBeforeDeadline() {
+        Task deadline = new Deadline("Submit report", NOW.plusHours(1), true);
+        taskList.addTask(deadline);
+
+        advanceTo(NOW.plusMinutes(44));
+        assertTrue(reminders.isEmpty());
+
+        advanceTo(NOW.plusMinutes(45));
+        assertEquals(List.of(BotMessages.formatReminder(deadline)), reminders);
+        assertEquals(0, scheduler.getPendingCount());
+    }
+
+    @Test
+    void shouldRemindInStartOrderAcrossWheelLevels() {
+        Task later = new Event("Conference", NOW.plusDays(40), true, NOW.plusDays(41), true);
+        Task sooner = new Deadline("Pay rent", NOW.plusHours(5), true);
+        Task soonest = new Event("Standup", NOW.plusMinutes(20), true, NOW.plusMinutes(35), true);
+        taskList.addTask(later);
+        taskList.addTask(sooner);
+        taskList.addTask(soonest);
+        taskList.addTask(new ToDo("No date"));
+
+        advanceTo(NOW.plusMinutes(10));
+        advanceTo(NOW.plusHours(6));
+        assertEquals(List.of(BotMessages.formatReminder(soonest), BotMessages.formatReminder(sooner)), reminders);
+
+        advanceTo(NOW.plusDays(40).minusMinutes(16));
+        assertEquals(2, reminders.size());
+        advanceTo(NOW.plusDays(40).minusMinutes(15));
+        assertEquals(BotMessages.formatReminder(later), reminders.get(2));
+    }
+
+    @Test
+    void shouldRemindRightAwayWhenInsideLeadTime() {
+        Task deadline = new Deadline("Almost due", NOW.plusMinutes(5), true);
+        taskList.addTask(deadline);
+        taskList.addTask(new Deadline("Already overdue", NOW.minusMinutes(5), true));
+
+        advanceTo(NOW);
+
+        assertEquals(List.of(BotMessages.formatReminder(deadline)), reminders);
+    }
+
+    @Test
+    void shouldTreatDateOnlyDeadlineAsDueAtEndOfDay() {
+        Task deadline = new Deadline("Hand in form", NOW.toLocalDate().atStartOfDay(), false);
+        taskList.addTask(deadline);
+
+        LocalDateTime endOfDay = NOW.toLocalDate().plusDays(1).atStartOfDay();
+        advanceTo(endOfDay.minusMinutes(16));
+        assertTrue(reminders.isEmpty());
+
+        advanceTo(endOfDay.minusMinutes(15));
+        assertEquals(List.of(BotMessages.formatReminder(deadline)), reminders);
+    }
+
+    @Test
+    void shouldCancelWhenTaskIsDoneOrDeleted() {
+        taskList.addTask(new Deadline("Marked", NOW.plusHours(1), true));
+        taskList.addTask(new Deadline("Deleted", NOW.plusHours(2), true));
+        Task unmarked = new Deadline("Unmarked", NOW.plusHours(3), true);
+        taskList.addTask(unmarked);
+        taskList.markTask(1);
+        taskList.markTask(3);
+        taskList.unmarkTask(3);
+        taskList.deleteTask(2);
+
+        advanceTo(NOW.plusDays(1));
+
+        assertEquals(List.of(BotMessages.formatReminder(unmarked)), reminders);
+    }
+
+    @Test
+    void shouldRebuildFromLoadedTasks() {
+        Task event = new Event("Dinner", NOW.plusHours(7), true, NOW.plusHours(9), true);
+        Task done = new Deadline("Finished", NOW.plusHours(2), true);
+        done.markAsDone();
+        scheduler.reset(List.of(event, done, new ToDo("Chores")));
+
+        assertEquals(1, scheduler.getPendingCount());
+
+        taskList.deleteAllTasks();
+
+        assertEquals(0, scheduler.getPendingCount());
+    }
+
+    private void advanceTo(LocalDateTime time) {
+        scheduler.advanceTo(time.toEpochSecond(ZoneOffset.UTC));
+    }
+}
@@ -3,13 +3,30 @@ package org.todobot.service;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.todobot.common.BotMessages;
+import org.todobot.model.Deadline;
+import org.todobot.model.Event;
+import org.todobot.model.Priority;
 import org.todobot.model.Task;
+import org.todobot.model.TaskSelection;
 import org.todobot.model.ToDo;
 
 public class TaskListTest {
@@ -34,9 +51,9 @@ public class TaskListTest {
     
     @Test
     void shouldAddMultipleTasks() {
-        assertTrue(taskList.addTask(new ToDo(TEST_TASK_1)));
-        assertTrue(taskList.addTask(new ToDo(TEST_TASK_2)));
-        assertTrue(taskList.addTask(new ToDo(TEST_TASK_3)));
+        assertEquals(1, taskList.addTask(new ToDo(TEST_TASK_1)));
+        assertEquals(2, taskList.addTask(new ToDo(TEST_TASK_2)));
+        assertEquals(3, taskList.addTask(new ToDo(TEST_TASK_3)));
         
         assertEquals(3, taskList.getTaskCount());
         assertFalse(taskList.isEmpty());
@@ -45,17 +62,29 @@ public class TaskListTest {
     
     @Test
     void shouldRejectTaskWhenFull() {
+        taskList = new TaskList(100);
         for (int i = 1; i <= 100; i++) {
-            assertTrue(taskList.addTask(new ToDo("Task " + i)));
+            assertEquals(i, taskList.addTask(new ToDo("Task " + i)));
         }
         
         assertTrue(taskList.isFull());
         assertEquals(100, taskList.getTaskCount());
         
-        assertFalse(taskList.addTask(new ToDo("Overflow task")));
+        assertEquals(0, taskList.addTask(new ToDo("Overflow task")));
         assertEquals(100, taskList.getTaskCount());
     }
     
+    @Test
+    void shouldAcceptTasksBeyondOldLimitWhenUnlimited() {
+        for (int i = 1; i <= 5000; i++) {
+            assertEquals(i, taskList.addTask(new ToDo("Task " + i)));
+        }
+        
+        assertFalse(taskList.isFull());
+        assertEquals(5000, taskList.getTaskCount());
+        assertEquals("Task 4321", taskList.getTask(4321).getDescription());
+    }
+    
     @Test
     void shouldReturnEmptyListMessage() {
         String expected = " Here are the tasks in your list:\n No tasks found! Your to-do list is completely empty.";
@@ -94,30 +123,30 @@ public class TaskListTest {
     void shouldRejectMarkingInvalidTaskNumber() {
         taskList.addTask(new ToDo(TEST_TASK_1));
         
-        assertFalse(taskList.markTask(0));
-        assertFalse(taskList.markTask(-1));
-        assertFalse(taskList.markTask(2));
-        assertFalse(taskList.markTask(100));
+        assertNull(taskList.markTask(0));
+        assertNull(taskList.markTask(-1));
+        assertNull(taskList.markTask(2));
+        assertNull(taskList.markTask(100));
     }
     
     @Test
     void shouldRejectMarkingEmptyList() {
-        assertFalse(taskList.markTask(1));
+        assertNull(taskList.markTask(1));
     }
     
     @Test
     void shouldRejectUnmarkingInvalidTaskNumber() {
         taskList.addTask(new ToDo(TEST_TASK_1));
         
-        assertFalse(taskList.unmarkTask(0));
-        assertFalse(taskList.unmarkTask(-1));
-        assertFalse(taskList.unmarkTask(2));
-        assertFalse(taskList.unmarkTask(100));
+        assertNull(taskList.unmarkTask(0));
+        assertNull(taskList.unmarkTask(-1));
+        assertNull(taskList.unmarkTask(2));
+        assertNull(taskList.unmarkTask(100));
     }
     
     @Test
     void shouldRejectUnmarkingEmptyList() {
-        assertFalse(taskList.unmarkTask(1));
+        assertNull(taskList.unmarkTask(1));
     }
     
     @Test
@@ -144,6 +173,7 @@ public class TaskListTest {
     
     @Test
     void shouldDetectFullList() {
+        taskList = new TaskList(100);
         assertFalse(taskList.isFull());
         
         for (int i = 1; i <= 100; i++) {
@@ -159,13 +189,13 @@ public class TaskListTest {
         
         assertFalse(taskList.getTask(1).isDone());
         
-        assertTrue(taskList.markTask(1));
+        assertEquals(TEST_TASK_1, taskList.markTask(1).getDescription());
         assertTrue(taskList.getTask(1).isDone());
         
-        assertTrue(taskList.unmarkTask(1));
+        assertEquals(TEST_TASK_1, taskList.unmarkTask(1).getDescription());
         assertFalse(taskList.getTask(1).isDone());
         
-        assertTrue(taskList.markTask(1));
+        assertEquals(TEST_TASK_1, taskList.markTask(1).getDescription());
         assertTrue(taskList.getTask(1).isDone());
     }
     
@@ -194,7 +224,7 @@ public class TaskListTest {
         taskList.addTask(new ToDo(TEST_TASK_2));
         taskList.addTask(new ToDo(TEST_TASK_3));
         
-        Task deletedTask = taskList.deleteTask(1);
+        Task deletedTask = taskList.deleteTask(1).tasks().get(0);
         
         assertEquals(TEST_TASK_1, deletedTask.getDescription());
         assertEquals(2, taskList.getTaskCount());
@@ -208,7 +238,7 @@ public class TaskListTest {
         taskList.addTask(new ToDo(TEST_TASK_2));
         taskList.addTask(new ToDo(TEST_TASK_3));
         
-        Task deletedTask = taskList.deleteTask(2);
+        Task deletedTask = taskList.deleteTask(2).tasks().get(0);
         
         assertEquals(TEST_TASK_2, deletedTask.getDescription());
         assertEquals(2, taskList.getTaskCount());
@@ -222,7 +252,7 @@ public class TaskListTest {
         taskList.addTask(new ToDo(TEST_TASK_2));
         taskList.addTask(new ToDo(TEST_TASK_3));
         
-        Task deletedTask = taskList.deleteTask(3);
+        Task deletedTask = taskList.deleteTask(3).tasks().get(0);
         
         assertEquals(TEST_TASK_3, deletedTask.getDescription());
         assertEquals(2, taskList.getTaskCount());
@@ -235,7 +265,7 @@ public class TaskListTest {
     void shouldDeleteOnlyTask() {
         taskList.addTask(new ToDo(TEST_TASK_1));
         
-        Task deletedTask = taskList.deleteTask(1);
+        Task deletedTask = taskList.deleteTask(1).tasks().get(0);
         
         assertEquals(TEST_TASK_1, deletedTask.getDescription());
         assertEquals(0, taskList.getTaskCount());
@@ -265,7 +295,7 @@ public class TaskListTest {
         taskList.addTask(new ToDo(TEST_TASK_2));
         taskList.markTask(2);
         
-        Task deletedTask = taskList.deleteTask(2);
+        Task deletedTask = taskList.deleteTask(2).tasks().get(0);
         
         assertEquals(TEST_TASK_2, deletedTask.getDescription());
         assertTrue(deletedTask.isDone());
@@ -390,6 +420,65 @@ public class TaskListTest {
         assertEquals(expected, result);
     }
     
+    @Test
+    void shouldFindSubstringsInsideWords() {
+        taskList.addTask(new ToDo("Buy notebooks"));
+        taskList.addTask(new ToDo("Read a book"));
+        taskList.addTask(new ToDo("Write essay"));
+        
+        String result = taskList.findTasks("ook");
+        String expected = " Here are the matching tasks in your list:\n" +
+                         " 1.[T][ ][M] Buy notebooks\n" +
+                         " 2.[T][ ][M] Read a book";
+        assertEquals(expected, result);
+    }
+    
+    @Test
+    void shouldFindPhrasesAcrossWords() {
+        taskList.addTask(new ToDo("Read a book"));
+        taskList.addTask(new ToDo("Read the book"));
+        
+        String result = taskList.findTasks("d a b");
+        String expected = " Here are the matching tasks in your list:\n" +
+                         " 1.[T][ ][M] Read a book";
+        assertEquals(expected, result);
+    }
+    
+    @Test
+    void shouldCombineKeywordsWithAndOr() {
+        taskList.addTask(new ToDo("Read a book"));
+        taskList.addTask(new ToDo("Buy book and pen"));
+        taskList.addTask(new ToDo("Buy milk"));
+        taskList.addTask(new ToDo("Walk the dog"));
+        
+        String andResult = taskList.findTasks("buy AND book");
+        assertEquals(" Here are the matching tasks in your list:\n" +
+                     " 2.[T][ ][M] Buy book and pen", andResult);
+        
+        String orResult = taskList.findTasks("milk OR dog");
+        assertEquals(" Here are the matching tasks in your list:\n" +
+                     " 3.[T][ ][M] Buy milk\n" +
+                     " 4.[T][ ][M] Walk the dog", orResult);
+        
+        // Lower-case "and" is an ordinary search word
+        String literalResult = taskList.findTasks("book and pen");
+        assertEquals(" Here are the matching tasks in your list:\n" +
+                     " 2.[T][ ][M] Buy book and pen", literalResult);
+    }
+    
+    @Test
+    void shouldNotFindDeletedTasks() {
+        taskList.addTask(new ToDo("Read a book"));
+        taskList.addTask(new ToDo("Buy book"));
+        taskList.deleteTask(1);
+        
+        String result = taskList.findTasks("book");
+        String expected = " Here are the matching tasks in your list:\n" +
+                         " 1.[T][ ][M] Buy book";
+        assertEquals(expected, result);
+        assertEquals(" No matching tasks found for keyword: read", taskList.findTasks("read"));
+    }
+    
     @Test
     void shouldDeleteAllTasks() {
         taskList.addTask(new ToDo(TEST_TASK_1));
@@ -459,4 +548,277 @@ public class TaskListTest {
         assertEquals(0, taskList.getTaskCount());
         assertTrue(taskList.isEmpty());
     }
-}
\ No newline at end of file
+    
+    @Test
+    void shouldListOnlyRequestedRange() {
+        for (int i = 1; i <= 100; i++) {
+            taskList.addTask(new ToDo("Task " + i));
+        }
+        
+        String result = taskList.listTasks(40, 42);
+        
+        assertEquals(BotMessages.formatTaskRangeHeader(40, 42, 100)
+                + "\n 40.[T][ ][M] Task 40\n 41.[T][ ][M] Task 41\n 42.[T][ ][M] Task 42", result);
+    }
+    
+    @Test
+    void shouldClampRangeToListEnd() {
+        taskList.addTask(new ToDo(TEST_TASK_1));
+        taskList.addTask(new ToDo(TEST_TASK_2));
+        
+        assertEquals(BotMessages.formatTaskRangeHeader(2, 2, 2) + "\n 2.[T][ ][M] " + TEST_TASK_2,
+                taskList.listTasks(2, 50));
+        assertEquals(BotMessages.formatListRangeOutOfBounds(2), taskList.listTasks(3, 50));
+    }
+    
+    @Test
+    void shouldStreamSameOutputAsListTasks() throws IOException {
+        taskList.addTask(new ToDo(TEST_TASK_1));
+        taskList.addTask(new ToDo(TEST_TASK_2));
+        
+        StringWriter writer = new StringWriter();
+        taskList.writeTasks(writer);
+        
+        assertEquals(taskList.listTasks(), writer.toString());
+    }
+    
+    @Test
+    void shouldReturnSnapshotThatIgnoresLaterChanges() {
+        taskList.addTask(new ToDo(TEST_TASK_1));
+        List<Task> snapshot = taskList.snapshot();
+        
+        taskList.addTask(new ToDo(TEST_TASK_2));
+        taskList.deleteTask(1);
+        
+        assertEquals(1, snapshot.size());
+        assertEquals(TEST_TASK_1, snapshot.get(0).getDescription());
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.add(new ToDo(TEST_TASK_3)));
+    }
+    
+    @Test
+    void shouldReadWhileAnotherThreadWrites() throws InterruptedException {
+        Thread writer = new Thread(() -> {
+            for (int i = 0; i < 2000; i++) {
+                taskList.addTask(new ToDo("Task " + i));
+                if (i % 3 == 0) {
+                    taskList.markTask(taskList.getTaskCount());
+                }
+            }
+        });
+        writer.start();
+        
+        int lastCount = 0;
+        while (writer.isAlive()) {
+            List<Task> snapshot = taskList.snapshot();
+            assertTrue(snapshot.size() >= lastCount);
+            lastCount = snapshot.size();
+            for (int i = 0; i < snapshot.size(); i++) {
+                assertEquals("Task " + i, snapshot.get(i).getDescription());
+            }
+            taskList.findTasks("Task");
+        }
+        writer.join();
+        
+        assertEquals(2000, taskList.getTaskCount());
+        assertTrue(taskList.getTask(1).isDone());
+        assertFalse(taskList.getTask(2).isDone());
+    }
+    
+    @Test
+    void shouldSearchWithoutWaitingForWriters() throws Exception {
+        taskList.addTask(new ToDo(TEST_TASK_1));
+        CountDownLatch writerInside = new CountDownLatch(1);
+        CountDownLatch releaseWriter = new CountDownLatch(1);
+        taskList.addListener(new TaskListListener() {
+            @Override
+            public void onTaskAdded(Task task, int taskNumber) {
+                writerInside.countDown();
+                try {
+                    releaseWriter.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        });
+        Thread writer = new Thread(() -> taskList.addTask(new ToDo(TEST_TASK_2)));
+        writer.start();
+        writerInside.await();
+        
+        // The writer is stuck inside the write lock, yet both searches return
+        ExecutorService reader = Executors.newSingleThreadExecutor();
+        try {
+            Future<List<NumberedTask>> found = reader.submit(() -> taskList.searchTasks("book"));
+            Future<String> formatted = reader.submit(() -> taskList.findTasks("homework"));
+            assertEquals(1, found.get(5, TimeUnit.SECONDS).size());
+            assertTrue(formatted.get(5, TimeUnit.SECONDS).contains(TEST_TASK_2));
+        } finally {
+            releaseWriter.countDown();
+            writer.join();
+            reader.shutdown();
+        }
+    }
+    
+    @Test
+    void shouldAlwaysFindTasksThatStayWhileOthersChange() throws InterruptedException {
+        taskList.addTask(new ToDo("Keep this"));
+        Thread writer = new Thread(() -> {
+            for (int i = 0; i < 2000; i++) {
+                taskList.addTask(new ToDo("Keep and drop " + i));
+                if (i % 2 == 1) {
+                    taskList.deleteTasks(new TaskSelection.Matching("drop"));
+                }
+            }
+        });
+        writer.start();
+        
+        while (writer.isAlive()) {
+            List<NumberedTask> matches = taskList.searchTasks("keep");
+            assertEquals(1, matches.get(0).number());
+            assertEquals("Keep this", matches.get(0).task().getDescription());
+            for (NumberedTask match : matches) {
+                assertTrue(match.task().getDescription().startsWith("Keep"));
+            }
+        }
+        writer.join();
+        
+        assertEquals(1, taskList.searchTasks("keep").size());
+    }
+    
+    @Test
+    void shouldMarkAndDeleteSelectedNumbersInOnePass() {
+        for (int i = 1; i <= 10; i++) {
+            taskList.addTask(new ToDo("Task " + i));
+        }
+        TaskSelection.Numbers selection = new TaskSelection.Numbers(List.of(
+                new TaskSelection.Range(2, 4), new TaskSelection.Range(3, 3), new TaskSelection.Range(9, 9)));
+        
+        assertEquals(4, taskList.markTasks(selection).size());
+        DeletedTasks deleted = taskList.deleteTasks(new TaskSelection.Status(true));
+        
+        assertEquals(List.of("Task 2", "Task 3", "Task 4", "Task 9"),
+                deleted.tasks().stream().map(Task::getDescription).toList());
+        assertEquals(6, deleted.remainingCount());
+        assertEquals(6, taskList.getTaskCount());
+        assertEquals("Task 10", taskList.getTask(6).getDescription());
+        assertEquals(BotMessages.formatNoMatchingTasks("Task 3"), taskList.findTasks("Task 3"));
+    }
+    
+    @Test
+    void shouldLeaveListUnchangedWhenSelectionIsOutOfRange() {
+        taskList.addTask(new ToDo(TEST_TASK_1));
+        taskList.addTask(new ToDo(TEST_TASK_2));
+        TaskSelection.Numbers selection = new TaskSelection.Numbers(List.of(new TaskSelection.Range(1, 3)));
+        
+        assertNull(taskList.markTasks(selection));
+        assertNull(taskList.deleteTasks(selection));
+        assertFalse(taskList.getTask(1).isDone());
+        assertEquals(2, taskList.getTaskCount());
+    }
+    
+    @Test
+    void shouldSetPriorityOfMatchingTasks() {
+        taskList.addTask(new ToDo("Write report"));
+        taskList.addTask(new ToDo(TEST_TASK_1));
+        taskList.addTask(new ToDo("Review report"));
+        
+        List<Task> changed = taskList.setTasksPriority(new TaskSelection.Matching("report"), Priority.HIGH);
+        
+        assertEquals(2, changed.size());
+        assertEquals(Priority.HIGH, taskList.getTask(1).getPriority());
+        assertEquals(Priority.MEDIUM, taskList.getTask(2).getPriority());
+        assertEquals(Priority.HIGH, taskList.getTask(3).getPriority());
+    }
+    
+    @Test
+    void shouldListUpcomingAndOverdueTasksByDueTime() {
+        LocalDateTime now = LocalDateTime.of(2024, 12, 20, 12, 0);
+        taskList.addTask(new Deadline("Next week", now.plusDays(6), true));
+        taskList.addTask(new ToDo(TEST_TASK_1));
+        taskList.addTask(new Deadline("Yesterday", now.minusDays(1), true));
+        taskList.addTask(new Event("Tomorrow", now.plusDays(1), true, now.plusDays(2), true));
+        taskList.addTask(new Deadline("Next month", now.plusDays(30), true));
+        
+        assertEquals(BotMessages.formatUpcomingHeader(7) + "\n 4.[E][ ][M] Tomorrow (from: 21 Dec 2024, 1200 to: 22 Dec 2024, 1200)"
+                + "\n 1.[D][ ][M] Next week (by: 26 Dec 2024, 1200)", taskList.listUpcoming(now, 7));
+        assertEquals(BotMessages.OVERDUE_HEADER + "\n 3.[D][ ][M] Yesterday (by: 19 Dec 2024, 1200)",
+                taskList.listOverdue(now));
+    }
+    
+    @Test
+    void shouldTreatDateOnlyDeadlineAsDueAtEndOfDay() {
+        LocalDate today = LocalDate.of(2024, 12, 20);
+        taskList.addTask(new Deadline("Today", today.atStartOfDay(), false));
+        
+        assertEquals(BotMessages.NOTHING_OVERDUE, taskList.listOverdue(today.atTime(18, 0)));
+        assertEquals(BotMessages.formatDueOnHeader(today) + "\n 1.[D][ ][M] Today (by: 20 Dec 2024)",
+                taskList.listDueOn(today));
+        assertEquals(BotMessages.formatNothingDueOn(today.plusDays(1)), taskList.listDueOn(today.plusDays(1)));
+    }
+    
+    @Test
+    void shouldKeepTimeIndexInSyncWithChanges() {
+        LocalDateTime now = LocalDateTime.of(2024, 12, 20, 12, 0);
+        taskList.addTask(new Deadline("First", now.minusDays(2), true));
+        taskList.addTask(new Deadline("Second", now.minusDays(1), true));
+        taskList.addTask(new Deadline("Third", now.minusHours(1), true));
+        
+        taskList.markTask(1);
+        taskList.deleteTask(2);
+        
+        assertEquals(BotMessages.OVERDUE_HEADER + "\n 2.[D][ ][M] Third (by: 20 Dec 2024, 1100)", taskList.listOverdue(now));
+        
+        taskList.unmarkTask(1);
+        taskList.deleteTasks(new TaskSelection.Numbers(List.of(new TaskSelection.Range(2, 2))));
+        
+        assertEquals(BotMessages.OVERDUE_HEADER + "\n 1.[D][ ][M] First (by: 18 Dec 2024, 1200)", taskList.listOverdue(now));
+        
+        taskList.deleteAllTasks();
+        
+        assertEquals(BotMessages.NOTHING_OVERDUE, taskList.listOverdue(now));
+    }
+    
+    @Test
+    void shouldWarnAboutOverlappingEventsOnly() {
+        LocalDate day = LocalDate.of(2024, 12, 20);
+        taskList.addTask(new Event("Standup", day.atTime(9, 0), true, day.atTime(10, 0), true));
+        taskList.addTask(new Event("Review", day.atTime(10, 0), true, day.atTime(11, 0), true));
+        Event workshop = new Event("Workshop", day.atTime(9, 30), true, day.atTime(10, 30), true);
+        taskList.addTask(workshop);
+        
+        assertEquals(BotMessages.formatEventConflictWarning(2)
+                + "\n 1.[E][ ][M] Standup (from: 20 Dec 2024, 0900 to: 20 Dec 2024, 1000)"
+                + "\n 2.[E][ ][M] Review (from: 20 Dec 2024, 1000 to: 20 Dec 2024, 1100)",
+                taskList.describeConflicts(workshop));
+        assertEquals(BotMessages.formatEventConflictsHeader(2)
+                + "\n 1.[E][ ][M] Standup (from: 20 Dec 2024, 0900 to: 20 Dec 2024, 1000)"
+                + "\n   overlaps 3.[E][ ][M] Workshop (from: 20 Dec 2024, 0930 to: 20 Dec 2024, 1030)"
+                + "\n 3.[E][ ][M] Workshop (from: 20 Dec 2024, 0930 to: 20 Dec 2024, 1030)"
+                + "\n   overlaps 2.[E][ ][M] Review (from: 20 Dec 2024, 1000 to: 20 Dec 2024, 1100)",
+                taskList.listConflicts());
+        
+        taskList.deleteTask(3);
+        
+        assertEquals(BotMessages.NO_EVENT_CONFLICTS, taskList.listConflicts());
+    }
+    
+    @Test
+    void shouldFindFreeSlotsBetweenEvents() {
+        LocalDate day = LocalDate.of(2024, 12, 20);
+        taskList.addTask(new Event("Morning", day.atTime(9, 0), true, day.atTime(12, 0), true));
+        taskList.addTask(new Event("Lunch", day.atTime(12, 0), true, day.atTime(12, 45), true));
+        taskList.addTask(new Event("Call", day.atTime(13, 0), true, day.atTime(14, 0), true));
+        taskList.addTask(new Event("Evening", day.atTime(22, 0), true, day.plusDays(1).atTime(1, 0), true));
+        
+        assertEquals(BotMessages.formatFreeSlotsHeader(day, Duration.ofHours(1))
+                + "\n   00:00 - 09:00\n   14:00 - 22:00",
+                taskList.listFreeSlots(day, Duration.ofHours(1)));
+        assertEquals(BotMessages.formatFreeSlotsHeader(day.plusDays(1), Duration.ofMinutes(30))
+                + "\n   01:00 - 24:00",
+                taskList.listFreeSlots(day.plusDays(1), Duration.ofMinutes(30)));
+        
+        taskList.addTask(new Event("Holiday", day.atStartOfDay(), false, day.atStartOfDay(), false));
+        
+        assertEquals(BotMessages.formatNoFreeSlots(day, Duration.ofMinutes(15)),
+                taskList.listFreeSlots(day, Duration.ofMinutes(15)));
+    }
+}
@@ -0,0 +1,139 @@
+package org.todobot.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.todobot.storage.TaskStorage;
+
+public class TaskPartitionsTest {
+
+    // Enough for two empty partitions but not three
+    private static final long TWO_PARTITION_BUDGET = 40 * 1024;
+    private static final Duration LONG_IDLE = Duration.ofHours(1);
+
+    @TempDir
+    Path tempDir;
+
+    private final List<String> loads = new ArrayList<>();
+
+    @Test
+    void shouldLoadPartitionsOnFirstUse() {
+        TaskPartitions partitions = createPartitions(TWO_PARTITION_BUDGET, LONG_IDLE);
+
+        assertEquals(0, partitions.getLoadedCount());
+
+        partitions.withPartition("alice", service -> service.processCommand("todo Read a book"));
+        partitions.withPartition("alice", service -> service.processCommand("list"));
+
+        assertEquals(List.of("alice"), loads);
+        assertEquals(1, partitions.getLoadedCount());
+    }
+
+    @Test
+    void shouldKeepEachUsersTasksSeparate() {
+        TaskPartitions partitions = createPartitions(TWO_PARTITION_BUDGET, LONG_IDLE);
+
+        partitions.withPartition("alice", service -> service.processCommand("todo Alice task"));
+        partitions.withPartition("bob", service -> service.processCommand("todo Bob task"));
+
+        String aliceList = partitions.withPartition("alice", service -> service.processCommand("list"));
+        assertTrue(aliceList.contains("Alice task"));
+        assertFalse(aliceList.contains("Bob task"));
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedAndReloadFromDisk() {
+        TaskPartitions partitions = createPartitions(TWO_PARTITION_BUDGET, LONG_IDLE);
+
+        partitions.withPartition("alice", service -> service.processCommand("todo Saved before eviction"));
+        partitions.withPartition("bob", service -> service.processCommand("list"));
+        partitions.withPartition("alice", service -> service.processCommand("list"));
+        partitions.withPartition("carol", service -> service.processCommand("list"));
+
+        // bob was the least recently used when carol pushed the total over the budget
+        assertEquals(2, partitions.getLoadedCount());
+        partitions.withPartition("alice", service -> service.processCommand("list"));
+        assertEquals(List.of("alice", "bob", "carol"), loads);
+
+        // Loading bob again pushes out carol, then carol pushes out alice
+        partitions.withPartition("bob", service -> service.processCommand("list"));
+        partitions.withPartition("carol", service -> service.processCommand("list"));
+        String aliceList = partitions.withPartition("alice", service -> service.processCommand("list"));
+        assertEquals(List.of("alice", "bob", "carol", "bob", "carol", "alice"), loads);
+        assertTrue(aliceList.contains("Saved before eviction"));
+    }
+
+    @Test
+    void shouldUnloadIdlePartitions() {
+        TaskPartitions partitions = createPartitions(Long.MAX_VALUE, Duration.ZERO);
+
+        partitions.withPartition("alice", service -> service.processCommand("todo Read a book"));
+
+        assertEquals(0, partitions.getLoadedCount());
+        assertEquals(1, new TaskStorage(tempDir.resolve("alice").toString()).loadTasks().size());
+    }
+
+    @Test
+    void shouldMakeRoomBeforeLoading() {
+        TaskPartitions partitions = createPartitions(TWO_PARTITION_BUDGET, LONG_IDLE);
+        
+        partitions.withPartition("alice", service -> service.processCommand("list"));
+        partitions.withPartition("bob", service -> service.processCommand("list"));
+        int loadedDuringRequest = partitions.withPartition("carol", service -> partitions.getLoadedCount());
+        
+        assertEquals(2, loadedDuringRequest);
+    }
+    
+    @Test
+    void shouldForgetUnloadedPartitions() {
+        TaskPartitions partitions = createPartitions(TWO_PARTITION_BUDGET, LONG_IDLE);
+        
+        for (int i = 0; i < 100; i++) {
+            partitions.withPartition("user" + i, service -> service.processCommand("list"));
+        }
+        
+        assertEquals(2, partitions.getLoadedCount());
+        assertEquals(2, partitions.getPartitionCount());
+    }
+    
+    @Test
+    void shouldUnloadIdlePartitionsWithoutFurtherRequests() throws InterruptedException {
+        TaskPartitions partitions = createPartitions(Long.MAX_VALUE, Duration.ofMillis(200));
+        
+        partitions.withPartition("alice", service -> service.processCommand("todo Read a book"));
+        assertEquals(1, partitions.getLoadedCount());
+        
+        // The entry leaves the map only once the partition has been saved
+        for (int i = 0; i < 100 && partitions.getPartitionCount() > 0; i++) {
+            Thread.sleep(20);
+        }
+        assertEquals(0, partitions.getLoadedCount());
+        assertEquals(0, partitions.getPartitionCount());
+        assertEquals(1, new TaskStorage(tempDir.resolve("alice").toString()).loadTasks().size());
+    }
+    
+    @Test
+    void shouldRejectIdsThatAreNotSafeDirectoryNames() {
+        TaskPartitions partitions = createPartitions(TWO_PARTITION_BUDGET, LONG_IDLE);
+
+        assertThrows(IllegalArgumentException.class, () -> partitions.withPartition("../alice", service -> ""));
+        assertFalse(TaskPartitions.isValidId(""));
+        assertTrue(TaskPartitions.isValidId("team-42_alpha"));
+    }
+
+    private TaskPartitions createPartitions(long memoryBudgetBytes, Duration idleTimeout) {
+        return new TaskPartitions(id -> {
+            loads.add(id);
+            return new ToDoBotService(new TaskStorage(tempDir.resolve(id).toString()));
+        }, memoryBudgetBytes, idleTimeout);
+    }
+}
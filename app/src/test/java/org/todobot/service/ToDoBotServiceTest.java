@@ -0,0 +1,129 @@
+package org.todobot.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.todobot.common.BotMessages;
+import org.todobot.storage.TaskStorage;
+
+public class ToDoBotServiceTest {
+    
+    @TempDir
+    Path tempDir;
+    
+    private ToDoBotService service;
+    
+    @BeforeEach
+    void setUp() {
+        service = new ToDoBotService(new TaskStorage(tempDir.toString()));
+    }
+    
+    @AfterEach
+    void tearDown() {
+        service.cleanup();
+    }
+    
+    @Test
+    void shouldFlagByeAsExit() {
+        CommandResponse response = service.handleCommand("bye");
+        
+        assertTrue(response.isExit());
+        assertEquals(BotMessages.FAREWELL, response.message());
+    }
+    
+    @Test
+    void shouldReturnCommandOutputWithoutExit() {
+        CommandResponse response = service.handleCommand("todo Read a book");
+        
+        assertFalse(response.isExit());
+        assertTrue(response.message().contains("Read a book"));
+    }
+    
+    @Test
+    void shouldReturnParseErrorWithoutExit() {
+        CommandResponse response = service.handleCommand("mark abc");
+        
+        assertFalse(response.isExit());
+        assertFalse(response.message().isEmpty());
+    }
+    
+    @Test
+    void shouldKeepStateAcrossCommands() {
+        service.handleCommand("todo First task");
+        service.handleCommand("todo Second task");
+        service.handleCommand("delete 1");
+        
+        assertTrue(service.processCommand("list").contains("Second task"));
+        assertFalse(service.processCommand("list").contains("First task"));
+    }
+    
+    @Test
+    void shouldWarnWhenAddedEventOverlapsAnother() {
+        service.handleCommand("event Standup /from 20-12-2024 09:00 /to 20-12-2024 10:00");
+        
+        CommandResponse clash = service.handleCommand("event Review /from 20-12-2024 09:30 /to 20-12-2024 11:00");
+        CommandResponse backToBack = service.handleCommand("event Lunch /from 20-12-2024 11:00 /to 20-12-2024 12:00");
+        
+        assertFalse(clash.isError());
+        assertTrue(clash.message().contains(BotMessages.formatEventConflictWarning(1) + "\n 1."));
+        assertFalse(backToBack.message().contains(BotMessages.formatEventConflictWarning(1)));
+    }
+    
+    @Test
+    void shouldReportInvalidTaskNumberBeyondIntRange() {
+        service.handleCommand("todo Only task");
+        
+        CommandResponse response = service.handleCommand("mark 123456789012345");
+        
+        assertTrue(response.isError());
+        assertEquals(BotMessages.INVALID_TASK_NUMBER, response.message());
+    }
+    
+    @Test
+    void shouldFlagErrorsFromCommandsRatherThanFromMessageText() {
+        service.handleCommand("todo Only task");
+        
+        CommandResponse outOfRange = service.handleCommand("list 5-6");
+        CommandResponse warning = service.handleCommand("delete all");
+        CommandResponse missing = service.handleCommand("delete 2");
+        
+        assertTrue(outOfRange.isError());
+        assertEquals(BotMessages.formatListRangeOutOfBounds(1), outOfRange.message());
+        assertFalse(warning.isError());
+        assertTrue(missing.isError());
+    }
+    
+    @Test
+    void shouldSetPriorityFromParsedLevel() {
+        service.handleCommand("todo Only task");
+        
+        CommandResponse response = service.handleCommand("priority 1 !h");
+        
+        assertFalse(response.isError());
+        assertTrue(response.message().contains("[H]"));
+    }
+    
+    @Test
+    void shouldPersistBulkDeleteAcrossRestart() {
+        for (int i = 1; i <= 5; i++) {
+            service.handleCommand("todo Task " + i);
+        }
+        service.handleCommand("mark 2-3");
+        
+        assertEquals(BotMessages.formatDeletedTasks(2, 3), service.processCommand("delete done"));
+        service.cleanup();
+        service = new ToDoBotService(new TaskStorage(tempDir.toString()));
+        
+        String list = service.processCommand("list");
+        assertTrue(list.contains("3.[T][ ][M] Task 5"));
+        assertFalse(list.contains("Task 2"));
+        assertEquals(BotMessages.INVALID_TASK_SELECTION, service.processCommand("unmark 1,4"));
+    }
+}
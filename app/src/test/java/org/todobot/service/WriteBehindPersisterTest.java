@@ -0,0 +1,209 @@
+package org.todobot.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.todobot.model.Task;
+import org.todobot.model.ToDo;
+import org.todobot.storage.SnapshotFormat;
+import org.todobot.storage.TaskStorage;
+
+public class WriteBehindPersisterTest {
+    
+    // Long enough that nothing is written before close() in these tests
+    private static final long LONG_DELAY_MS = 60_000;
+    // Long enough that a change and the snapshot straight after it land in the same write
+    private static final long SHORT_DELAY_MS = 100;
+    
+    @TempDir
+    Path tempDir;
+    
+    @Test
+    void shouldNotWriteBeforeWindowElapses() {
+        CountingStorage storage = new CountingStorage(tempDir, true);
+        TaskList taskList = createTaskList(storage, LONG_DELAY_MS);
+        
+        taskList.addTask(new ToDo("Pending task"));
+        
+        assertFalse(Files.exists(tempDir.resolve("KunBot.journal")));
+    }
+    
+    @Test
+    void shouldCoalesceSnapshotsIntoOneSave() {
+        CountingStorage storage = new CountingStorage(tempDir, false);
+        TaskList taskList = new TaskList();
+        WriteBehindPersister persister = new WriteBehindPersister(storage, LONG_DELAY_MS);
+        taskList.addListener(persister);
+        
+        for (int i = 0; i < 50; i++) {
+            taskList.addTask(new ToDo("Task " + i));
+            persister.commandCompleted(taskList);
+        }
+        persister.close(taskList);
+        
+        assertEquals(1, storage.saveCount);
+        assertEquals(50, new TaskStorage(tempDir.toString(), false).loadTasks().size());
+    }
+    
+    @Test
+    void shouldFlushJournalAndSnapshotOnClose() {
+        CountingStorage storage = new CountingStorage(tempDir, true);
+        TaskList taskList = new TaskList();
+        WriteBehindPersister persister = new WriteBehindPersister(storage, LONG_DELAY_MS);
+        taskList.addListener(persister);
+        
+        taskList.addTask(new ToDo("First task"));
+        taskList.addTask(new ToDo("Second task"));
+        taskList.markTask(2);
+        taskList.deleteTask(1);
+        persister.commandCompleted(taskList);
+        persister.close(taskList);
+        
+        ArrayList<Task> loadedTasks = new TaskStorage(tempDir.toString(), true).loadTasks();
+        assertEquals(1, loadedTasks.size());
+        assertEquals("Second task", loadedTasks.get(0).getDescription());
+        assertTrue(loadedTasks.get(0).isDone());
+        assertFalse(Files.exists(tempDir.resolve("KunBot.journal")));
+    }
+    
+    @Test
+    void shouldWriteJournalInBackground() throws InterruptedException {
+        CountingStorage storage = new CountingStorage(tempDir, true);
+        TaskList taskList = createTaskList(storage, 0);
+        
+        taskList.addTask(new ToDo("Journaled task"));
+        
+        Path journalPath = tempDir.resolve("KunBot.journal");
+        for (int i = 0; i < 100 && !Files.exists(journalPath); i++) {
+            Thread.sleep(20);
+        }
+        assertTrue(Files.exists(journalPath));
+        assertEquals(0, storage.saveCount);
+    }
+    
+    @Test
+    void shouldSkipSaveWhenNothingChanged() {
+        CountingStorage storage = new CountingStorage(tempDir, false);
+        TaskList taskList = new TaskList();
+        WriteBehindPersister persister = new WriteBehindPersister(storage, LONG_DELAY_MS);
+        taskList.addListener(persister);
+        
+        taskList.listTasks();
+        persister.commandCompleted(taskList);
+        persister.close(taskList);
+        
+        assertEquals(0, storage.saveCount);
+        assertFalse(Files.exists(tempDir.resolve("KunBot.txt")));
+    }
+    
+    @Test
+    void shouldKeepFailedSnapshotQueuedAheadOfLaterRecords() throws InterruptedException {
+        CountingStorage storage = new CountingStorage(tempDir, true);
+        storage.failedSaves = 1;
+        TaskList taskList = new TaskList();
+        WriteBehindPersister persister = new WriteBehindPersister(storage, SHORT_DELAY_MS);
+        taskList.addListener(persister);
+        
+        // The second task only reaches disk through the snapshot that fails
+        taskList.addTask(new ToDo("First task"));
+        waitFor(() -> Files.exists(tempDir.resolve("KunBot.journal")));
+        taskList.addTask(new ToDo("Second task"));
+        storage.compactionThreshold = 1;
+        persister.commandCompleted(taskList);
+        waitFor(() -> storage.saveCount == 1);
+        storage.compactionThreshold = Integer.MAX_VALUE;
+        taskList.addTask(new ToDo("Third task"));
+        waitFor(() -> storage.saveCount == 2);
+        
+        // Read back without closing, as after a crash: the retried snapshot must come before the third record
+        waitFor(() -> new TaskStorage(tempDir.toString(), true).loadTasks().size() == 3);
+        assertEquals(List.of("First task", "Second task", "Third task"),
+                new TaskStorage(tempDir.toString(), true).loadTasks().stream().map(Task::getDescription).toList());
+    }
+    
+    @Test
+    void shouldRetryFailedSnapshotOnClose() throws InterruptedException {
+        CountingStorage storage = new CountingStorage(tempDir, false);
+        storage.failedSaves = 1;
+        TaskList taskList = new TaskList();
+        WriteBehindPersister persister = new WriteBehindPersister(storage, 0);
+        taskList.addListener(persister);
+        
+        taskList.addTask(new ToDo("Saved on retry"));
+        persister.commandCompleted(taskList);
+        waitFor(() -> storage.saveCount == 1);
+        persister.close(taskList);
+        
+        assertEquals(2, storage.saveCount);
+        assertEquals(1, new TaskStorage(tempDir.toString(), false).loadTasks().size());
+    }
+    
+    @Test
+    void shouldHoldRecordsAfterFailedAppendUntilSnapshot() throws InterruptedException {
+        CountingStorage storage = new CountingStorage(tempDir, true);
+        storage.failedAppends = 1;
+        TaskList taskList = new TaskList();
+        WriteBehindPersister persister = new WriteBehindPersister(storage, 0);
+        taskList.addListener(persister);
+        
+        taskList.addTask(new ToDo("Lost append"));
+        waitFor(() -> storage.appendCount == 1);
+        taskList.addTask(new ToDo("Held back"));
+        persister.commandCompleted(taskList);
+        waitFor(() -> new TaskStorage(tempDir.toString(), true).loadTasks().size() == 2);
+        
+        assertEquals(1, storage.appendCount);
+    }
+    
+    private static void waitFor(BooleanSupplier condition) throws InterruptedException {
+        for (int i = 0; i < 200 && !condition.getAsBoolean(); i++) {
+            Thread.sleep(20);
+        }
+        assertTrue(condition.getAsBoolean());
+    }
+    
+    private TaskList createTaskList(TaskStorage storage, long delayMs) {
+        TaskList taskList = new TaskList();
+        taskList.addListener(new WriteBehindPersister(storage, delayMs));
+        return taskList;
+    }
+    
+    private static class CountingStorage extends TaskStorage {
+        private volatile int saveCount;
+        // The first this many saves or appends fail without writing anything
+        private volatile int failedSaves;
+        private volatile int appendCount;
+        private volatile int failedAppends;
+        private volatile int compactionThreshold = Integer.MAX_VALUE;
+        
+        CountingStorage(Path dataDir, boolean journalEnabled) {
+            super(dataDir.toString(), journalEnabled, SnapshotFormat.JSON);
+        }
+        
+        @Override
+        public boolean saveTasks(List<Task> tasks) {
+            saveCount++;
+            return saveCount > failedSaves && super.saveTasks(tasks);
+        }
+        
+        @Override
+        public boolean appendJournal(List<String> records) {
+            appendCount++;
+            return appendCount > failedAppends && super.appendJournal(records);
+        }
+        
+        @Override
+        public int getCompactionThreshold() {
+            return compactionThreshold;
+        }
+    }
+}
@@ -9,6 +9,8 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -171,6 +173,15 @@ public class TaskStorageTest {
         assertTrue(loadedTasks.isEmpty());
     }
     
+    @Test
+    void shouldHandleWhitespaceOnlyFile() throws IOException {
+        Files.writeString(testFilePath, "  \n");
+        
+        ArrayList<Task> loadedTasks = taskStorage.loadTasks();
+        
+        assertTrue(loadedTasks.isEmpty());
+    }
+    
     @Test
     void shouldHandleCorruptedJsonFile() throws IOException {
         Files.writeString(testFilePath, "invalid json content {[}");
@@ -343,4 +354,355 @@ public class TaskStorageTest {
         
         assertTrue(loadedTasks.isEmpty());
     }
-}
\ No newline at end of file
+    
+    @Test
+    void shouldWriteCompactJsonWhenRequested() throws IOException {
+        TaskStorage compactStorage = new TaskStorage(tempDir.toString(), false, SnapshotFormat.COMPACT_JSON);
+        ArrayList<Task> tasks = new ArrayList<>();
+        tasks.add(new ToDo(TEST_TODO_DESC));
+        tasks.add(new Event(TEST_EVENT_DESC, TEST_DATE, true, TEST_DATE_2, true));
+        
+        compactStorage.saveTasks(tasks);
+        ArrayList<Task> loadedTasks = taskStorage.loadTasks();
+        
+        assertFalse(Files.readString(testFilePath).contains("\n"));
+        assertEquals(2, loadedTasks.size());
+        assertEquals(TEST_EVENT_DESC, loadedTasks.get(1).getDescription());
+    }
+    
+    @Test
+    void shouldWritePrettyJsonByDefault() throws IOException {
+        TaskStorage prettyStorage = new TaskStorage(tempDir.toString(), false, SnapshotFormat.JSON);
+        ArrayList<Task> tasks = new ArrayList<>();
+        tasks.add(new ToDo(TEST_TODO_DESC));
+        
+        prettyStorage.saveTasks(tasks);
+        
+        assertTrue(Files.readString(testFilePath).contains("\n  {\n    \"type\": \"ToDo\""));
+    }
+    
+    // 7. Journal Tests
+    
+    @Test
+    void shouldReplayJournalOnLoad() {
+        ArrayList<Task> tasks = new ArrayList<>();
+        tasks.add(new ToDo("First task"));
+        tasks.add(new ToDo("Second task"));
+        taskStorage.saveTasks(tasks);
+        
+        Deadline deadline = new Deadline(TEST_DEADLINE_DESC, TEST_DATE, true);
+        assertTrue(taskStorage.appendJournal(List.of(taskStorage.encodeTaskAdded(deadline))));
+        ToDo first = (ToDo) tasks.get(0);
+        first.markAsDone();
+        first.setPriority(Priority.HIGH);
+        assertTrue(taskStorage.appendJournal(List.of(taskStorage.encodeTaskUpdated(1, first))));
+        assertTrue(taskStorage.appendJournal(List.of(taskStorage.encodeTaskDeleted(2))));
+        
+        ArrayList<Task> loadedTasks = new TaskStorage(tempDir.toString()).loadTasks();
+        
+        assertEquals(2, loadedTasks.size());
+        assertEquals("First task", loadedTasks.get(0).getDescription());
+        assertTrue(loadedTasks.get(0).isDone());
+        assertEquals(Priority.HIGH, loadedTasks.get(0).getPriority());
+        assertTrue(loadedTasks.get(1) instanceof Deadline);
+        assertEquals(TEST_DATE, ((Deadline) loadedTasks.get(1)).getByDateTime());
+    }
+    
+    @Test
+    void shouldReplayBulkDeleteRecord() {
+        ArrayList<Task> tasks = new ArrayList<>();
+        for (int i = 1; i <= 6; i++) {
+            tasks.add(new ToDo("Task " + i));
+        }
+        taskStorage.saveTasks(tasks);
+        
+        assertTrue(taskStorage.appendJournal(List.of(taskStorage.encodeTasksDeleted(new int[]{1, 4, 5}))));
+        
+        ArrayList<Task> loadedTasks = new TaskStorage(tempDir.toString()).loadTasks();
+        
+        assertEquals(3, loadedTasks.size());
+        assertEquals("Task 2", loadedTasks.get(0).getDescription());
+        assertEquals("Task 3", loadedTasks.get(1).getDescription());
+        assertEquals("Task 6", loadedTasks.get(2).getDescription());
+    }
+    
+    @Test
+    void shouldReplayClearRecord() {
+        assertTrue(taskStorage.appendJournal(List.of(taskStorage.encodeTaskAdded(new ToDo("First task")))));
+        assertTrue(taskStorage.appendJournal(List.of(taskStorage.encodeAllTasksDeleted())));
+        assertTrue(taskStorage.appendJournal(List.of(taskStorage.encodeTaskAdded(new ToDo("After clear")))));
+        
+        ArrayList<Task> loadedTasks = new TaskStorage(tempDir.toString()).loadTasks();
+        
+        assertEquals(1, loadedTasks.size());
+        assertEquals("After clear", loadedTasks.get(0).getDescription());
+    }
+    
+    @Test
+    void shouldRemoveJournalWhenSnapshotIsSaved() {
+        Path journalPath = tempDir.resolve("KunBot.journal");
+        assertTrue(taskStorage.appendJournal(List.of(taskStorage.encodeTaskAdded(new ToDo("Journaled task")))));
+        assertTrue(Files.exists(journalPath));
+        
+        ArrayList<Task> tasks = taskStorage.loadTasks();
+        taskStorage.saveTasks(tasks);
+        
+        assertFalse(Files.exists(journalPath));
+        assertEquals(1, taskStorage.loadTasks().size());
+    }
+    
+    @Test
+    void shouldIgnoreJournalWrittenAgainstOlderSnapshot() throws IOException {
+        assertTrue(taskStorage.appendJournal(List.of(taskStorage.encodeTaskAdded(new ToDo("Already compacted")))));
+        Path journalPath = tempDir.resolve("KunBot.journal");
+        String staleJournal = Files.readString(journalPath);
+        
+        // Simulate a crash after the snapshot was written but before the journal was removed
+        ArrayList<Task> tasks = taskStorage.loadTasks();
+        taskStorage.saveTasks(tasks);
+        Files.writeString(journalPath, staleJournal);
+        
+        ArrayList<Task> loadedTasks = new TaskStorage(tempDir.toString()).loadTasks();
+        
+        assertEquals(1, loadedTasks.size());
+        assertEquals("Already compacted", loadedTasks.get(0).getDescription());
+    }
+    
+    @Test
+    void shouldSkipTornJournalRecord() throws IOException {
+        assertTrue(taskStorage.appendJournal(List.of(taskStorage.encodeTaskAdded(new ToDo("Complete record")))));
+        Path journalPath = tempDir.resolve("KunBot.journal");
+        Files.writeString(journalPath, Files.readString(journalPath) + "{\"op\":\"add\",\"task\":{\"ty");
+        
+        ArrayList<Task> loadedTasks = new TaskStorage(tempDir.toString()).loadTasks();
+        
+        assertEquals(1, loadedTasks.size());
+        assertEquals("Complete record", loadedTasks.get(0).getDescription());
+    }
+    
+    // 8. Binary Snapshot Tests
+    
+    @Test
+    void shouldSaveAndLoadBinarySnapshot() {
+        TaskStorage binaryStorage = new TaskStorage(tempDir.toString(), false, SnapshotFormat.BINARY);
+        ArrayList<Task> tasks = new ArrayList<>();
+        ToDo todo = new ToDo(TEST_TODO_DESC);
+        todo.markAsDone();
+        todo.setPriority(Priority.LOW);
+        tasks.add(todo);
+        Deadline deadline = new Deadline(TEST_DEADLINE_DESC, TEST_DATE, false);
+        deadline.setPriority(Priority.HIGH);
+        tasks.add(deadline);
+        tasks.add(new Event(TEST_EVENT_DESC, TEST_DATE, true, TEST_DATE_2, false));
+        tasks.add(new ToDo(TEST_TODO_DESC));
+        
+        binaryStorage.saveTasks(tasks);
+        ArrayList<Task> loadedTasks = binaryStorage.loadTasks();
+        
+        assertEquals(4, loadedTasks.size());
+        assertTrue(loadedTasks.get(0).isDone());
+        assertEquals(Priority.LOW, loadedTasks.get(0).getPriority());
+        Deadline loadedDeadline = (Deadline) loadedTasks.get(1);
+        assertEquals(TEST_DATE, loadedDeadline.getByDateTime());
+        assertFalse(loadedDeadline.hasTimeInfo());
+        assertEquals(Priority.HIGH, loadedDeadline.getPriority());
+        Event loadedEvent = (Event) loadedTasks.get(2);
+        assertEquals(TEST_EVENT_DESC, loadedEvent.getDescription());
+        assertEquals(TEST_DATE, loadedEvent.getFromDateTime());
+        assertEquals(TEST_DATE_2, loadedEvent.getToDateTime());
+        assertTrue(loadedEvent.hasFromTime());
+        assertFalse(loadedEvent.hasToTime());
+        assertEquals(Priority.MEDIUM, loadedEvent.getPriority());
+        assertEquals(TEST_TODO_DESC, loadedTasks.get(3).getDescription());
+        assertFalse(loadedTasks.get(3).isDone());
+    }
+    
+    @Test
+    void shouldDetectSnapshotFormatOnLoad() {
+        ArrayList<Task> tasks = new ArrayList<>();
+        tasks.add(new ToDo("Written as binary"));
+        new TaskStorage(tempDir.toString(), false, SnapshotFormat.BINARY).saveTasks(tasks);
+        
+        TaskStorage jsonStorage = new TaskStorage(tempDir.toString(), false, SnapshotFormat.JSON);
+        ArrayList<Task> loadedTasks = jsonStorage.loadTasks();
+        assertEquals("Written as binary", loadedTasks.get(0).getDescription());
+        
+        // The next save converts the file to the configured format
+        jsonStorage.saveTasks(loadedTasks);
+        ArrayList<Task> reloaded = new TaskStorage(tempDir.toString(), false, SnapshotFormat.BINARY).loadTasks();
+        assertEquals(1, reloaded.size());
+        assertEquals("Written as binary", reloaded.get(0).getDescription());
+    }
+    
+    @Test
+    void shouldReplayJournalOnBinarySnapshot() {
+        TaskStorage binaryStorage = new TaskStorage(tempDir.toString(), true, SnapshotFormat.BINARY);
+        ArrayList<Task> tasks = new ArrayList<>();
+        tasks.add(new ToDo("Snapshot task"));
+        binaryStorage.saveTasks(tasks);
+        assertTrue(binaryStorage.appendJournal(List.of(binaryStorage.encodeTaskAdded(new ToDo("Journaled task")))));
+        
+        ArrayList<Task> loadedTasks = new TaskStorage(tempDir.toString(), true, SnapshotFormat.BINARY).loadTasks();
+        
+        assertEquals(2, loadedTasks.size());
+        assertEquals("Journaled task", loadedTasks.get(1).getDescription());
+    }
+    
+    @Test
+    void shouldHandleTruncatedBinarySnapshot() throws IOException {
+        TaskStorage binaryStorage = new TaskStorage(tempDir.toString(), false, SnapshotFormat.BINARY);
+        ArrayList<Task> tasks = new ArrayList<>();
+        tasks.add(new Deadline(TEST_DEADLINE_DESC, TEST_DATE, true));
+        binaryStorage.saveTasks(tasks);
+        byte[] content = Files.readAllBytes(testFilePath);
+        Files.write(testFilePath, Arrays.copyOf(content, content.length - 3));
+        
+        ArrayList<Task> loadedTasks = binaryStorage.loadTasks();
+        
+        assertTrue(loadedTasks.isEmpty());
+    }
+    
+    @Test
+    void shouldRejectBinaryCountsLargerThanTheFile() throws IOException {
+        TaskStorage binaryStorage = new TaskStorage(tempDir.toString(), false, SnapshotFormat.BINARY);
+        ArrayList<Task> tasks = new ArrayList<>();
+        tasks.add(new ToDo(TEST_TODO_DESC));
+        binaryStorage.saveTasks(tasks);
+        byte[] content = Files.readAllBytes(testFilePath);
+        
+        // String count, then the byte length of the first string; either would otherwise be allocated up front
+        for (int offset : new int[]{6, 10}) {
+            byte[] corrupt = content.clone();
+            corrupt[offset] = 0x7F;
+            corrupt[offset + 1] = (byte) 0xFF;
+            Files.write(testFilePath, corrupt);
+            
+            assertTrue(binaryStorage.loadTasks().isEmpty());
+        }
+    }
+    
+    @Test
+    void shouldRejectUnsupportedBinaryVersion() throws IOException {
+        TaskStorage binaryStorage = new TaskStorage(tempDir.toString(), false, SnapshotFormat.BINARY);
+        ArrayList<Task> tasks = new ArrayList<>();
+        tasks.add(new ToDo(TEST_TODO_DESC));
+        binaryStorage.saveTasks(tasks);
+        byte[] content = Files.readAllBytes(testFilePath);
+        content[5] = 99; // low byte of the version
+        Files.write(testFilePath, content);
+        
+        ArrayList<Task> loadedTasks = binaryStorage.loadTasks();
+        
+        assertTrue(loadedTasks.isEmpty());
+    }
+    
+    // 9. Memory-Mapped Load Tests
+    
+    @Test
+    void shouldLoadMappedJsonSnapshotAndReplayJournal() {
+        ArrayList<Task> tasks = new ArrayList<>();
+        tasks.add(new ToDo(TEST_TODO_DESC));
+        tasks.add(new Deadline(TEST_DEADLINE_DESC, TEST_DATE, true));
+        taskStorage.saveTasks(tasks);
+        assertTrue(taskStorage.appendJournal(List.of(taskStorage.encodeTaskDeleted(1))));
+        
+        ArrayList<Task> loadedTasks = loadWithMapping(SnapshotFormat.JSON);
+        
+        assertEquals(1, loadedTasks.size());
+        assertEquals(TEST_DATE, ((Deadline) loadedTasks.get(0)).getByDateTime());
+    }
+    
+    @Test
+    void shouldLoadMappedBinarySnapshot() {
+        ArrayList<Task> tasks = new ArrayList<>();
+        tasks.add(new Event(TEST_EVENT_DESC, TEST_DATE, true, TEST_DATE_2, true));
+        new TaskStorage(tempDir.toString(), false, SnapshotFormat.BINARY).saveTasks(tasks);
+        
+        ArrayList<Task> loadedTasks = loadWithMapping(SnapshotFormat.BINARY);
+        
+        assertEquals(1, loadedTasks.size());
+        assertEquals(TEST_DATE_2, ((Event) loadedTasks.get(0)).getToDateTime());
+    }
+    
+    @Test
+    void shouldLoadMappedEmptyFile() throws IOException {
+        Files.writeString(testFilePath, "");
+        
+        assertTrue(loadWithMapping(SnapshotFormat.JSON).isEmpty());
+    }
+    
+    private ArrayList<Task> loadWithMapping(SnapshotFormat format) {
+        System.setProperty("todobot.storage.mmapThresholdMb", "0");
+        try {
+            return new TaskStorage(tempDir.toString(), true, format).loadTasks();
+        } finally {
+            System.clearProperty("todobot.storage.mmapThresholdMb");
+        }
+    }
+    
+    // 10. Atomic Write Tests
+    
+    @Test
+    void shouldNotLeaveTempFileBehind() {
+        ArrayList<Task> tasks = new ArrayList<>();
+        tasks.add(new ToDo(TEST_TODO_DESC));
+        
+        taskStorage.saveTasks(tasks);
+        
+        assertTrue(Files.exists(testFilePath));
+        assertFalse(Files.exists(tempDir.resolve("KunBot.txt.tmp")));
+    }
+    
+    @Test
+    void shouldIgnoreTempFileLeftByInterruptedSave() throws IOException {
+        ArrayList<Task> tasks = new ArrayList<>();
+        tasks.add(new ToDo(TEST_TODO_DESC));
+        taskStorage.saveTasks(tasks);
+        Files.writeString(tempDir.resolve("KunBot.txt.tmp"), "[{\"type\": \"ToDo\", \"descr");
+        
+        ArrayList<Task> loadedTasks = taskStorage.loadTasks();
+        
+        assertEquals(1, loadedTasks.size());
+        assertEquals(TEST_TODO_DESC, loadedTasks.get(0).getDescription());
+    }
+    
+    @Test
+    void shouldKeepPreviousSnapshotAsBackup() throws IOException {
+        ArrayList<Task> tasks = new ArrayList<>();
+        tasks.add(new ToDo("Original task"));
+        taskStorage.saveTasks(tasks);
+        tasks.add(new ToDo("New task"));
+        taskStorage.saveTasks(tasks);
+        
+        Path backupPath = tempDir.resolve("KunBot.txt.bak.1");
+        Path restoreDir = Files.createDirectory(tempDir.resolve("restore"));
+        Files.copy(backupPath, restoreDir.resolve("KunBot.txt"));
+        ArrayList<Task> restoredTasks = new TaskStorage(restoreDir.toString(), false).loadTasks();
+        
+        assertEquals(2, taskStorage.loadTasks().size());
+        assertEquals(1, restoredTasks.size());
+        assertEquals("Original task", restoredTasks.get(0).getDescription());
+    }
+    
+    @Test
+    void shouldRotateBackupGenerations() throws IOException {
+        System.setProperty("todobot.storage.backups", "2");
+        TaskStorage rotatingStorage;
+        try {
+            rotatingStorage = new TaskStorage(tempDir.toString(), false, SnapshotFormat.JSON);
+        } finally {
+            System.clearProperty("todobot.storage.backups");
+        }
+        
+        for (int i = 1; i <= 4; i++) {
+            ArrayList<Task> tasks = new ArrayList<>();
+            tasks.add(new ToDo("Version " + i));
+            rotatingStorage.saveTasks(tasks);
+        }
+        
+        assertTrue(Files.readString(testFilePath).contains("Version 4"));
+        assertTrue(Files.readString(tempDir.resolve("KunBot.txt.bak.1")).contains("Version 3"));
+        assertTrue(Files.readString(tempDir.resolve("KunBot.txt.bak.2")).contains("Version 2"));
+        assertFalse(Files.exists(tempDir.resolve("KunBot.txt.bak.3")));
+    }
+}